@@ -0,0 +1,27 @@
+package com.sikgu.sikgubackend;
+
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+// 벤치마크용 애플리케이션 실행 (메모리 H2, 임의 포트, 스케줄 작업은 벤치마크 중에 돌지 않도록 지연)
+public final class BenchmarkApplication {
+
+    private BenchmarkApplication() {
+    }
+
+    public static ConfigurableApplicationContext start(String databaseName) {
+        // properties()는 기본값이라 application.properties에 밀리므로 실행 인자로 넘김
+        return new SpringApplicationBuilder(SikguBackendApplication.class)
+                .run(
+                        "--spring.datasource.url=jdbc:h2:mem:" + databaseName + ";DB_CLOSE_DELAY=-1",
+                        "--spring.datasource.driver-class-name=org.h2.Driver",
+                        "--spring.datasource.username=sa",
+                        "--spring.datasource.password=",
+                        "--spring.jpa.hibernate.ddl-auto=create-drop",
+                        "--server.port=0",
+                        "--reminder.initial-delay-ms=86400000",
+                        "--subscription.renewal.initial-delay-ms=86400000",
+                        "--logging.level.root=WARN",
+                        "--logging.level.org.springframework.security=WARN");
+    }
+}
@@ -0,0 +1,30 @@
+package com.sikgu.sikgubackend.catalog;
+
+import com.sikgu.sikgubackend.entity.enums.PlantCondition;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+// 벤치마크용 카탈로그 생성 (스냅샷 생성자는 패키지 전용)
+public final class CatalogFixtures {
+
+    private static final PlantCondition[] CONDITIONS = PlantCondition.values();
+
+    private CatalogFixtures() {
+    }
+
+    // id 1..size 의 식물을 조건을 고르게 섞어 생성 (seed가 같으면 같은 카탈로그)
+    public static PlantCatalogSnapshot snapshot(int size, long seed) {
+        Random random = new Random(seed);
+        List<CatalogPlant> plants = new ArrayList<>(size);
+        for (long id = 1; id <= size; id++) {
+            plants.add(new CatalogPlant(id, "식물" + id, 1000L + random.nextInt(50_000), 1L + random.nextInt(30),
+                    CONDITIONS[random.nextInt(CONDITIONS.length)],
+                    CONDITIONS[random.nextInt(CONDITIONS.length)],
+                    CONDITIONS[random.nextInt(CONDITIONS.length)],
+                    "https://example.com/plants/" + id + ".jpg"));
+        }
+        return new PlantCatalogSnapshot(1L, plants);
+    }
+}
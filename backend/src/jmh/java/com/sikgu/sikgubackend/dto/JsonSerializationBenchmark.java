@@ -0,0 +1,66 @@
+package com.sikgu.sikgubackend.dto;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// 응답 DTO JSON 직렬화 비용 (Spring MVC와 같은 설정의 ObjectMapper)
+// 측정값: 아직 기록하지 못함 (./gradlew jmh -PjmhIncludes=JsonSerialization 으로 측정)
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class JsonSerializationBenchmark {
+
+    @Param({"10"})
+    int cartItems;
+
+    private ObjectMapper objectMapper;
+    private CartDto cart;
+    private SubscriptionResponse subscription;
+
+    @Setup
+    public void setUp() {
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+
+        List<CartItemDto> items = new ArrayList<>();
+        long total = 0;
+        for (int i = 0; i < cartItems; i++) {
+            long price = 10_000L + i * 500L;
+            items.add(new CartItemDto((long) i + 1, "몬스테라 델리시오사 " + i, price, 2, price * 2));
+            total += price * 2;
+        }
+        cart = new CartDto("bench@sikgu.com", items, total);
+
+        subscription = new SubscriptionResponse();
+        subscription.setId(1L);
+        subscription.setPlanId(2L);
+        subscription.setPaidAmount(9900L);
+        subscription.setPaymentStatus("SUCCESS");
+        subscription.setStartDate(LocalDateTime.of(2025, 9, 1, 10, 0));
+        subscription.setEndDate(LocalDateTime.of(2025, 10, 1, 10, 0));
+        subscription.setUserEmail("bench@sikgu.com");
+    }
+
+    @Benchmark
+    public byte[] cartDto() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(cart);
+    }
+
+    @Benchmark
+    public byte[] subscriptionResponse() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(subscription);
+    }
+}
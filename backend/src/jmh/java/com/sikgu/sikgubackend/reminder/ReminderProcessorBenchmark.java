@@ -0,0 +1,105 @@
+package com.sikgu.sikgubackend.reminder;
+
+import com.sikgu.sikgubackend.BenchmarkApplication;
+import com.sikgu.sikgubackend.entity.Plant;
+import com.sikgu.sikgubackend.entity.User;
+import com.sikgu.sikgubackend.entity.enums.PlantCondition;
+import com.sikgu.sikgubackend.entity.enums.Role;
+import com.sikgu.sikgubackend.repository.PlantRepository;
+import com.sikgu.sikgubackend.repository.UserRepository;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 도래한 알림 rows건 전체를 한 번에 처리하는 시간 (H2).
+ * 반복마다 모든 알림의 다음 날짜를 오늘로 되돌려 같은 양을 처리하게 합니다.
+ * 측정값: 아직 기록하지 못함 (./gradlew jmh -PjmhIncludes=ReminderProcessor 로 100만 건 측정)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 1)
+@Measurement(iterations = 3)
+public class ReminderProcessorBenchmark {
+
+    private static final LocalDate TODAY = LocalDate.of(2025, 9, 1);
+    private static final int INSERT_BATCH = 10_000;
+
+    @Param({"1000000"})
+    int rows;
+
+    private ConfigurableApplicationContext context;
+    private ReminderProcessor reminderProcessor;
+    private JdbcTemplate jdbcTemplate;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkApplication.start("reminder_benchmark");
+        reminderProcessor = context.getBean(ReminderProcessor.class);
+        jdbcTemplate = context.getBean(JdbcTemplate.class);
+
+        User user = context.getBean(UserRepository.class)
+                .save(User.createUser("reminder-bench@sikgu.com", "password", Role.USER));
+        Plant plant = context.getBean(PlantRepository.class).save(Plant.createPlant("몬스테라", 3000L, 7L,
+                PlantCondition.MEDIUM, PlantCondition.HIGH, PlantCondition.MEDIUM, "주의사항", null, null));
+
+        for (int inserted = 0; inserted < rows; inserted += INSERT_BATCH) {
+            int size = Math.min(INSERT_BATCH, rows - inserted);
+            jdbcTemplate.batchUpdate("INSERT INTO reminder (user_id, plant_id, cycle, next_date) VALUES (?, ?, ?, ?)",
+                    new BatchPreparedStatementSetter() {
+                        @Override
+                        public void setValues(PreparedStatement ps, int i) throws SQLException {
+                            ps.setLong(1, user.getId());
+                            ps.setLong(2, plant.getId());
+                            ps.setInt(3, 7);
+                            ps.setDate(4, Date.valueOf(TODAY.minusDays(i % 3)));
+                        }
+
+                        @Override
+                        public int getBatchSize() {
+                            return size;
+                        }
+                    });
+        }
+    }
+
+    @Setup(Level.Iteration)
+    public void resetDueDates() {
+        // 이전 반복에서 쌓인 알림이 메모리 DB에 남아 힙을 채우지 않도록 비움
+        jdbcTemplate.update("TRUNCATE TABLE notification");
+        jdbcTemplate.update("UPDATE reminder SET next_date = ?", Date.valueOf(TODAY));
+    }
+
+    @Benchmark
+    public int processDue() {
+        int processed = reminderProcessor.processDue(TODAY);
+        if (processed != rows) {
+            throw new IllegalStateException("처리 건수가 다릅니다: " + processed + " / " + rows);
+        }
+        return processed;
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+}
@@ -0,0 +1,59 @@
+package com.sikgu.sikgubackend.search;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+// 50만 건 QnA 색인에서 검색 1회 지연 (SampleTime이므로 결과에 p50/p99 포함)
+// 측정값: 아직 기록하지 못함 (./gradlew jmh -PjmhIncludes=QnASearchIndex 로 측정)
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class QnASearchIndexBenchmark {
+
+    private static final String[] WORDS = {
+            "배송", "환불", "교환", "결제", "구독", "해지", "쿠폰", "포인트", "비밀번호", "로그인",
+            "몬스테라", "스투키", "산세베리아", "물주기", "분갈이", "햇빛", "습도", "온도", "화분", "흙",
+            "시들어요", "잎이", "노랗게", "변했어요", "언제", "어떻게", "하나요", "가능한가요", "주세요", "문의"
+    };
+
+    private static final String[] QUERIES = {
+            "배송 언제", "몬스테라 물주기", "구독 해지 환불", "비밀번호 변경", "잎이 노랗게",
+            "분갈이 흙", "쿠폰 사용", "화분 교환", "스투키 햇빛", "결제 취소"
+    };
+
+    @Param({"500000"})
+    int documents;
+
+    private QnASearchIndex index;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42L);
+        index = new QnASearchIndex();
+        StringBuilder text = new StringBuilder();
+        for (long id = 1; id <= documents; id++) {
+            text.setLength(0);
+            int length = 8 + random.nextInt(24);
+            for (int i = 0; i < length; i++) {
+                text.append(WORDS[random.nextInt(WORDS.length)]).append(' ');
+            }
+            index.upsert(id, text.toString());
+        }
+    }
+
+    @Benchmark
+    public List<QnASearchIndex.SearchHit> search() {
+        return index.search(QUERIES[ThreadLocalRandom.current().nextInt(QUERIES.length)], 10);
+    }
+}
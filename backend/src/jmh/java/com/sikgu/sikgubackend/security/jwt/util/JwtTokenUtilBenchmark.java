@@ -0,0 +1,74 @@
+package com.sikgu.sikgubackend.security.jwt.util;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.security.Key;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JWT 발급/검증 비용.
+ * legacyValidate는 파서를 매번 만들고 서명을 세 번 검증하던 이전 필터 흐름(사용자 이름, 역할, 만료 각각 파싱)을 재현합니다.
+ * <p>
+ * 측정값: 아직 기록하지 못함 (./gradlew jmh -PjmhIncludes=Jwt 로 측정)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JwtTokenUtilBenchmark {
+
+    private static final String SECRET = "95aH52R1MdCMUEapFf4vN9DVQnsgACwI";
+    private static final String EMAIL = "bench@sikgu.com";
+
+    private JwtTokenUtil cached;
+    private JwtTokenUtil uncached;
+    private Key key;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        cached = new JwtTokenUtil(SECRET, 10_000);
+        uncached = new JwtTokenUtil(SECRET, 0);
+        key = Keys.hmacShaKeyFor(SECRET.getBytes());
+        token = cached.generateToken(EMAIL, "USER");
+        cached.verify(token);
+    }
+
+    @Benchmark
+    public String generate() {
+        return uncached.generateToken(EMAIL, "USER");
+    }
+
+    // 서명 검증 1회 (캐시 미사용)
+    @Benchmark
+    public VerifiedToken verify() {
+        return uncached.verify(token);
+    }
+
+    // 최근 검증한 토큰 캐시 적중
+    @Benchmark
+    public VerifiedToken verifyCached() {
+        return cached.verify(token);
+    }
+
+    @Benchmark
+    public boolean legacyValidate() {
+        String username = parse(token).getSubject();
+        String role = parse(token).get("role", String.class);
+        Date expiration = parse(token).getExpiration();
+        return username.equals(EMAIL) && role != null && expiration.after(new Date());
+    }
+
+    private Claims parse(String jwt) {
+        return Jwts.parserBuilder().setSigningKey(key).build().parseClaimsJws(jwt).getBody();
+    }
+}
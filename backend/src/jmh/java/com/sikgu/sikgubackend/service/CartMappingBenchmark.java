@@ -0,0 +1,60 @@
+package com.sikgu.sikgubackend.service;
+
+import com.sikgu.sikgubackend.catalog.CatalogFixtures;
+import com.sikgu.sikgubackend.catalog.PlantCatalogSnapshot;
+import com.sikgu.sikgubackend.dto.CartDto;
+import com.sikgu.sikgubackend.repository.CartRepository;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+// GET /carts 응답 구성 (항목 행 + 카탈로그 스냅샷 → CartDto) 비용
+// 측정값: 아직 기록하지 못함 (./gradlew jmh -PjmhIncludes=CartMapping 으로 측정)
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class CartMappingBenchmark {
+
+    @Param({"1", "10", "100"})
+    int items;
+
+    private PlantCatalogSnapshot catalog;
+    private List<CartRepository.CartLine> lines;
+
+    @Setup
+    public void setUp() {
+        catalog = CatalogFixtures.snapshot(1000, 7L);
+        lines = new ArrayList<>(items);
+        for (int i = 0; i < items; i++) {
+            lines.add(new Line(1L + (i * 37L) % 1000, 1 + i % 3));
+        }
+    }
+
+    @Benchmark
+    public CartDto toCartDto() {
+        return CartService.toCartDto("bench@sikgu.com", lines, catalog, Map.of());
+    }
+
+    private record Line(Long plantId, int quantity) implements CartRepository.CartLine {
+
+        @Override
+        public Long getPlantId() {
+            return plantId;
+        }
+
+        @Override
+        public int getQuantity() {
+            return quantity;
+        }
+    }
+}
@@ -0,0 +1,115 @@
+package com.sikgu.sikgubackend.subscription;
+
+import com.sikgu.sikgubackend.BenchmarkApplication;
+import com.sikgu.sikgubackend.entity.User;
+import com.sikgu.sikgubackend.entity.enums.Role;
+import com.sikgu.sikgubackend.repository.UserRepository;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 종료일이 지난 구독 rows건 전체를 결제 대기(90%) 또는 만료(10%)로 바꾸는 시간 (H2).
+ * 반복마다 종료일과 상태를 처음 상태로 되돌려 같은 양을 처리하게 합니다.
+ * JMH 점수는 1회 실행 시간(ms)이고, 반복이 끝날 때마다 초당 처리 건수(rows/s)를 출력합니다.
+ * 측정값: 아직 기록하지 못함 (./gradlew jmh -PjmhIncludes=SubscriptionRenewal 로 측정)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 1)
+@Measurement(iterations = 3)
+public class SubscriptionRenewalProcessorBenchmark {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2025, 9, 1, 12, 0);
+    private static final int INSERT_BATCH = 10_000;
+
+    @Param({"1000000"})
+    int rows;
+
+    private ConfigurableApplicationContext context;
+    private SubscriptionRenewalProcessor renewalProcessor;
+    private JdbcTemplate jdbcTemplate;
+    private long elapsedNanos;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkApplication.start("renewal_benchmark");
+        renewalProcessor = context.getBean(SubscriptionRenewalProcessor.class);
+        jdbcTemplate = context.getBean(JdbcTemplate.class);
+
+        User user = context.getBean(UserRepository.class)
+                .save(User.createUser("renewal-bench@sikgu.com", "password", Role.USER));
+        Timestamp startDate = Timestamp.valueOf(NOW.minusMonths(1));
+
+        for (int inserted = 0; inserted < rows; inserted += INSERT_BATCH) {
+            int size = Math.min(INSERT_BATCH, rows - inserted);
+            jdbcTemplate.batchUpdate("INSERT INTO subscription (user_id, plan_id, start_date, end_date, payment_status, paid_amount) "
+                            + "VALUES (?, 1, ?, ?, 'SUCCESS', 4900)",
+                    new BatchPreparedStatementSetter() {
+                        @Override
+                        public void setValues(PreparedStatement ps, int i) throws SQLException {
+                            ps.setLong(1, user.getId());
+                            ps.setTimestamp(2, startDate);
+                            ps.setTimestamp(3, Timestamp.valueOf(NOW.minusMinutes(1 + i % 1440)));
+                        }
+
+                        @Override
+                        public int getBatchSize() {
+                            return size;
+                        }
+                    });
+        }
+    }
+
+    @Setup(Level.Iteration)
+    public void resetSubscriptions() {
+        // 이전 반복에서 쌓인 알림이 메모리 DB에 남아 힙을 채우지 않도록 비움
+        jdbcTemplate.update("TRUNCATE TABLE notification");
+        jdbcTemplate.update("UPDATE subscription SET end_date = DATEADD('MINUTE', -1 - MOD(id, 1440), ?), "
+                        + "payment_status = CASE WHEN MOD(id, 10) = 0 THEN 'CANCELED_AT_PERIOD_END' ELSE 'SUCCESS' END",
+                Timestamp.valueOf(NOW));
+    }
+
+    @Benchmark
+    public SubscriptionRenewalProcessor.Result processDue() {
+        long startedAt = System.nanoTime();
+        SubscriptionRenewalProcessor.Result result = renewalProcessor.processDue(NOW);
+        elapsedNanos = System.nanoTime() - startedAt;
+        if (result.paymentDue() + result.expired() != rows) {
+            throw new IllegalStateException("처리 건수가 다릅니다: " + result + " / " + rows);
+        }
+        return result;
+    }
+
+    @TearDown(Level.Iteration)
+    public void reportThroughput() {
+        if (elapsedNanos > 0) {
+            System.out.printf("처리량: %,d rows/s (%,d건, %,d ms)%n",
+                    rows * 1_000_000_000L / elapsedNanos, rows, elapsedNanos / 1_000_000);
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+}
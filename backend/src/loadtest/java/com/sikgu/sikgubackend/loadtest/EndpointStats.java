@@ -0,0 +1,72 @@
+package com.sikgu.sikgubackend.loadtest;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.io.PrintStream;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 엔드포인트 하나의 응답 시간 분포와 결과 집계.
+ * 응답 시간은 요청을 "보내야 했던" 시각부터 재므로, 서버가 밀려 요청이 늦게 나간 시간도 포함됩니다. (coordinated omission 보정)
+ */
+class EndpointStats {
+
+    // 1µs ~ 60s, 유효숫자 3자리
+    private static final long MAX_MICROS = TimeUnit.SECONDS.toMicros(60);
+
+    private final String name;
+    private final Histogram latencies = new ConcurrentHistogram(MAX_MICROS, 3);
+    private final AtomicLong succeeded = new AtomicLong();
+    private final AtomicLong rejected = new AtomicLong();
+    private final AtomicLong failed = new AtomicLong();
+
+    EndpointStats(String name) {
+        this.name = name;
+    }
+
+    String name() {
+        return name;
+    }
+
+    // 2xx 성공, 429 거절, 나머지(다른 상태 코드, 연결 오류)는 실패
+    void record(long intendedStartNanos, long endNanos, int status) {
+        long micros = Math.max(1, Math.min(MAX_MICROS, (endNanos - intendedStartNanos) / 1_000));
+        latencies.recordValue(micros);
+        if (status >= 200 && status < 300) {
+            succeeded.incrementAndGet();
+        } else if (status == 429) {
+            rejected.incrementAndGet();
+        } else {
+            failed.incrementAndGet();
+        }
+    }
+
+    long total() {
+        return latencies.getTotalCount();
+    }
+
+    void printSummary(PrintStream out, double seconds) {
+        long total = total();
+        double rejectedPercent = total == 0 ? 0 : rejected.get() * 100.0 / total;
+        out.printf("%-22s %8d %9.1f %8d %6d %6.1f %6d %9.2f %9.2f %9.2f %9.2f %9.2f%n",
+                name, total, succeeded.get() / seconds, succeeded.get(), rejected.get(), rejectedPercent, failed.get(),
+                millis(50), millis(90), millis(99), millis(99.9), latencies.getMaxValue() / 1000.0);
+    }
+
+    static void printHeader(PrintStream out) {
+        out.printf("%-22s %8s %9s %8s %6s %6s %6s %9s %9s %9s %9s %9s%n",
+                "endpoint", "count", "ok/s", "ok", "429", "429%", "error", "p50(ms)", "p90(ms)", "p99(ms)", "p99.9(ms)", "max(ms)");
+    }
+
+    // HdrHistogram 백분위 분포 (plotFiles 등으로 그래프화 가능, 단위 ms)
+    void printDistribution(PrintStream out) {
+        out.println("# " + name);
+        latencies.outputPercentileDistribution(out, 1000.0);
+    }
+
+    private double millis(double percentile) {
+        return latencies.getValueAtPercentile(percentile) / 1000.0;
+    }
+}
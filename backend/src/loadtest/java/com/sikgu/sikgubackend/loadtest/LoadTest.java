@@ -0,0 +1,342 @@
+package com.sikgu.sikgubackend.loadtest;
+
+import com.sikgu.sikgubackend.SikguBackendApplication;
+import com.sikgu.sikgubackend.catalog.PlantCatalog;
+import com.sikgu.sikgubackend.entity.Plant;
+import com.sikgu.sikgubackend.entity.User;
+import com.sikgu.sikgubackend.entity.enums.PlantCondition;
+import com.sikgu.sikgubackend.entity.enums.Role;
+import com.sikgu.sikgubackend.loadtest.Scenario.Operation;
+import com.sikgu.sikgubackend.repository.PlantRepository;
+import com.sikgu.sikgubackend.repository.UserRepository;
+import com.sikgu.sikgubackend.security.jwt.util.JwtTokenUtil;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 애플리케이션을 H2(dev 프로필)로 띄우고, 사용자/식물을 넣은 뒤 목표 처리량(rate)으로 요청을 보냅니다.
+ * 응답을 기다리지 않고 정해진 간격마다 요청을 보내는 open-loop 방식이라 서버가 느려져도 부하가 줄지 않습니다.
+ *
+ * 실행: ./gradlew loadTest -PloadtestArgs="--scenario=mixed --rate=300 --duration=60"
+ * 옵션: --scenario=mixed|login|payment --rate=초당요청 --duration=측정초 --warmup=예열초 --users=사용자수 --plants=식물수
+ *       --payment-latency=로컬 PG 응답 지연(ms, 기본 200)
+ * 결과는 콘솔과 build/reports/loadtest/ 에 남습니다.
+ * payment 시나리오는 PG 지연을 바꿔 가며 HikariCP 사용/대기 커넥션이 PG 지연과 무관하게 유지되는지 확인하는 용도입니다.
+ * (예: --scenario=payment --rate=200 --payment-latency=2000 에서 최대 대기 스레드가 0이면 결제 대기 중 커넥션을 점유하지 않음)
+ */
+public final class LoadTest {
+
+    private static final String PASSWORD = "loadtest-password";
+    private static final int MAX_IN_FLIGHT = 10_000;
+
+    private final Map<String, String> options;
+    private final Scenario scenario;
+    private final int rate;
+    private final long paymentLatencyMillis;
+
+    private HttpClient httpClient;
+    private String baseUrl;
+    private List<String> emails;
+    private List<String> tokens;
+    private List<Long> plantIds;
+
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicLong dropped = new AtomicLong();
+
+    private LoadTest(Map<String, String> options) {
+        this.options = options;
+        this.scenario = Scenario.valueOf(option("scenario", "mixed").toUpperCase());
+        this.rate = Integer.parseInt(option("rate", "200"));
+        this.paymentLatencyMillis = Long.parseLong(option("payment-latency", "200"));
+    }
+
+    public static void main(String[] args) throws Exception {
+        Map<String, String> options = new HashMap<>();
+        for (String arg : args) {
+            if (arg.startsWith("--") && arg.contains("=")) {
+                options.put(arg.substring(2, arg.indexOf('=')), arg.substring(arg.indexOf('=') + 1));
+            }
+        }
+        new LoadTest(options).run();
+    }
+
+    private void run() throws Exception {
+        ConfigurableApplicationContext context = new SpringApplicationBuilder(SikguBackendApplication.class)
+                .profiles("dev")
+                // properties()는 기본값이라 application.properties의 security DEBUG 로그에 밀리므로 실행 인자로 넘김
+                .run(
+                        "--server.port=0",
+                        "--logging.level.root=WARN",
+                        "--logging.level.org.springframework.security=WARN",
+                        "--payment.local.latency-ms=" + paymentLatencyMillis);
+        ExecutorService clientExecutor = Executors.newFixedThreadPool(Math.max(4, Runtime.getRuntime().availableProcessors()));
+        try {
+            int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+            baseUrl = "http://localhost:" + port;
+            httpClient = HttpClient.newBuilder()
+                    .version(HttpClient.Version.HTTP_1_1)
+                    .connectTimeout(Duration.ofSeconds(5))
+                    .executor(clientExecutor)
+                    .build();
+
+            seed(context, Integer.parseInt(option("users", "200")), Integer.parseInt(option("plants", "500")));
+
+            int warmupSeconds = Integer.parseInt(option("warmup", "10"));
+            int durationSeconds = Integer.parseInt(option("duration", "60"));
+            System.out.printf("시나리오 %s, %d req/s, 예열 %ds, 측정 %ds, PG 지연 %dms%n",
+                    scenario, rate, warmupSeconds, durationSeconds, paymentLatencyMillis);
+
+            drive(warmupSeconds, newStats());
+
+            Map<Operation, EndpointStats> stats = newStats();
+            PoolSampler poolSampler = PoolSampler.start(context.getBean(DataSource.class));
+            long startedAt = System.nanoTime();
+            drive(durationSeconds, stats);
+            awaitInFlight();
+            double seconds = (System.nanoTime() - startedAt) / 1e9;
+            poolSampler.stop();
+
+            report(stats, seconds, poolSampler, System.out);
+            writeReport(stats, seconds, poolSampler);
+        } finally {
+            clientExecutor.shutdownNow();
+            context.close();
+        }
+    }
+
+    // 사용자와 식물을 DB에 직접 넣고, 토큰은 미리 발급 (로그인 비용은 LOGIN 요청에서만 측정)
+    private void seed(ConfigurableApplicationContext context, int users, int plants) {
+        String encodedPassword = context.getBean(PasswordEncoder.class).encode(PASSWORD);
+        UserRepository userRepository = context.getBean(UserRepository.class);
+        JwtTokenUtil jwtTokenUtil = context.getBean(JwtTokenUtil.class);
+
+        emails = new ArrayList<>(users);
+        tokens = new ArrayList<>(users);
+        List<User> newUsers = new ArrayList<>(users);
+        for (int i = 0; i < users; i++) {
+            String email = "load" + i + "@sikgu.com";
+            emails.add(email);
+            tokens.add(jwtTokenUtil.generateToken(email, Role.USER.name()));
+            newUsers.add(User.createUser(email, encodedPassword, Role.USER));
+        }
+        userRepository.saveAll(newUsers);
+
+        PlantCondition[] conditions = PlantCondition.values();
+        List<Plant> newPlants = new ArrayList<>(plants);
+        for (int i = 0; i < plants; i++) {
+            newPlants.add(Plant.createPlant("부하식물" + i, 5000L + i * 10L, 3L + i % 14,
+                    conditions[i % 3], conditions[(i / 3) % 3], conditions[(i / 9) % 3], "주의사항", null, null));
+        }
+        plantIds = context.getBean(PlantRepository.class).saveAll(newPlants).stream().map(Plant::getId).toList();
+        context.getBean(PlantCatalog.class).refresh();
+    }
+
+    // seconds 동안 1/rate 간격으로 요청을 예약 (예약 시각 기준으로 응답 시간 측정)
+    private void drive(int seconds, Map<Operation, EndpointStats> stats) {
+        long intervalNanos = 1_000_000_000L / rate;
+        long start = System.nanoTime();
+        long total = (long) rate * seconds;
+        for (long i = 0; i < total; i++) {
+            long intendedStart = start + i * intervalNanos;
+            long wait = intendedStart - System.nanoTime();
+            if (wait > 0) {
+                LockSupport.parkNanos(wait);
+            }
+            if (inFlight.get() >= MAX_IN_FLIGHT) {
+                dropped.incrementAndGet();
+                continue;
+            }
+            send(scenario.pick(ThreadLocalRandom.current().nextDouble()), intendedStart, stats);
+        }
+    }
+
+    private void send(Operation operation, long intendedStart, Map<Operation, EndpointStats> stats) {
+        int user = ThreadLocalRandom.current().nextInt(emails.size());
+        HttpRequest request = request(operation, user);
+        EndpointStats endpoint = stats.get(operation);
+
+        inFlight.incrementAndGet();
+        httpClient.sendAsync(request, HttpResponse.BodyHandlers.discarding())
+                .whenComplete((response, error) -> {
+                    endpoint.record(intendedStart, System.nanoTime(), error == null ? response.statusCode() : -1);
+                    inFlight.decrementAndGet();
+                });
+    }
+
+    private HttpRequest request(Operation operation, int user) {
+        HttpRequest.Builder builder = HttpRequest.newBuilder().timeout(Duration.ofSeconds(30));
+        return switch (operation) {
+            case LOGIN -> builder.uri(uri("/auth/login"))
+                    .header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofString(
+                            "{\"email\":\"" + emails.get(user) + "\",\"password\":\"" + PASSWORD + "\"}"))
+                    .build();
+            case GET_CART -> authorized(builder, user).uri(uri("/carts")).GET().build();
+            case ADD_TO_CART -> authorized(builder, user).uri(uri("/carts"))
+                    .header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofString(
+                            "{\"plantId\":" + plantIds.get(ThreadLocalRandom.current().nextInt(plantIds.size())) + "}"))
+                    .build();
+            case MY_PAGE -> authorized(builder, user).uri(uri("/users/mypage")).GET().build();
+            case SUBSCRIBE -> authorized(builder, user).uri(uri("/subscriptions"))
+                    .header("Content-Type", "application/json")
+                    .header("Idempotency-Key", UUID.randomUUID().toString())
+                    .POST(HttpRequest.BodyPublishers.ofString("{\"planId\":1,\"cardNumber\":\"1234 5678 1234 5678\","
+                            + "\"expiryDate\":\"12/30\",\"cvc\":\"123\",\"cardHolderName\":\"부하테스트\"}"))
+                    .build();
+        };
+    }
+
+    private HttpRequest.Builder authorized(HttpRequest.Builder builder, int user) {
+        return builder.header("Authorization", "Bearer " + tokens.get(user));
+    }
+
+    private URI uri(String path) {
+        return URI.create(baseUrl + path);
+    }
+
+    private void awaitInFlight() throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(30);
+        while (inFlight.get() > 0 && System.nanoTime() < deadline) {
+            Thread.sleep(50);
+        }
+    }
+
+    private Map<Operation, EndpointStats> newStats() {
+        Map<Operation, EndpointStats> stats = new EnumMap<>(Operation.class);
+        for (Operation operation : scenario.operations()) {
+            stats.put(operation, new EndpointStats(operation.label()));
+        }
+        return stats;
+    }
+
+    private void report(Map<Operation, EndpointStats> stats, double seconds, PoolSampler poolSampler, PrintStream out) {
+        out.printf("%n시나리오 %s, 목표 %d req/s, PG 지연 %dms, 측정 %.1fs, 전송 못 한 요청 %d건%n",
+                scenario, rate, paymentLatencyMillis, seconds, dropped.get());
+        EndpointStats.printHeader(out);
+        long total = 0;
+        for (EndpointStats endpoint : stats.values()) {
+            endpoint.printSummary(out, seconds);
+            total += endpoint.total();
+        }
+        out.printf("전체 처리량 %.1f req/s%n", total / seconds);
+        poolSampler.print(out);
+    }
+
+    private void writeReport(Map<Operation, EndpointStats> stats, double seconds, PoolSampler poolSampler) throws IOException {
+        Path dir = Path.of("build", "reports", "loadtest");
+        Files.createDirectories(dir);
+        String timestamp = LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss"));
+        Path file = dir.resolve(scenario.name().toLowerCase() + "-" + rate + "rps-" + timestamp + ".txt");
+        try (PrintStream out = new PrintStream(Files.newOutputStream(file), true, "UTF-8")) {
+            report(stats, seconds, poolSampler, out);
+            out.println();
+            for (EndpointStats endpoint : stats.values()) {
+                endpoint.printDistribution(out);
+                out.println();
+            }
+        }
+        System.out.println("결과 저장: " + file.toAbsolutePath());
+    }
+
+    private String option(String name, String defaultValue) {
+        return options.getOrDefault(name, defaultValue);
+    }
+
+    // 측정 중 HikariCP 풀 사용량을 100ms마다 기록 (최대/평균 사용 커넥션, 최대 대기 스레드, 대기 스레드가 있던 표본 비율)
+    private static final class PoolSampler {
+
+        private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor();
+        private final HikariPoolMXBean pool;
+        private final int maxPoolSize;
+        private final AtomicInteger maxActive = new AtomicInteger();
+        private final AtomicInteger maxAwaiting = new AtomicInteger();
+        private final AtomicLong activeSum = new AtomicLong();
+        private final AtomicLong samples = new AtomicLong();
+        private final AtomicLong samplesWithWaiters = new AtomicLong();
+
+        private PoolSampler(HikariPoolMXBean pool, int maxPoolSize) {
+            this.pool = pool;
+            this.maxPoolSize = maxPoolSize;
+        }
+
+        static PoolSampler start(DataSource dataSource) {
+            HikariPoolMXBean pool = null;
+            int maxPoolSize = 0;
+            // DataSource는 SQL 문 수를 세는 프록시로 감싸져 있으므로 unwrap으로 원본 풀을 찾음
+            try {
+                if (dataSource.isWrapperFor(HikariDataSource.class)) {
+                    HikariDataSource hikari = dataSource.unwrap(HikariDataSource.class);
+                    pool = hikari.getHikariPoolMXBean();
+                    maxPoolSize = hikari.getMaximumPoolSize();
+                }
+            } catch (SQLException e) {
+                pool = null;
+            }
+            PoolSampler sampler = new PoolSampler(pool, maxPoolSize);
+            if (pool != null) {
+                sampler.scheduler.scheduleAtFixedRate(sampler::sample, 0, 100, TimeUnit.MILLISECONDS);
+            }
+            return sampler;
+        }
+
+        private void sample() {
+            int active = pool.getActiveConnections();
+            int awaiting = pool.getThreadsAwaitingConnection();
+            maxActive.accumulateAndGet(active, Math::max);
+            maxAwaiting.accumulateAndGet(awaiting, Math::max);
+            activeSum.addAndGet(active);
+            samples.incrementAndGet();
+            if (awaiting > 0) {
+                samplesWithWaiters.incrementAndGet();
+            }
+        }
+
+        void stop() {
+            scheduler.shutdownNow();
+        }
+
+        void print(PrintStream out) {
+            if (pool == null) {
+                out.println("HikariCP 풀 정보를 얻을 수 없습니다.");
+                return;
+            }
+            long count = Math.max(1, samples.get());
+            out.printf("HikariCP 사용 커넥션 최대 %d/%d, 평균 %.1f, 최대 대기 스레드 %d, 대기 스레드가 있던 표본 %.1f%% (표본 %d개)%n",
+                    maxActive.get(), maxPoolSize, (double) activeSum.get() / count, maxAwaiting.get(),
+                    100.0 * samplesWithWaiters.get() / count, samples.get());
+        }
+    }
+}
@@ -0,0 +1,66 @@
+package com.sikgu.sikgubackend.loadtest;
+
+import java.util.List;
+
+/**
+ * 부하 시나리오 (엔드포인트별 비중).
+ * - MIXED: 일반 사용 패턴 (조회 위주, 로그인/결제 일부)
+ * - LOGIN: 로그인만 (BCrypt 전용 풀 포화 시 429 비율과 처리량 확인)
+ * - PAYMENT: 구독 결제만 (PG 응답 대기 중 커넥션 풀을 점유하지 않는지 확인)
+ */
+enum Scenario {
+
+    MIXED(List.of(
+            new Weighted(Operation.LOGIN, 5),
+            new Weighted(Operation.GET_CART, 40),
+            new Weighted(Operation.ADD_TO_CART, 15),
+            new Weighted(Operation.MY_PAGE, 30),
+            new Weighted(Operation.SUBSCRIBE, 10))),
+    LOGIN(List.of(new Weighted(Operation.LOGIN, 1))),
+    PAYMENT(List.of(new Weighted(Operation.SUBSCRIBE, 1)));
+
+    private final List<Weighted> operations;
+    private final int totalWeight;
+
+    Scenario(List<Weighted> operations) {
+        this.operations = operations;
+        this.totalWeight = operations.stream().mapToInt(Weighted::weight).sum();
+    }
+
+    List<Operation> operations() {
+        return operations.stream().map(Weighted::operation).toList();
+    }
+
+    // 0 <= roll < 1 을 비중에 따라 엔드포인트로 대응
+    Operation pick(double roll) {
+        int target = (int) (roll * totalWeight);
+        for (Weighted weighted : operations) {
+            target -= weighted.weight();
+            if (target < 0) {
+                return weighted.operation();
+            }
+        }
+        return operations.get(operations.size() - 1).operation();
+    }
+
+    enum Operation {
+        LOGIN("POST /auth/login"),
+        GET_CART("GET /carts"),
+        ADD_TO_CART("POST /carts"),
+        MY_PAGE("GET /users/mypage"),
+        SUBSCRIBE("POST /subscriptions");
+
+        private final String label;
+
+        Operation(String label) {
+            this.label = label;
+        }
+
+        String label() {
+            return label;
+        }
+    }
+
+    private record Weighted(Operation operation, int weight) {
+    }
+}
@@ -0,0 +1,62 @@
+package com.sikgu.sikgubackend.asset;
+
+/**
+ * 단일 Range 요청 (bytes=시작-끝, 끝 포함).
+ * 여러 구간(multipart/byteranges)은 지원하지 않으며, 이 경우 전체 응답으로 처리합니다.
+ */
+public record ByteRange(long start, long end) {
+
+    public static final ByteRange NOT_SATISFIABLE = new ByteRange(-1, -1);
+
+    public long length() {
+        return end - start + 1;
+    }
+
+    public boolean isSatisfiable() {
+        return start >= 0;
+    }
+
+    // 헤더가 없거나 형식이 맞지 않거나 여러 구간이면 null (전체 응답)
+    public static ByteRange parse(String header, long totalLength) {
+        if (header == null || !header.startsWith("bytes=")) {
+            return null;
+        }
+        String spec = header.substring("bytes=".length()).trim();
+        if (spec.contains(",")) {
+            return null;
+        }
+        int dash = spec.indexOf('-');
+        if (dash < 0) {
+            return null;
+        }
+
+        String first = spec.substring(0, dash).trim();
+        String last = spec.substring(dash + 1).trim();
+        try {
+            if (first.isEmpty()) {
+                // bytes=-N : 마지막 N바이트
+                if (last.isEmpty()) {
+                    return null;
+                }
+                long suffix = Long.parseLong(last);
+                if (suffix <= 0 || totalLength == 0) {
+                    return NOT_SATISFIABLE;
+                }
+                return new ByteRange(Math.max(0, totalLength - suffix), totalLength - 1);
+            }
+
+            long start = Long.parseLong(first);
+            long end = last.isEmpty() ? Long.MAX_VALUE : Long.parseLong(last);
+            if (start < 0 || end < start) {
+                return null;
+            }
+            // 끝을 생략한 구간(bytes=N-)도 시작이 파일 길이 이상이면 416
+            if (start >= totalLength) {
+                return NOT_SATISFIABLE;
+            }
+            return new ByteRange(start, Math.min(end, totalLength - 1));
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+}
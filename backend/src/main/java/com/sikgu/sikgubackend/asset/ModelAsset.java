@@ -0,0 +1,10 @@
+package com.sikgu.sikgubackend.asset;
+
+import java.nio.file.Path;
+
+/**
+ * 전송할 모델 파일 하나 (원본 또는 미리 압축된 변형).
+ * contentEncoding이 null이면 원본이며, etag는 파일 내용으로 만든 강한 검증자입니다.
+ */
+public record ModelAsset(Path path, long length, String contentType, String contentEncoding, String etag) {
+}
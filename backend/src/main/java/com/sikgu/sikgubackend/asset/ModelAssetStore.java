@@ -0,0 +1,122 @@
+package com.sikgu.sikgubackend.asset;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Pattern;
+
+/**
+ * 3D 모델 파일 저장소 (asset.models-dir 디렉터리).
+ * 같은 이름에 .br / .gz 를 붙인 파일이 있으면 미리 압축된 변형으로 사용합니다.
+ * ETag는 파일 내용의 SHA-256으로 만들고, 크기와 수정 시각이 바뀔 때만 다시 계산합니다.
+ * 같은 파일을 동시에 요청하면 해시는 한 요청만 계산하고 나머지는 그 결과를 씁니다.
+ * 해시를 계산하는 도중 파일이 사라지거나 읽을 수 없게 되면 없는 파일로 취급합니다.
+ */
+@Component
+public class ModelAssetStore {
+
+    public static final String BROTLI = "br";
+    public static final String GZIP = "gzip";
+
+    // 하위 경로 이동(../)을 막기 위해 파일 이름만 허용
+    private static final Pattern FILE_NAME = Pattern.compile("[A-Za-z0-9][A-Za-z0-9._-]{0,200}");
+
+    private final Path root;
+    private final Map<Path, CachedDigest> digests = new ConcurrentHashMap<>();
+
+    public ModelAssetStore(@Value("${asset.models-dir:./assets/models}") String modelsDir) {
+        this.root = Path.of(modelsDir).toAbsolutePath().normalize();
+    }
+
+    // 원본 파일 (없으면 empty)
+    public Optional<ModelAsset> find(String fileName) {
+        if (fileName == null || !FILE_NAME.matcher(fileName).matches()) {
+            return Optional.empty();
+        }
+        return load(root.resolve(fileName), contentTypeOf(fileName), null);
+    }
+
+    // 미리 압축된 변형 (br: .br, gzip: .gz)
+    public Optional<ModelAsset> findEncoded(ModelAsset original, String contentEncoding) {
+        String suffix = BROTLI.equals(contentEncoding) ? ".br" : ".gz";
+        Path variant = original.path().resolveSibling(original.path().getFileName() + suffix);
+        return load(variant, original.contentType(), contentEncoding);
+    }
+
+    private Optional<ModelAsset> load(Path path, String contentType, String contentEncoding) {
+        BasicFileAttributes attributes;
+        try {
+            attributes = Files.readAttributes(path, BasicFileAttributes.class);
+        } catch (IOException e) {
+            return Optional.empty();
+        }
+        if (!attributes.isRegularFile()) {
+            return Optional.empty();
+        }
+
+        long length = attributes.size();
+        long modifiedAt = attributes.lastModifiedTime().toMillis();
+        CachedDigest cached;
+        try {
+            // compute는 같은 키에 대해 직렬화되므로 동시 요청이 같은 파일을 여러 번 해시하지 않음
+            cached = digests.compute(path, (key, previous) ->
+                    previous != null && previous.length() == length && previous.modifiedAt() == modifiedAt
+                            ? previous
+                            : new CachedDigest(length, modifiedAt, digest(key)));
+        } catch (UncheckedIOException e) {
+            digests.remove(path);
+            return Optional.empty();
+        }
+
+        String etag = "\"" + cached.digest() + (contentEncoding == null ? "" : "-" + contentEncoding) + "\"";
+        return Optional.of(new ModelAsset(path, length, contentType, contentEncoding, etag));
+    }
+
+    private static String digest(Path path) {
+        try (InputStream in = Files.newInputStream(path)) {
+            MessageDigest sha256 = MessageDigest.getInstance("SHA-256");
+            byte[] buffer = new byte[64 * 1024];
+            int read;
+            while ((read = in.read(buffer)) > 0) {
+                sha256.update(buffer, 0, read);
+            }
+            // 앞 16바이트면 충분히 구분됨
+            byte[] hash = sha256.digest();
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(Arrays.copyOf(hash, 16));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static String contentTypeOf(String fileName) {
+        String lower = fileName.toLowerCase();
+        if (lower.endsWith(".glb")) {
+            return "model/gltf-binary";
+        }
+        if (lower.endsWith(".gltf")) {
+            return "model/gltf+json";
+        }
+        if (lower.endsWith(".usdz")) {
+            return "model/vnd.usdz+zip";
+        }
+        return "application/octet-stream";
+    }
+
+    private record CachedDigest(long length, long modifiedAt, String digest) {
+    }
+}
@@ -0,0 +1,123 @@
+package com.sikgu.sikgubackend.cache;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 최대 크기와 항목별 만료 시각을 가진 메모리 캐시.
+ * 접근 순서를 기억하는 LinkedHashMap을 잠금 하나로 보호하며, 가득 차면 가장 오래 사용하지 않은 항목 하나를 O(1)로 제거합니다.
+ * (만료된 항목은 조회될 때나 가장 오래된 항목이 되었을 때 제거)
+ * 값을 만드는 동안 무효화가 일어났다면 {@link #stamp()}로 받은 값과 비교해 이전 값이 다시 저장되지 않게 합니다.
+ */
+public final class BoundedCache<K, V> {
+
+    // 만료 없이 보관할 때 사용
+    public static final long NO_EXPIRY = Long.MAX_VALUE;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final LinkedHashMap<K, Entry<V>> entries;
+
+    // 무효화마다 증가 (잠금 안에서만 변경)
+    private long invalidations;
+
+    private final int maxSize;
+
+    // maxSize가 0 이하이면 아무것도 저장하지 않음
+    public BoundedCache(int maxSize) {
+        this.maxSize = maxSize;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<K, Entry<V>> eldest) {
+                return size() > BoundedCache.this.maxSize
+                        || eldest.getValue().expiresAt() <= System.currentTimeMillis();
+            }
+        };
+    }
+
+    // 없거나 만료되었으면 null (만료된 항목은 제거)
+    public V get(K key) {
+        lock.lock();
+        try {
+            Entry<V> entry = entries.get(key);
+            if (entry == null) {
+                return null;
+            }
+            if (entry.expiresAt() <= System.currentTimeMillis()) {
+                entries.remove(key);
+                return null;
+            }
+            return entry.value();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // 값을 만들기 전에 받아 두었다가 put에 넘김
+    public long stamp() {
+        lock.lock();
+        try {
+            return invalidations;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public void put(K key, V value, long expiresAt) {
+        lock.lock();
+        try {
+            put(key, value, expiresAt, invalidations);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // stamp 이후 무효화가 있었으면 저장하지 않고 false
+    public boolean put(K key, V value, long expiresAt, long stamp) {
+        if (maxSize <= 0) {
+            return false;
+        }
+        lock.lock();
+        try {
+            if (stamp != invalidations) {
+                return false;
+            }
+            entries.put(key, new Entry<>(value, expiresAt));
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public void invalidate(K key) {
+        lock.lock();
+        try {
+            invalidations++;
+            entries.remove(key);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public void invalidateAll() {
+        lock.lock();
+        try {
+            invalidations++;
+            entries.clear();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public int size() {
+        lock.lock();
+        try {
+            return entries.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private record Entry<V>(V value, long expiresAt) {
+    }
+}
@@ -0,0 +1,9 @@
+package com.sikgu.sikgubackend.catalog;
+
+/**
+ * 렌더링된 식물 관리 가이드.
+ * 응답 본문을 매번 인코딩/압축하지 않도록 UTF-8 바이트와 gzip 바이트를 미리 만들어 둡니다.
+ * 배열은 생성 이후 수정하지 않아야 합니다.
+ */
+public record CareGuide(Long plantId, long version, String text, byte[] utf8, byte[] gzip) {
+}
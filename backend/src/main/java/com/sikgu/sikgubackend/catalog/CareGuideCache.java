@@ -0,0 +1,94 @@
+package com.sikgu.sikgubackend.catalog;
+
+import com.sikgu.sikgubackend.cache.BoundedCache;
+import com.sikgu.sikgubackend.entity.Plant;
+import com.sikgu.sikgubackend.entity.enums.PlantCondition;
+import com.sikgu.sikgubackend.repository.PlantRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 식물별 관리 가이드를 Plant의 주의사항, 관리 주기, 조건 값으로 렌더링하고 캐시합니다.
+ * 식물이 변경되면 {@link PlantChangedEvent}로 해당 항목을 무효화합니다.
+ */
+@Component
+public class CareGuideCache {
+
+    private final PlantRepository plantRepository;
+    private final BoundedCache<Long, CareGuide> entries;
+
+    public CareGuideCache(PlantRepository plantRepository,
+                          @Value("${catalog.care-guide-cache.max-size:10000}") int maxSize) {
+        this.plantRepository = plantRepository;
+        this.entries = new BoundedCache<>(maxSize);
+    }
+
+    // 캐시에 있으면 반환하고, 없으면 DB에서 식물을 읽어 렌더링 후 저장
+    public CareGuide get(Long plantId) {
+        CareGuide cached = entries.get(plantId);
+        if (cached != null) {
+            return cached;
+        }
+
+        // 렌더링 중에 변경된 식물의 이전 가이드는 저장하지 않음
+        long stamp = entries.stamp();
+        Plant plant = plantRepository.findById(plantId)
+                .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 식물 ID입니다: " + plantId));
+        CareGuide guide = render(plant, stamp);
+        entries.put(plantId, guide, BoundedCache.NO_EXPIRY, stamp);
+        return guide;
+    }
+
+    @EventListener
+    public void onPlantChanged(PlantChangedEvent event) {
+        event.plantIds().forEach(entries::invalidate);
+    }
+
+    static CareGuide render(Plant plant, long version) {
+        StringBuilder text = new StringBuilder(256);
+        text.append(plant.getName()).append(" 관리 가이드\n");
+        if (plant.getCycle() != null) {
+            text.append("- 물 주기: ").append(plant.getCycle()).append("일마다 한 번\n");
+        }
+        appendCondition(text, "빛", plant.getLight(), "그늘에서도 잘 자라요 (반음지)", "밝은 간접광이 좋아요", "햇빛이 잘 드는 곳이 좋아요");
+        appendCondition(text, "습도", plant.getHumidity(), "건조한 환경을 좋아해요", "보통 습도면 충분해요", "습한 환경을 좋아해요 (잎 분무 권장)");
+        appendCondition(text, "온도", plant.getTemp(), "서늘한 곳 (10~18°C)", "실내 온도 (18~25°C)", "따뜻한 곳 (25°C 이상)");
+        if (plant.getCaution() != null && !plant.getCaution().isBlank()) {
+            text.append("- 주의사항: ").append(plant.getCaution().strip()).append('\n');
+        }
+
+        String rendered = text.toString();
+        byte[] utf8 = rendered.getBytes(StandardCharsets.UTF_8);
+        return new CareGuide(plant.getId(), version, rendered, utf8, gzip(utf8));
+    }
+
+    private static void appendCondition(StringBuilder text, String label, PlantCondition condition,
+                                        String low, String medium, String high) {
+        if (condition == null) {
+            return;
+        }
+        String description = switch (condition) {
+            case LOW -> low;
+            case MEDIUM -> medium;
+            case HIGH -> high;
+        };
+        text.append("- ").append(label).append(": ").append(description).append('\n');
+    }
+
+    private static byte[] gzip(byte[] bytes) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(bytes.length);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(bytes);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return out.toByteArray();
+    }
+}
@@ -0,0 +1,19 @@
+package com.sikgu.sikgubackend.catalog;
+
+import com.sikgu.sikgubackend.dto.PlantSummaryDto;
+import com.sikgu.sikgubackend.entity.enums.PlantCondition;
+
+// 카탈로그 스냅샷에 보관되는 식물 정보 (불변)
+public record CatalogPlant(Long id, String name, Long price, Long cycle,
+                           PlantCondition light, PlantCondition humidity, PlantCondition temp,
+                           String plantImageURL) {
+
+    public static CatalogPlant from(PlantSummaryDto dto) {
+        return new CatalogPlant(dto.getId(), dto.getName(), dto.getPrice(), dto.getCycle(),
+                dto.getLight(), dto.getHumidity(), dto.getTemp(), dto.getPlantImageURL());
+    }
+
+    public PlantSummaryDto toSummaryDto() {
+        return new PlantSummaryDto(id, name, price, cycle, light, humidity, temp, plantImageURL);
+    }
+}
@@ -0,0 +1,103 @@
+package com.sikgu.sikgubackend.catalog;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sikgu.sikgubackend.dto.PlanDto;
+import com.sikgu.sikgubackend.entity.Plan;
+import com.sikgu.sikgubackend.repository.PlanRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 구독 플랜 목록을 메모리에 보관합니다.
+ * 플랜 조회(/plans)는 미리 직렬화한 JSON 바이트를 그대로 내려주고,
+ * 구독 생성 시 가격 조회도 쿼리 없이 처리합니다. 플랜이 변경되면 커밋 후 다시 읽습니다.
+ */
+@Component
+public class PlanCatalog {
+
+    private final PlanRepository planRepository;
+    private final ObjectMapper objectMapper;
+    private final boolean seedDefaults;
+
+    private volatile Snapshot current;
+
+    public PlanCatalog(PlanRepository planRepository,
+                       ObjectMapper objectMapper,
+                       @Value("${plan.seed-defaults:true}") boolean seedDefaults) {
+        this.planRepository = planRepository;
+        this.objectMapper = objectMapper;
+        this.seedDefaults = seedDefaults;
+    }
+
+    public List<PlanDto> plans() {
+        return snapshot().plans();
+    }
+
+    // /plans 응답 본문 (수정 금지)
+    public byte[] plansJson() {
+        return snapshot().json();
+    }
+
+    public Optional<PlanDto> find(Long planId) {
+        return Optional.ofNullable(snapshot().byId().get(planId));
+    }
+
+    // 플랜이 하나도 없으면 기존에 사용하던 기본 플랜(4900/9900)을 등록
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        if (seedDefaults && planRepository.count() == 0) {
+            planRepository.saveAll(List.of(
+                    Plan.createPlan("기본 요금제", 4900L, 0, "작은 식물용 기본 요금제입니다."),
+                    Plan.createPlan("프리미엄 요금제", 9900L, 0, "큰 식물용 프리미엄 요금제입니다.")
+            ));
+        }
+        refresh();
+    }
+
+    // 커밋 이후 호출되므로 새 트랜잭션에서 다시 읽음
+    @EventListener
+    @Transactional(propagation = Propagation.REQUIRES_NEW, readOnly = true)
+    public void onPlanChanged(PlanChangedEvent event) {
+        refresh();
+    }
+
+    public synchronized void refresh() {
+        List<PlanDto> plans = planRepository.findAll().stream()
+                .sorted((a, b) -> Long.compare(a.getId(), b.getId()))
+                .map(plan -> new PlanDto(plan.getId(), plan.getName(), plan.getPrice(), plan.getCoins(), plan.getDescription()))
+                .toList();
+
+        Map<Long, PlanDto> byId = plans.stream()
+                .collect(Collectors.toUnmodifiableMap(PlanDto::getId, Function.identity()));
+
+        try {
+            current = new Snapshot(plans, byId, objectMapper.writeValueAsBytes(plans));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("플랜 목록을 직렬화할 수 없습니다.", e);
+        }
+    }
+
+    // 최초 로딩 전에 호출되면 직접 로딩
+    private Snapshot snapshot() {
+        Snapshot snapshot = current;
+        if (snapshot == null) {
+            refresh();
+            snapshot = current;
+        }
+        return snapshot;
+    }
+
+    private record Snapshot(List<PlanDto> plans, Map<Long, PlanDto> byId, byte[] json) {
+    }
+}
@@ -0,0 +1,5 @@
+package com.sikgu.sikgubackend.catalog;
+
+// Plan 변경이 커밋된 뒤 발행
+public record PlanChangedEvent() {
+}
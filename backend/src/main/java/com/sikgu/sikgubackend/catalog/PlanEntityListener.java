@@ -0,0 +1,30 @@
+package com.sikgu.sikgubackend.catalog;
+
+import com.sikgu.sikgubackend.entity.Plan;
+import com.sikgu.sikgubackend.transaction.AfterCommit;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import org.springframework.context.ApplicationEventPublisher;
+
+/**
+ * Plan 변경이 있으면 트랜잭션 커밋 후 {@link PlanChangedEvent}를 한 번 발행합니다.
+ * (플랜은 수가 적어 변경된 id 없이 전체를 다시 읽음)
+ */
+public class PlanEntityListener {
+
+    private static final Object RESOURCE_KEY = PlanEntityListener.class.getName() + ".changedIds";
+
+    private final ApplicationEventPublisher eventPublisher;
+
+    public PlanEntityListener(ApplicationEventPublisher eventPublisher) {
+        this.eventPublisher = eventPublisher;
+    }
+
+    @PostPersist
+    @PostUpdate
+    @PostRemove
+    public void onChange(Plan plan) {
+        AfterCommit.collect(RESOURCE_KEY, plan.getId(), ids -> eventPublisher.publishEvent(new PlanChangedEvent()));
+    }
+}
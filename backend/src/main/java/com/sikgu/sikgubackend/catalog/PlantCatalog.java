@@ -0,0 +1,110 @@
+package com.sikgu.sikgubackend.catalog;
+
+import com.sikgu.sikgubackend.repository.PlantRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * 식물 카탈로그의 메모리 스냅샷을 관리합니다.
+ * 식물 정보는 자주 바뀌지 않으므로 전체를 불변 스냅샷으로 읽어 두고,
+ * 변경이 커밋되면 새 스냅샷을 만들어 원자적으로 교체합니다.
+ * 변경 후 재로딩은 전용 스레드에서 잠시 모았다가 한 번만 수행하므로
+ * 여러 트랜잭션에 걸친 일괄 수정도 쓰기 스레드를 막지 않고 재로딩 횟수가 늘어나지 않습니다.
+ */
+@Slf4j
+@Component
+public class PlantCatalog {
+
+    private final PlantRepository plantRepository;
+    private final long refreshDelayMillis;
+    private final ScheduledExecutorService refreshExecutor;
+
+    private final AtomicReference<PlantCatalogSnapshot> current = new AtomicReference<>(PlantCatalogSnapshot.EMPTY);
+
+    // 예약된 재로딩이 아직 DB를 읽기 전이면 true (이 사이의 변경은 예약된 재로딩에 함께 반영됨)
+    private final AtomicBoolean refreshPending = new AtomicBoolean();
+
+    private volatile boolean loaded;
+
+    public PlantCatalog(PlantRepository plantRepository,
+                        @Value("${catalog.refresh-delay-ms:100}") long refreshDelayMillis) {
+        this.plantRepository = plantRepository;
+        this.refreshDelayMillis = refreshDelayMillis;
+        this.refreshExecutor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "plant-catalog-refresh");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    public PlantCatalogSnapshot snapshot() {
+        return current.get();
+    }
+
+    // 최초 로딩 전에는 호출 측에서 DB 조회로 대체해야 함
+    public boolean isLoaded() {
+        return loaded;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        refresh();
+    }
+
+    // 커밋 이후 호출됨 (재로딩은 예약만 하고 바로 반환)
+    @EventListener
+    public void onPlantChanged(PlantChangedEvent event) {
+        requestRefresh();
+    }
+
+    // 이미 예약된 재로딩이 있으면 합쳐짐
+    public void requestRefresh() {
+        if (!refreshPending.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            refreshExecutor.schedule(this::runPendingRefresh, refreshDelayMillis, TimeUnit.MILLISECONDS);
+        } catch (RejectedExecutionException e) {
+            // 종료 중
+            refreshPending.set(false);
+        }
+    }
+
+    public synchronized void refresh() {
+        List<CatalogPlant> plants = plantRepository.findSummariesAfter(0L, null, null, null, Pageable.unpaged())
+                .stream()
+                .map(CatalogPlant::from)
+                .toList();
+
+        current.set(new PlantCatalogSnapshot(current.get().version() + 1, plants));
+        loaded = true;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        refreshExecutor.shutdownNow();
+    }
+
+    private void runPendingRefresh() {
+        // DB를 읽기 전에 해제하여, 읽는 도중 커밋된 변경은 다음 재로딩으로 예약되게 함
+        refreshPending.set(false);
+        try {
+            refresh();
+        } catch (RuntimeException e) {
+            log.warn("식물 카탈로그 재로딩 실패, 다음 변경 시 다시 시도합니다.", e);
+        }
+    }
+}
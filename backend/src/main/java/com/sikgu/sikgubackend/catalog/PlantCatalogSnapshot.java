@@ -0,0 +1,159 @@
+package com.sikgu.sikgubackend.catalog;
+
+import com.sikgu.sikgubackend.entity.enums.PlantCondition;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * 특정 시점의 식물 카탈로그 (불변).
+ * 식물은 id 오름차순 배열에 저장되며, id는 원시 long 배열의 이진 탐색으로 찾습니다.
+ * 조건(light/humidity/temp)별로 PlantCondition ordinal마다 해당 식물 위치의 BitSet 인덱스를 가집니다.
+ * 추천용으로 조건 조합(빛/습도/온도 코드, 코드는 ordinal + 1이고 미입력은 0)별 식물 위치 목록(위치 오름차순)과
+ * 위치별 관리 주기를 원시 배열로도 보관합니다.
+ * 생성 이후 내부 배열과 BitSet은 수정되지 않으므로 잠금 없이 여러 스레드에서 읽을 수 있습니다.
+ */
+public final class PlantCatalogSnapshot {
+
+    // EMPTY 생성자가 index()에서 사용하므로 EMPTY보다 먼저 초기화되어야 함
+    private static final PlantCondition[] CONDITIONS = PlantCondition.values();
+
+    // 관리 주기가 없는 식물의 cycles 값
+    static final long NO_CYCLE = Long.MIN_VALUE;
+
+    // 조건 하나의 코드 수 (미입력 0 + 조건 값)
+    static final int CONDITION_CODES = CONDITIONS.length + 1;
+    static final int COMBINATIONS = CONDITION_CODES * CONDITION_CODES * CONDITION_CODES;
+
+    public static final PlantCatalogSnapshot EMPTY = new PlantCatalogSnapshot(0L, List.of());
+
+    private final long version;
+    private final long[] ids;
+    private final CatalogPlant[] plants;
+
+    private final BitSet[] byLight;
+    private final BitSet[] byHumidity;
+    private final BitSet[] byTemp;
+
+    private final int[][] positionsByCombination;
+    private final long[] cycles;
+
+    // plants는 id 오름차순이어야 함
+    PlantCatalogSnapshot(long version, List<CatalogPlant> plants) {
+        this.version = version;
+        this.plants = plants.toArray(new CatalogPlant[0]);
+        this.ids = new long[this.plants.length];
+        for (int i = 0; i < this.plants.length; i++) {
+            ids[i] = this.plants[i].id();
+        }
+
+        this.byLight = index(CatalogPlant::light);
+        this.byHumidity = index(CatalogPlant::humidity);
+        this.byTemp = index(CatalogPlant::temp);
+
+        this.positionsByCombination = groupByCombination();
+        this.cycles = new long[this.plants.length];
+        for (int i = 0; i < this.plants.length; i++) {
+            Long cycle = this.plants[i].cycle();
+            cycles[i] = cycle != null ? cycle : NO_CYCLE;
+        }
+    }
+
+    public long version() {
+        return version;
+    }
+
+    public int size() {
+        return plants.length;
+    }
+
+    // id로 식물 조회 (없으면 null)
+    public CatalogPlant find(long id) {
+        int position = Arrays.binarySearch(ids, id);
+        return position >= 0 ? plants[position] : null;
+    }
+
+    public CatalogPlant plantAt(int position) {
+        return plants[position];
+    }
+
+    // id가 주어진 값보다 큰 첫 번째 위치 (없으면 size())
+    public int firstPositionAfter(long id) {
+        int position = Arrays.binarySearch(ids, id);
+        return position >= 0 ? position + 1 : -(position + 1);
+    }
+
+    // 조건에 모두 맞는 식물 위치 (null 조건은 무시, 조건이 없으면 null 반환)
+    public BitSet matching(PlantCondition light, PlantCondition humidity, PlantCondition temp) {
+        BitSet result = null;
+        result = and(result, light == null ? null : byLight[light.ordinal()]);
+        result = and(result, humidity == null ? null : byHumidity[humidity.ordinal()]);
+        result = and(result, temp == null ? null : byTemp[temp.ordinal()]);
+        return result;
+    }
+
+    static int combination(int lightCode, int humidityCode, int tempCode) {
+        return (lightCode * CONDITION_CODES + humidityCode) * CONDITION_CODES + tempCode;
+    }
+
+    static int code(PlantCondition condition) {
+        return condition == null ? 0 : condition.ordinal() + 1;
+    }
+
+    // 아래 배열은 읽기 전용으로만 사용해야 함
+    int[] positionsWithCombination(int combination) {
+        return positionsByCombination[combination];
+    }
+
+    long[] cycles() {
+        return cycles;
+    }
+
+    private static BitSet and(BitSet result, BitSet index) {
+        if (index == null) {
+            return result;
+        }
+        if (result == null) {
+            return (BitSet) index.clone();
+        }
+        result.and(index);
+        return result;
+    }
+
+    private BitSet[] index(Function<CatalogPlant, PlantCondition> condition) {
+        BitSet[] index = new BitSet[CONDITIONS.length];
+        for (int i = 0; i < index.length; i++) {
+            index[i] = new BitSet(plants.length);
+        }
+        for (int position = 0; position < plants.length; position++) {
+            PlantCondition value = condition.apply(plants[position]);
+            if (value != null) {
+                index[value.ordinal()].set(position);
+            }
+        }
+        return index;
+    }
+
+    private int[][] groupByCombination() {
+        int[] combinations = new int[plants.length];
+        int[] counts = new int[COMBINATIONS];
+        for (int position = 0; position < plants.length; position++) {
+            CatalogPlant plant = plants[position];
+            combinations[position] = combination(code(plant.light()), code(plant.humidity()), code(plant.temp()));
+            counts[combinations[position]]++;
+        }
+
+        int[][] grouped = new int[COMBINATIONS][];
+        for (int combination = 0; combination < COMBINATIONS; combination++) {
+            grouped[combination] = new int[counts[combination]];
+            counts[combination] = 0;
+        }
+        for (int position = 0; position < plants.length; position++) {
+            int combination = combinations[position];
+            grouped[combination][counts[combination]++] = position;
+        }
+        return grouped;
+    }
+}
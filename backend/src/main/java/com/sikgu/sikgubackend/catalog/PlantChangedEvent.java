@@ -0,0 +1,7 @@
+package com.sikgu.sikgubackend.catalog;
+
+import java.util.Set;
+
+// 식물 정보 변경이 커밋된 후 발행되는 이벤트 (트랜잭션당 한 번)
+public record PlantChangedEvent(Set<Long> plantIds) {
+}
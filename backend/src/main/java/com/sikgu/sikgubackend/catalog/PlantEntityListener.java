@@ -0,0 +1,30 @@
+package com.sikgu.sikgubackend.catalog;
+
+import com.sikgu.sikgubackend.entity.Plant;
+import com.sikgu.sikgubackend.transaction.AfterCommit;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import org.springframework.context.ApplicationEventPublisher;
+
+/**
+ * Plant 변경을 모아 두었다가 트랜잭션 커밋 후 {@link PlantChangedEvent}를 한 번 발행합니다.
+ * 롤백된 변경은 발행하지 않습니다. (Hibernate가 Spring 빈으로 생성하므로 생성자 주입 가능)
+ */
+public class PlantEntityListener {
+
+    private static final Object RESOURCE_KEY = PlantEntityListener.class.getName() + ".changedIds";
+
+    private final ApplicationEventPublisher eventPublisher;
+
+    public PlantEntityListener(ApplicationEventPublisher eventPublisher) {
+        this.eventPublisher = eventPublisher;
+    }
+
+    @PostPersist
+    @PostUpdate
+    @PostRemove
+    public void onChange(Plant plant) {
+        AfterCommit.collect(RESOURCE_KEY, plant.getId(), ids -> eventPublisher.publishEvent(new PlantChangedEvent(ids)));
+    }
+}
@@ -0,0 +1,170 @@
+package com.sikgu.sikgubackend.catalog;
+
+import com.sikgu.sikgubackend.dto.PlantRecommendationDto;
+import com.sikgu.sikgubackend.entity.enums.PlantCondition;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 사용자 환경(빛/습도/온도/관리 주기)과 카탈로그 식물의 조건을 비교해 적합도 상위 식물을 고릅니다.
+ * 조건별 점수는 일치 2점, 한 단계 차이 1점이며, 식물의 관리 주기가 사용자가 관리할 수 있는 주기 이상이면 1점을 더합니다.
+ * <p>
+ * 같은 조건 조합(빛/습도/온도)의 식물은 관리 주기를 빼면 점수가 같으므로, 스냅샷의 조합별 위치 목록을
+ * (조합, 관리 주기 충족 여부) 묶음으로 보고 묶음마다 점수를 한 번만 계산합니다.
+ * 높은 점수부터 해당 점수의 묶음들을 위치 오름차순으로 병합해 limit개만 꺼내므로 식물 전체를 순회하지 않습니다.
+ * (점수가 같으면 id가 작은 식물이 우선하며, 점수가 0인 식물은 제외)
+ */
+public final class PlantRecommender {
+
+    private static final int EXACT_SCORE = 2;
+    private static final int ADJACENT_SCORE = 1;
+    private static final int CYCLE_SCORE = 1;
+
+    private static final PlantCondition[] CONDITIONS = PlantCondition.values();
+
+    // 묶음의 관리 주기 조건
+    private static final int ANY_CYCLE = 0;
+    private static final int CYCLE_MET = 1;
+    private static final int CYCLE_NOT_MET = 2;
+
+    private PlantRecommender() {
+    }
+
+    public static List<PlantRecommendationDto> recommend(PlantCatalogSnapshot catalog,
+                                                      PlantCondition light, PlantCondition humidity, PlantCondition temp,
+                                                      Long cycle, int limit) {
+        int maxScore = (light == null ? 0 : EXACT_SCORE)
+                + (humidity == null ? 0 : EXACT_SCORE)
+                + (temp == null ? 0 : EXACT_SCORE)
+                + (cycle == null ? 0 : CYCLE_SCORE);
+        if (maxScore == 0) {
+            throw new IllegalArgumentException("추천 조건을 하나 이상 입력해야 합니다.");
+        }
+        if (limit <= 0 || catalog.size() == 0) {
+            return List.of();
+        }
+
+        Groups groups = groups(catalog, light, humidity, temp, cycle);
+        long wantedCycle = cycle == null ? 0 : cycle;
+        long[] cycles = catalog.cycles();
+
+        List<PlantRecommendationDto> result = new ArrayList<>(Math.min(limit, catalog.size()));
+        for (int score = maxScore; score > 0 && result.size() < limit; score--) {
+            // 이 점수의 묶음들에서 가장 앞선 위치를 하나씩 꺼냄
+            while (result.size() < limit) {
+                int best = -1;
+                int bestPosition = Integer.MAX_VALUE;
+                for (int group = 0; group < groups.count; group++) {
+                    if (groups.scores[group] != score) {
+                        continue;
+                    }
+                    int position = groups.peek(group, cycles, wantedCycle);
+                    if (position >= 0 && position < bestPosition) {
+                        best = group;
+                        bestPosition = position;
+                    }
+                }
+                if (best < 0) {
+                    break;
+                }
+                groups.cursors[best]++;
+                result.add(new PlantRecommendationDto(catalog.plantAt(bestPosition).id(), (double) score / maxScore));
+            }
+        }
+        return result;
+    }
+
+    // 조합별 (관리 주기 충족 여부에 따른) 묶음과 점수 (점수 0인 묶음은 제외)
+    private static Groups groups(PlantCatalogSnapshot catalog,
+                                 PlantCondition light, PlantCondition humidity, PlantCondition temp, Long cycle) {
+        int[] lightScores = scoreTable(light);
+        int[] humidityScores = scoreTable(humidity);
+        int[] tempScores = scoreTable(temp);
+
+        Groups groups = new Groups(PlantCatalogSnapshot.COMBINATIONS * 2);
+        for (int lightCode = 0; lightCode < PlantCatalogSnapshot.CONDITION_CODES; lightCode++) {
+            for (int humidityCode = 0; humidityCode < PlantCatalogSnapshot.CONDITION_CODES; humidityCode++) {
+                for (int tempCode = 0; tempCode < PlantCatalogSnapshot.CONDITION_CODES; tempCode++) {
+                    int[] positions = catalog.positionsWithCombination(
+                            PlantCatalogSnapshot.combination(lightCode, humidityCode, tempCode));
+                    if (positions.length == 0) {
+                        continue;
+                    }
+                    int score = lightScores[lightCode] + humidityScores[humidityCode] + tempScores[tempCode];
+                    if (cycle == null) {
+                        groups.add(positions, score, ANY_CYCLE);
+                    } else {
+                        groups.add(positions, score + CYCLE_SCORE, CYCLE_MET);
+                        groups.add(positions, score, CYCLE_NOT_MET);
+                    }
+                }
+            }
+        }
+        return groups;
+    }
+
+    // 조건 코드(ordinal + 1, 미입력 0)별 점수
+    private static int[] scoreTable(PlantCondition wanted) {
+        int[] scores = new int[PlantCatalogSnapshot.CONDITION_CODES];
+        if (wanted == null) {
+            return scores;
+        }
+        for (PlantCondition condition : CONDITIONS) {
+            int distance = Math.abs(condition.ordinal() - wanted.ordinal());
+            scores[PlantCatalogSnapshot.code(condition)] = distance == 0 ? EXACT_SCORE : distance == 1 ? ADJACENT_SCORE : 0;
+        }
+        return scores;
+    }
+
+    /**
+     * 위치 오름차순 목록과 관리 주기 조건으로 정의되는 묶음들.
+     * 커서는 다음에 꺼낼 후보 위치를 가리키며, 관리 주기 조건에 맞지 않는 위치는 peek에서 건너뜁니다.
+     */
+    private static final class Groups {
+
+        private final int[][] positions;
+        private final int[] scores;
+        private final int[] cycleFilters;
+        private final int[] cursors;
+        private int count;
+
+        Groups(int capacity) {
+            this.positions = new int[capacity][];
+            this.scores = new int[capacity];
+            this.cycleFilters = new int[capacity];
+            this.cursors = new int[capacity];
+        }
+
+        void add(int[] groupPositions, int score, int cycleFilter) {
+            if (score <= 0) {
+                return;
+            }
+            positions[count] = groupPositions;
+            scores[count] = score;
+            cycleFilters[count] = cycleFilter;
+            count++;
+        }
+
+        // 조건에 맞는 다음 위치 (없으면 -1)
+        int peek(int group, long[] cycles, long wantedCycle) {
+            int[] groupPositions = positions[group];
+            int cursor = cursors[group];
+            int filter = cycleFilters[group];
+            while (cursor < groupPositions.length) {
+                int position = groupPositions[cursor];
+                if (filter == ANY_CYCLE) {
+                    break;
+                }
+                long plantCycle = cycles[position];
+                boolean met = plantCycle != PlantCatalogSnapshot.NO_CYCLE && plantCycle >= wantedCycle;
+                if (met == (filter == CYCLE_MET)) {
+                    break;
+                }
+                cursor++;
+            }
+            cursors[group] = cursor;
+            return cursor < groupPositions.length ? groupPositions[cursor] : -1;
+        }
+    }
+}
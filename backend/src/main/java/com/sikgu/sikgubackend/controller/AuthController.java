@@ -3,13 +3,16 @@ package com.sikgu.sikgubackend.controller;
 import com.sikgu.sikgubackend.dto.LoginRequest;
 import com.sikgu.sikgubackend.dto.SignupRequest;
 import com.sikgu.sikgubackend.security.jwt.util.JwtTokenUtil;
+import com.sikgu.sikgubackend.security.password.PasswordHashingRejectedException;
 import com.sikgu.sikgubackend.service.UserService;
 import io.swagger.v3.oas.annotations.Operation;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.web.bind.annotation.*;
 
@@ -25,22 +28,48 @@ public class AuthController {
     @Operation(summary = "회원가입")
     @PostMapping("/signup")
     public ResponseEntity<String> signup(@RequestBody SignupRequest signupRequest) {
-        if (userService.signup(signupRequest)) {
-            return ResponseEntity.ok("회원가입이 성공적으로 완료되었습니다.");
+        try {
+            if (userService.signup(signupRequest)) {
+                return ResponseEntity.ok("회원가입이 성공적으로 완료되었습니다.");
+            }
+            return ResponseEntity.badRequest().body("회원가입 실패.");
+        } catch (PasswordHashingRejectedException e) {
+            return tooManyRequests();
         }
-        return ResponseEntity.badRequest().body("회원가입 실패.");
     }
 
     @Operation(summary = "로그인")
     @PostMapping("/login")
     public ResponseEntity<String> login(@RequestBody LoginRequest loginRequest) {
-        Authentication authentication = authenticationManager.authenticate(
-                new UsernamePasswordAuthenticationToken(loginRequest.getEmail(), loginRequest.getPassword())
-        );
+        Authentication authentication;
+        try {
+            authentication = authenticationManager.authenticate(
+                    new UsernamePasswordAuthenticationToken(loginRequest.getEmail(), loginRequest.getPassword())
+            );
+        } catch (PasswordHashingRejectedException e) {
+            return tooManyRequests();
+        }
 
         SecurityContextHolder.getContext().setAuthentication(authentication);
-        String token = jwtTokenUtil.generateToken(authentication.getName());
+        String token = jwtTokenUtil.generateToken(authentication.getName(), extractRole(authentication));
 
         return ResponseEntity.ok(token);
     }
+
+    // 비밀번호 해시 풀이 포화 상태일 때 즉시 거절
+    private ResponseEntity<String> tooManyRequests() {
+        return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                .header("Retry-After", "1")
+                .body("요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요.");
+    }
+
+    // "ROLE_USER" 형태의 권한에서 역할 이름만 꺼내 토큰 클레임으로 사용
+    private String extractRole(Authentication authentication) {
+        return authentication.getAuthorities().stream()
+                .map(GrantedAuthority::getAuthority)
+                .filter(authority -> authority.startsWith("ROLE_"))
+                .map(authority -> authority.substring("ROLE_".length()))
+                .findFirst()
+                .orElse(null);
+    }
 }
\ No newline at end of file
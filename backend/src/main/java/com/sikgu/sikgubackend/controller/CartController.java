@@ -1,14 +1,19 @@
 package com.sikgu.sikgubackend.controller;
 
+import com.sikgu.sikgubackend.dto.CartBatchRequest;
 import com.sikgu.sikgubackend.dto.CartDto;
 import com.sikgu.sikgubackend.dto.CartItemAddRequest;
 import com.sikgu.sikgubackend.service.CartService;
 import io.swagger.v3.oas.annotations.Operation;
+import jakarta.persistence.OptimisticLockException;
 import lombok.RequiredArgsConstructor;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.PathVariable;
@@ -43,6 +48,17 @@ public class CartController {
         return ResponseEntity.ok(updatedCart);
     }
 
+    @Operation(summary = "장바구니 항목 일괄 변경 (추가/수량 지정/제거를 한 번에 적용)")
+    @PatchMapping // PATCH /carts
+    public ResponseEntity<CartDto> applyOperations(
+            @AuthenticationPrincipal UserDetails userDetails,
+            @RequestBody CartBatchRequest request) {
+
+        String email = userDetails.getUsername();
+        CartDto updatedCart = cartService.applyOperations(email, request);
+        return ResponseEntity.ok(updatedCart);
+    }
+
     @Operation(summary = "특정 식물의 수량을 1 감소")
     @PatchMapping("/{plantId}/quantity") // PATCH /carts/{plantId}/quantity
     public ResponseEntity<CartDto> decreaseItemQuantity(
@@ -72,4 +88,10 @@ public class CartController {
         CartDto updatedCart = cartService.clearCart(email);
         return ResponseEntity.ok(updatedCart);
     }
-}
\ No newline at end of file
+
+    // 조회 이후 다른 요청이 같은 장바구니를 먼저 변경함 (다시 조회 후 재시도)
+    @ExceptionHandler({OptimisticLockingFailureException.class, OptimisticLockException.class})
+    public ResponseEntity<Void> handleConcurrentModification() {
+        return ResponseEntity.status(HttpStatus.CONFLICT).build();
+    }
+}
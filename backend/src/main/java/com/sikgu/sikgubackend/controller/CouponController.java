@@ -1,8 +1,12 @@
 package com.sikgu.sikgubackend.controller;
 
+import com.sikgu.sikgubackend.coupon.CouponGate.CouponPermits;
 import com.sikgu.sikgubackend.dto.CouponDto;
 import com.sikgu.sikgubackend.service.CouponService;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
@@ -12,7 +16,7 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 
 @RestController
 @RequestMapping("/coupons")
-@Tag(name = "미구현", description = "쿠폰 및 결제 관련 API")
+@Tag(name = "쿠폰", description = "쿠폰 및 결제 관련 API")
 public class CouponController {
 
     private final CouponService couponService;
@@ -21,13 +25,17 @@ public class CouponController {
         this.couponService = couponService;
     }
 
-    @Operation(summary = "쿠폰/프로모션 코드 적용", description = "결제에 쿠폰 코드를 적용합니다.")
+    @Operation(summary = "쿠폰/프로모션 코드 적용", description = "로그인한 사용자에게 쿠폰 코드를 적용합니다. 소진되었거나 사용 한도를 넘으면 409를 반환합니다.")
     @PostMapping("/apply")
-    public ResponseEntity<String> applyCoupon(@RequestBody CouponDto couponDto) {
-        boolean success = couponService.applyCoupon(couponDto.getUserId(), couponDto.getCouponCode());
-        if (success) {
-            return ResponseEntity.ok("쿠폰이 성공적으로 적용되었습니다.");
+    public ResponseEntity<String> applyCoupon(@AuthenticationPrincipal UserDetails userDetails,
+                                              @RequestBody CouponDto couponDto) {
+        try {
+            CouponPermits coupon = couponService.applyCoupon(userDetails.getUsername(), couponDto.getCouponCode());
+            return ResponseEntity.ok("쿠폰이 성공적으로 적용되었습니다. (" + coupon.getDiscountPercent() + "% 할인)");
+        } catch (IllegalStateException e) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).body(e.getMessage());
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
         }
-        return ResponseEntity.badRequest().body("쿠폰 적용에 실패했습니다.");
     }
-}
\ No newline at end of file
+}
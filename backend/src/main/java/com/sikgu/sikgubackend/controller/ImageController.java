@@ -0,0 +1,92 @@
+package com.sikgu.sikgubackend.controller;
+
+import com.sikgu.sikgubackend.image.ImageFormat;
+import com.sikgu.sikgubackend.image.ImageRenderRejectedException;
+import com.sikgu.sikgubackend.service.ImageService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+
+import java.net.URI;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Optional;
+
+@RestController
+@RequestMapping("/image")
+@Tag(name = "식물 이미지", description = "식물 이미지 API")
+public class ImageController {
+
+    // 변형 파일 이름이 내용 해시이므로 내용이 바뀌면 URL도 바뀜
+    private static final CacheControl IMMUTABLE = CacheControl.maxAge(Duration.ofDays(365)).cachePublic().immutable();
+
+    // 식물 이미지가 바뀌면 다른 변형으로 연결되어야 하므로 짧게 캐시
+    private static final CacheControl REDIRECT = CacheControl.maxAge(Duration.ofMinutes(5)).cachePublic();
+
+    private final ImageService imageService;
+
+    public ImageController(ImageService imageService) {
+        this.imageService = imageService;
+    }
+
+    @Operation(summary = "식물 이미지 변형", description = "요청 너비(w)를 160/320/640/1280 중 같거나 큰 값으로 맞춘 이미지로 리다이렉트합니다. 현재는 JPEG만 제공합니다. 서버에 WebP 인코더가 포함되어 있지 않으므로 Accept 헤더의 image/webp는 무시하고, format=webp 요청은 404를 반환합니다. 변환 대기열이 가득 차면 503을 반환합니다.")
+    @GetMapping("/plants/{plantId}")
+    public ResponseEntity<Void> getPlantImage(
+            @PathVariable Long plantId,
+            @RequestParam(required = false) Integer w,
+            @RequestParam(required = false) String format,
+            @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept) {
+        String name;
+        try {
+            name = imageService.getPlantImageVariant(plantId, w, format, accept);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.notFound().build();
+        } catch (ImageRenderRejectedException e) {
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                    .header(HttpHeaders.RETRY_AFTER, "1")
+                    .build();
+        } catch (IllegalStateException e) {
+            return ResponseEntity.status(HttpStatus.BAD_GATEWAY).build();
+        }
+
+        return ResponseEntity.status(HttpStatus.FOUND)
+                .location(URI.create("/image/v/" + name))
+                .cacheControl(REDIRECT)
+                .varyBy(HttpHeaders.ACCEPT)
+                .build();
+    }
+
+    @Operation(summary = "이미지 변형 파일", description = "내용 해시로 이름 붙은 변형 이미지를 전송합니다. 내용이 바뀌지 않으므로 1년간 캐시할 수 있습니다.")
+    @GetMapping("/v/{name}")
+    public ResponseEntity<Resource> getVariant(@PathVariable String name, WebRequest webRequest) {
+        Optional<Path> path = imageService.findVariant(name);
+        if (path.isEmpty()) {
+            return ResponseEntity.notFound().build();
+        }
+
+        String etag = "\"" + name + "\"";
+        if (webRequest.checkNotModified(etag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).cacheControl(IMMUTABLE).build();
+        }
+
+        String extension = name.substring(name.lastIndexOf('.') + 1);
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(ImageFormat.fromExtension(extension).contentType()))
+                .cacheControl(IMMUTABLE)
+                .eTag(etag)
+                .body(new FileSystemResource(path.get()));
+    }
+}
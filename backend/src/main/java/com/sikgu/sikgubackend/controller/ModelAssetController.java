@@ -0,0 +1,182 @@
+package com.sikgu.sikgubackend.controller;
+
+import com.sikgu.sikgubackend.asset.ByteRange;
+import com.sikgu.sikgubackend.asset.ModelAsset;
+import com.sikgu.sikgubackend.asset.ModelAssetStore;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestMethod;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.StandardOpenOption;
+import java.util.Optional;
+
+@RestController
+@RequestMapping("/models")
+@Tag(name = "3D 모델", description = "3D 모델 파일 API")
+public class ModelAssetController {
+
+    // Tomcat sendfile 요청 속성 (커넥터가 지원하면 서블릿 대신 커널이 파일을 직접 전송)
+    private static final String SENDFILE_SUPPORT = "org.apache.tomcat.sendfile.support";
+    private static final String SENDFILE_FILENAME = "org.apache.tomcat.sendfile.filename";
+    private static final String SENDFILE_START = "org.apache.tomcat.sendfile.start";
+    private static final String SENDFILE_END = "org.apache.tomcat.sendfile.end";
+
+    // 이보다 작은 파일은 sendfile 준비 비용이 더 커서 직접 전송 (Tomcat DefaultServlet 기본값과 동일)
+    private static final long SENDFILE_THRESHOLD = 48 * 1024;
+
+    private static final String CACHE_CONTROL = "public, max-age=3600";
+
+    private final ModelAssetStore modelAssetStore;
+
+    public ModelAssetController(ModelAssetStore modelAssetStore) {
+        this.modelAssetStore = modelAssetStore;
+    }
+
+    @Operation(summary = "3D 모델 파일", description = "모델 파일을 전송합니다. Range 요청(단일 구간), ETag 재검증, 미리 압축된 br/gzip 변형을 지원합니다.")
+    @RequestMapping(value = "/{fileName}", method = {RequestMethod.GET, RequestMethod.HEAD})
+    public void getModel(@PathVariable String fileName,
+                         HttpServletRequest request,
+                         HttpServletResponse response) throws IOException {
+        Optional<ModelAsset> original = modelAssetStore.find(fileName);
+        if (original.isEmpty()) {
+            response.setStatus(HttpServletResponse.SC_NOT_FOUND);
+            return;
+        }
+
+        // 구간 요청은 원본 바이트 기준이어야 하므로 압축 변형은 전체 요청에만 사용
+        String rangeHeader = request.getHeader(HttpHeaders.RANGE);
+        ModelAsset asset = original.get();
+        if (rangeHeader == null) {
+            asset = selectEncoding(asset, request.getHeader(HttpHeaders.ACCEPT_ENCODING));
+        }
+
+        response.setHeader(HttpHeaders.ETAG, asset.etag());
+        response.setHeader(HttpHeaders.CACHE_CONTROL, CACHE_CONTROL);
+        response.addHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        response.setHeader(HttpHeaders.ACCEPT_RANGES, "bytes");
+
+        if (matches(request.getHeader(HttpHeaders.IF_NONE_MATCH), asset.etag())) {
+            response.setStatus(HttpServletResponse.SC_NOT_MODIFIED);
+            return;
+        }
+
+        response.setContentType(asset.contentType());
+        if (asset.contentEncoding() != null) {
+            response.setHeader(HttpHeaders.CONTENT_ENCODING, asset.contentEncoding());
+        }
+
+        // If-Range가 현재 ETag와 다르면 파일이 바뀐 것이므로 전체 전송
+        ByteRange range = null;
+        String ifRange = request.getHeader(HttpHeaders.IF_RANGE);
+        if (rangeHeader != null && (ifRange == null || ifRange.trim().equals(asset.etag()))) {
+            range = ByteRange.parse(rangeHeader, asset.length());
+        }
+
+        long start = 0;
+        long length = asset.length();
+        if (range != null) {
+            if (!range.isSatisfiable()) {
+                response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes */" + asset.length());
+                response.setStatus(HttpServletResponse.SC_REQUESTED_RANGE_NOT_SATISFIABLE);
+                return;
+            }
+            start = range.start();
+            length = range.length();
+            response.setStatus(HttpServletResponse.SC_PARTIAL_CONTENT);
+            response.setHeader(HttpHeaders.CONTENT_RANGE,
+                    "bytes " + range.start() + "-" + range.end() + "/" + asset.length());
+        }
+        response.setContentLengthLong(length);
+
+        if (RequestMethod.HEAD.name().equals(request.getMethod()) || length == 0) {
+            return;
+        }
+
+        if (length >= SENDFILE_THRESHOLD && Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPPORT))) {
+            request.setAttribute(SENDFILE_FILENAME, asset.path().toString());
+            request.setAttribute(SENDFILE_START, start);
+            request.setAttribute(SENDFILE_END, start + length);
+            return;
+        }
+
+        // sendfile을 쓸 수 없으면 힙 버퍼를 거치지 않도록 채널 간 전송
+        try (FileChannel channel = FileChannel.open(asset.path(), StandardOpenOption.READ)) {
+            WritableByteChannel out = Channels.newChannel(response.getOutputStream());
+            long position = start;
+            long remaining = length;
+            while (remaining > 0) {
+                long transferred = channel.transferTo(position, remaining, out);
+                if (transferred <= 0) {
+                    break;
+                }
+                position += transferred;
+                remaining -= transferred;
+            }
+        }
+    }
+
+    // br을 우선하고, 없으면 gzip 변형을 사용
+    private ModelAsset selectEncoding(ModelAsset original, String acceptEncoding) {
+        if (accepts(acceptEncoding, ModelAssetStore.BROTLI)) {
+            Optional<ModelAsset> brotli = modelAssetStore.findEncoded(original, ModelAssetStore.BROTLI);
+            if (brotli.isPresent()) {
+                return brotli.get();
+            }
+        }
+        if (accepts(acceptEncoding, ModelAssetStore.GZIP)) {
+            Optional<ModelAsset> gzip = modelAssetStore.findEncoded(original, ModelAssetStore.GZIP);
+            if (gzip.isPresent()) {
+                return gzip.get();
+            }
+        }
+        return original;
+    }
+
+    private static boolean matches(String ifNoneMatch, String etag) {
+        if (ifNoneMatch == null) {
+            return false;
+        }
+        for (String candidate : ifNoneMatch.split(",")) {
+            String value = candidate.trim();
+            // 약한 비교 (W/ 접두사 무시)
+            if (value.startsWith("W/")) {
+                value = value.substring(2);
+            }
+            if (value.equals("*") || value.equals(etag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean accepts(String acceptEncoding, String coding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+        for (String entry : acceptEncoding.split(",")) {
+            String[] parts = entry.trim().split(";");
+            if (!parts[0].trim().equalsIgnoreCase(coding)) {
+                continue;
+            }
+            // q=0 은 거부 의미
+            for (int i = 1; i < parts.length; i++) {
+                String parameter = parts[i].trim().replace(" ", "");
+                if (parameter.matches("q=0(\\.0*)?")) {
+                    return false;
+                }
+            }
+            return true;
+        }
+        return false;
+    }
+}
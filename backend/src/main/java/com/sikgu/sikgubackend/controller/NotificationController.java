@@ -1,17 +1,24 @@
 package com.sikgu.sikgubackend.controller;
 
+import com.sikgu.sikgubackend.dto.NotificationDto;
 import com.sikgu.sikgubackend.service.NotificationService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.web.bind.annotation.GetMapping;
-import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.List;
 
 @RestController
 @RequestMapping("/notifications")
-@Tag(name = "미구현", description = "구독 관련 알림 API")
+@Tag(name = "알림", description = "구독 및 물 주기 알림 API")
 public class NotificationController {
 
     private final NotificationService notificationService;
@@ -20,10 +27,19 @@ public class NotificationController {
         this.notificationService = notificationService;
     }
 
-    @Operation(summary = "구독 알림", description = "구독 상태 및 갱신 알림을 전송합니다.")
-    @GetMapping("/subscription/{userId}")
-    public ResponseEntity<String> getSubscriptionNotification(@PathVariable Long userId) {
-        String notification = notificationService.getSubscriptionNotification(userId);
-        return ResponseEntity.ok(notification);
+    @Operation(summary = "알림 스트림", description = "Server-Sent Events로 새 알림을 실시간으로 받습니다. (이벤트 이름: notification)")
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter stream(@AuthenticationPrincipal UserDetails userDetails) {
+        return notificationService.connect(userDetails.getUsername());
+    }
+
+    @Operation(summary = "알림함 조회", description = "최신순으로 알림을 조회합니다. 이전 페이지는 마지막 알림의 id를 cursor로 전달합니다.")
+    @GetMapping
+    public ResponseEntity<List<NotificationDto>> getInbox(
+            @AuthenticationPrincipal UserDetails userDetails,
+            @RequestParam(required = false) Long cursor,
+            @RequestParam(required = false) Integer size) {
+        List<NotificationDto> notifications = notificationService.getInbox(userDetails.getUsername(), cursor, size);
+        return ResponseEntity.ok(notifications);
     }
-}
\ No newline at end of file
+}
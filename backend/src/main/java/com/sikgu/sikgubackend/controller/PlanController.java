@@ -2,17 +2,21 @@ package com.sikgu.sikgubackend.controller;
 
 import com.sikgu.sikgubackend.dto.PlanDto;
 import com.sikgu.sikgubackend.service.PlanService;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.ArraySchema;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.tags.Tag;
-import java.util.List;
 
 @RestController
 @RequestMapping("/plans")
-@Tag(name = "미구현", description = "구독 플랜 조회 API")
+@Tag(name = "구독 플랜", description = "구독 플랜 조회 API")
 public class PlanController {
 
     private final PlanService planService;
@@ -23,8 +27,11 @@ public class PlanController {
 
     @Operation(summary = "구독 플랜 목록 조회", description = "사용 가능한 모든 구독 플랜 목록을 조회합니다.")
     @GetMapping
-    public ResponseEntity<List<PlanDto>> getPlans() {
-        List<PlanDto> plans = planService.getAllPlans();
-        return ResponseEntity.ok(plans);
+    @ApiResponse(responseCode = "200", content = @Content(array = @ArraySchema(schema = @Schema(implementation = PlanDto.class))))
+    public ResponseEntity<byte[]> getPlans() {
+        // 플랜 목록은 변경 시에만 다시 직렬화되므로 저장된 바이트를 그대로 전송
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(planService.getAllPlansJson());
     }
 }
\ No newline at end of file
@@ -1,38 +1,124 @@
 package com.sikgu.sikgubackend.controller;
 
+import com.sikgu.sikgubackend.catalog.CareGuide;
+import com.sikgu.sikgubackend.dto.PlantPageResponse;
+import com.sikgu.sikgubackend.dto.PlantRatingDto;
+import com.sikgu.sikgubackend.dto.PlantRecommendationDto;
+import com.sikgu.sikgubackend.entity.enums.PlantCondition;
 import com.sikgu.sikgubackend.service.PlantsService;
+import com.sikgu.sikgubackend.service.ReviewService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.nio.charset.StandardCharsets;
 import java.util.List;
 
 @RestController
 @RequestMapping("/plants")
-@Tag(name = "미구현", description = "식물 추천 및 관리 API")
+@Tag(name = "식물", description = "식물 추천 및 관리 API")
 public class PlantsController {
 
+    private static final MediaType TEXT_PLAIN_UTF8 = new MediaType(MediaType.TEXT_PLAIN, StandardCharsets.UTF_8);
+
     private final PlantsService plantsService;
+    private final ReviewService reviewService;
 
-    public PlantsController(PlantsService plantsService) {
+    public PlantsController(PlantsService plantsService, ReviewService reviewService) {
         this.plantsService = plantsService;
+        this.reviewService = reviewService;
+    }
+
+    @Operation(summary = "식물 목록 조회", description = "id 기준 커서 페이지네이션으로 식물 목록을 조회합니다. 응답의 nextCursor를 다음 요청의 cursor로 전달합니다.")
+    @GetMapping // GET /plants
+    public ResponseEntity<PlantPageResponse> getPlants(
+            @RequestParam(required = false) Long cursor,
+            @RequestParam(required = false) Integer size,
+            @RequestParam(required = false) PlantCondition light,
+            @RequestParam(required = false) PlantCondition humidity,
+            @RequestParam(required = false) PlantCondition temp) {
+        PlantPageResponse page = plantsService.getPlants(cursor, size, light, humidity, temp);
+        return ResponseEntity.ok(page);
+    }
+
+    @Operation(summary = "평균 별점 상위 식물", description = "리뷰 집계를 기준으로 평균 별점이 높은 식물을 조회합니다. minReviews로 최소 리뷰 수를 지정할 수 있습니다.")
+    @GetMapping("/top-rated")
+    public ResponseEntity<List<PlantRatingDto>> getTopRated(
+            @RequestParam(required = false) Integer limit,
+            @RequestParam(required = false) Integer minReviews) {
+        return ResponseEntity.ok(reviewService.getTopRated(limit, minReviews));
     }
 
-    @Operation(summary = "식물 추천", description = "사용자 환경에 맞는 식물 목록을 추천합니다.")
+    @Operation(summary = "식물 별점 집계", description = "식물의 리뷰 수, 평균 별점, 별점별 리뷰 수를 조회합니다.")
+    @GetMapping("/{plantId}/rating")
+    public ResponseEntity<PlantRatingDto> getPlantRating(@PathVariable Long plantId) {
+        return ResponseEntity.ok(reviewService.getPlantRating(plantId));
+    }
+
+    @Operation(summary = "식물 추천", description = "빛/습도/온도 조건과 관리 가능한 주기(일)에 맞는 식물을 적합도 순으로 추천합니다. 조건은 하나 이상 입력해야 합니다.")
     @GetMapping("/recommendations")
-    public ResponseEntity<List<String>> getRecommendations(@RequestParam String environment) {
-        List<String> recommendations = plantsService.getRecommendations(environment);
-        return ResponseEntity.ok(recommendations);
+    public ResponseEntity<List<PlantRecommendationDto>> getRecommendations(
+            @RequestParam(required = false) PlantCondition light,
+            @RequestParam(required = false) PlantCondition humidity,
+            @RequestParam(required = false) PlantCondition temp,
+            @RequestParam(required = false) Long cycle,
+            @RequestParam(required = false) Integer limit) {
+        try {
+            List<PlantRecommendationDto> recommendations = plantsService.getRecommendations(light, humidity, temp, cycle, limit);
+            return ResponseEntity.ok(recommendations);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
     }
 
-    @Operation(summary = "식물 관리 가이드", description = "특정 식물에 대한 관리 가이드를 제공합니다.")
+    @Operation(summary = "식물 관리 가이드", description = "식물 ID로 관리 가이드(물 주기, 빛/습도/온도, 주의사항)를 조회합니다.")
     @GetMapping("/care-guide")
-    public ResponseEntity<String> getCareGuide(@RequestParam String plantName) {
-        String careGuide = plantsService.getCareGuide(plantName);
-        return ResponseEntity.ok(careGuide);
+    public ResponseEntity<byte[]> getCareGuide(
+            @RequestParam Long plantId,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+        CareGuide careGuide;
+        try {
+            careGuide = plantsService.getCareGuide(plantId);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.notFound().build();
+        }
+
+        // 미리 압축해 둔 본문을 그대로 전송
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .contentType(TEXT_PLAIN_UTF8)
+                .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        if (acceptsGzip(acceptEncoding)) {
+            return response.header(HttpHeaders.CONTENT_ENCODING, "gzip").body(careGuide.gzip());
+        }
+        return response.body(careGuide.utf8());
+    }
+
+    private static boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+        for (String coding : acceptEncoding.split(",")) {
+            String[] parts = coding.trim().split(";");
+            if (!parts[0].trim().equalsIgnoreCase("gzip")) {
+                continue;
+            }
+            // gzip;q=0 은 거부 의미
+            for (int i = 1; i < parts.length; i++) {
+                String parameter = parts[i].trim().replace(" ", "");
+                if (parameter.matches("q=0(\\.0*)?")) {
+                    return false;
+                }
+            }
+            return true;
+        }
+        return false;
     }
 }
\ No newline at end of file
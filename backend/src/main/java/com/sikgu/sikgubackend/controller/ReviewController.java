@@ -0,0 +1,53 @@
+package com.sikgu.sikgubackend.controller;
+
+import com.sikgu.sikgubackend.dto.ReviewDto;
+import com.sikgu.sikgubackend.dto.ReviewRequest;
+import com.sikgu.sikgubackend.service.ReviewService;
+import io.swagger.v3.oas.annotations.Operation;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/reviews")
+@RequiredArgsConstructor
+public class ReviewController {
+
+    private final ReviewService reviewService;
+
+    @Operation(summary = "리뷰 작성", description = "식물에 별점(1~5)과 리뷰를 남깁니다.")
+    @PostMapping // POST /reviews
+    public ResponseEntity<ReviewDto> createReview(
+            @AuthenticationPrincipal UserDetails userDetails,
+            @RequestBody ReviewRequest request) {
+        try {
+            ReviewDto review = reviewService.createReview(userDetails.getUsername(), request);
+            return ResponseEntity.status(HttpStatus.CREATED).body(review);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
+    @Operation(summary = "리뷰 삭제", description = "본인이 작성한 리뷰를 삭제합니다.")
+    @DeleteMapping("/{reviewId}") // DELETE /reviews/{reviewId}
+    public ResponseEntity<Void> deleteReview(
+            @AuthenticationPrincipal UserDetails userDetails,
+            @PathVariable Long reviewId) {
+        try {
+            reviewService.deleteReview(userDetails.getUsername(), reviewId);
+            return ResponseEntity.noContent().build();
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.notFound().build();
+        } catch (IllegalStateException e) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
+        }
+    }
+}
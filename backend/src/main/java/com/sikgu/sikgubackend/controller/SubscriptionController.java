@@ -1,8 +1,16 @@
 package com.sikgu.sikgubackend.controller;
 
+import com.sikgu.sikgubackend.dto.SubscribedPlantRequest;
+import com.sikgu.sikgubackend.dto.SubscribedPlantResponse;
 import com.sikgu.sikgubackend.dto.SubscriptionPaymentRequest;
 import com.sikgu.sikgubackend.dto.SubscriptionResponse;
+import com.sikgu.sikgubackend.entity.Reminder;
 import com.sikgu.sikgubackend.entity.Subscription;
+import com.sikgu.sikgubackend.idempotency.IdempotencyConflictException;
+import com.sikgu.sikgubackend.idempotency.IdempotencyFailedException;
+import com.sikgu.sikgubackend.idempotency.IdempotencyStore;
+import com.sikgu.sikgubackend.idempotency.IdempotentResult;
+import com.sikgu.sikgubackend.service.SubscribedPlantService;
 import com.sikgu.sikgubackend.service.SubscriptionService;
 import io.swagger.v3.oas.annotations.Operation;
 import lombok.RequiredArgsConstructor;
@@ -17,21 +25,82 @@ import org.springframework.web.bind.annotation.*;
 @RequiredArgsConstructor
 public class SubscriptionController {
 
+    private static final String IDEMPOTENCY_KEY_HEADER = "Idempotency-Key";
+    private static final String IDEMPOTENT_REPLAYED_HEADER = "Idempotent-Replayed";
+    private static final int MAX_IDEMPOTENCY_KEY_LENGTH = 255;
+
     private final SubscriptionService subscriptionService;
+    private final IdempotencyStore idempotencyStore;
+    private final SubscribedPlantService subscribedPlantService;
 
-    @Operation(summary = "구독 생성 및 결제 처리 (더미)")
+    @Operation(summary = "구독 생성 및 결제 처리 (더미)",
+            description = "Idempotency-Key 헤더를 보내면 같은 키의 재요청에는 결제를 다시 하지 않고 처음 응답을 그대로 반환합니다.")
     @PostMapping
     public ResponseEntity<SubscriptionResponse> createSubscription(
             @AuthenticationPrincipal UserDetails userDetails,
+            @RequestHeader(value = IDEMPOTENCY_KEY_HEADER, required = false) String idempotencyKey,
             @RequestBody SubscriptionPaymentRequest request) {
 
         String email = userDetails.getUsername();
 
-        Subscription subscription = subscriptionService.createSubscription(email, request);
+        if (idempotencyKey == null) {
+            try {
+                Subscription subscription = subscriptionService.createSubscription(email, request);
+                return ResponseEntity.status(HttpStatus.CREATED).body(new SubscriptionResponse(subscription));
+            } catch (IllegalArgumentException e) {
+                return ResponseEntity.badRequest().build();
+            }
+        }
+        if (idempotencyKey.isBlank() || idempotencyKey.length() > MAX_IDEMPOTENCY_KEY_LENGTH) {
+            return ResponseEntity.badRequest().build();
+        }
+
+        // 키는 사용자별로 구분하고, 요청 본문은 해시로만 비교
+        // (해시는 DB에 남으므로 카드 번호 전체와 CVC는 넣지 않음, 본문이 바뀌었는지 구분하는 데는 끝 4자리로 충분)
+        String fingerprint = IdempotencyStore.fingerprint(request.getPlanId(),
+                lastFourDigits(request.getCardNumber()), request.getCardHolderName());
+        try {
+            IdempotentResult<SubscriptionResponse> result = idempotencyStore.execute(
+                    email + ":" + idempotencyKey, fingerprint, SubscriptionResponse.class,
+                    () -> new SubscriptionResponse(subscriptionService.createSubscription(email, request)));
+
+            return ResponseEntity.status(HttpStatus.CREATED)
+                    .header(IDEMPOTENT_REPLAYED_HEADER, String.valueOf(result.replayed()))
+                    .body(result.body());
+        } catch (IdempotencyConflictException e) {
+            return ResponseEntity.status(e.isKeyReused() ? HttpStatus.UNPROCESSABLE_ENTITY : HttpStatus.CONFLICT).build();
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        } catch (IdempotencyFailedException e) {
+            // 같은 키의 이전 요청이 실패로 끝남 (결제를 다시 시도하지 않음, 새 키로 요청해야 함)
+            return ResponseEntity.status(e.isRejected() ? HttpStatus.BAD_REQUEST : HttpStatus.INTERNAL_SERVER_ERROR)
+                    .header(IDEMPOTENT_REPLAYED_HEADER, "true")
+                    .build();
+        }
+    }
 
-        SubscriptionResponse response = new SubscriptionResponse(subscription);
+    private static String lastFourDigits(String cardNumber) {
+        if (cardNumber == null) {
+            return null;
+        }
+        String digits = cardNumber.replaceAll("\\D", "");
+        return digits.length() <= 4 ? digits : digits.substring(digits.length() - 4);
+    }
+
+    @Operation(summary = "활성 구독에 식물 추가", description = "추가한 식물의 물 주기에 맞춰 알림이 등록됩니다.")
+    @PostMapping("/plants") // POST /subscriptions/plants
+    public ResponseEntity<SubscribedPlantResponse> addPlant(
+            @AuthenticationPrincipal UserDetails userDetails,
+            @RequestBody SubscribedPlantRequest request) {
 
-        return ResponseEntity.status(HttpStatus.CREATED).body(response);
+        try {
+            Reminder reminder = subscribedPlantService.addPlant(userDetails.getUsername(), request);
+            return ResponseEntity.status(HttpStatus.CREATED).body(new SubscribedPlantResponse(reminder));
+        } catch (IllegalStateException e) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).build();
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
     }
 
     @Operation(summary = "활성 구독 해지 예약")
@@ -0,0 +1,37 @@
+package com.sikgu.sikgubackend.controller;
+
+import com.sikgu.sikgubackend.dto.SupportSearchResultDto;
+import com.sikgu.sikgubackend.service.SupportService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/support")
+@Tag(name = "고객지원", description = "고객지원 API")
+public class SupportController {
+
+    private final SupportService supportService;
+
+    public SupportController(SupportService supportService) {
+        this.supportService = supportService;
+    }
+
+    @Operation(summary = "QnA 검색", description = "질문/답변 본문을 두 글자 단위로 검색하여 관련도(BM25) 순으로 조회합니다.")
+    @GetMapping("/search")
+    public ResponseEntity<List<SupportSearchResultDto>> search(
+            @RequestParam(required = false) String q,
+            @RequestParam(required = false) Integer limit) {
+        try {
+            return ResponseEntity.ok(supportService.search(q, limit));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+}
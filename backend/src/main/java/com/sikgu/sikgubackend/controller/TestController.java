@@ -1,11 +1,13 @@
 package com.sikgu.sikgubackend.controller;
 
 import io.swagger.v3.oas.annotations.Operation;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
+@Slf4j
 @RestController
 @RequestMapping("/tests")
 public class TestController {
@@ -14,10 +16,10 @@ public class TestController {
     @GetMapping
     public ResponseEntity<String> getMyPage() {
         try {
-            System.out.println("정상 작동");
+            log.debug("정상 작동");
             return ResponseEntity.ok("Success");
         } catch (Exception e) {
-            System.err.println("작동 실패");
+            log.warn("작동 실패", e);
             return ResponseEntity.ok("Failure");
         }
     }
@@ -2,11 +2,13 @@ package com.sikgu.sikgubackend.controller;
 
 import com.sikgu.sikgubackend.dto.InfoRequest;
 import com.sikgu.sikgubackend.dto.UserDto;
+import com.sikgu.sikgubackend.entity.enums.Role;
 import com.sikgu.sikgubackend.service.UserService;
 import io.swagger.v3.oas.annotations.Operation;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.web.bind.annotation.*;
 
 @RestController
@@ -42,4 +44,15 @@ public class UserController {
 
         return ResponseEntity.ok(updatedUser);
     }
-}
\ No newline at end of file
+
+    @Operation(summary = "사용자 권한 변경 (관리자)")
+    @PatchMapping("/{email}/role")
+    public ResponseEntity<Void> changeRole(@PathVariable String email, @RequestParam Role role) {
+        try {
+            userService.changeRole(email, role);
+            return ResponseEntity.noContent().build();
+        } catch (UsernameNotFoundException e) {
+            return ResponseEntity.notFound().build();
+        }
+    }
+}
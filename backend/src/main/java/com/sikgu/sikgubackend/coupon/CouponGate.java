@@ -0,0 +1,157 @@
+package com.sikgu.sikgubackend.coupon;
+
+import com.sikgu.sikgubackend.entity.Coupon;
+import com.sikgu.sikgubackend.entity.CouponStock;
+import com.sikgu.sikgubackend.repository.CouponRepository;
+import com.sikgu.sikgubackend.repository.CouponStockRepository;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+/**
+ * 쿠폰별 남은 사용 횟수를 메모리에서 먼저 확인하는 관문.
+ * DB의 coupon_stock 조각(shard)과 같은 수의 카운터를 두고, 요청마다 임의의 조각에서 CAS로 하나를 예약합니다.
+ * 모든 조각이 0이면 DB에 가지 않고 바로 거절합니다.
+ * 메모리 카운터는 DB보다 크거나 같게만 유지되며(다른 인스턴스의 사용분은 DB 갱신 실패 시 반영),
+ * 최종 차감은 항상 DB의 조건부 UPDATE가 결정합니다.
+ * 다른 인스턴스의 사용분과 DB에서 직접 바꾼 남은 횟수(재입고 등)는 {@link #resync()}가 주기적으로 다시 읽어 반영합니다.
+ */
+@Component
+public class CouponGate {
+
+    private final CouponRepository couponRepository;
+    private final CouponStockRepository couponStockRepository;
+
+    private final ConcurrentHashMap<String, CouponPermits> permits = new ConcurrentHashMap<>();
+
+    public CouponGate(CouponRepository couponRepository, CouponStockRepository couponStockRepository) {
+        this.couponRepository = couponRepository;
+        this.couponStockRepository = couponStockRepository;
+    }
+
+    // 쿠폰 정보와 남은 횟수 (처음 조회할 때만 DB에서 읽음)
+    public Optional<CouponPermits> find(String code) {
+        CouponPermits cached = permits.get(code);
+        if (cached != null) {
+            return Optional.of(cached);
+        }
+        return couponRepository.findByCode(code).map(coupon -> permits.computeIfAbsent(code, c -> load(coupon)));
+    }
+
+    // 쿠폰 정보가 바뀌었을 때 호출 (다음 조회에서 다시 읽음)
+    public void invalidate(String code) {
+        permits.remove(code);
+    }
+
+    // 캐시된 쿠폰을 DB 기준으로 다시 읽어 교체 (DB에서 삭제된 쿠폰은 캐시에서 제거)
+    // 교체 전 객체로 진행 중인 요청은 이전 카운터에 예약/취소하므로 새 카운터에 영향을 주지 않음
+    @Scheduled(initialDelayString = "${coupon.resync-interval-ms:30000}", fixedDelayString = "${coupon.resync-interval-ms:30000}")
+    public void resync() {
+        for (String code : permits.keySet()) {
+            Optional<Coupon> coupon = couponRepository.findByCode(code);
+            if (coupon.isEmpty()) {
+                permits.remove(code);
+                continue;
+            }
+            CouponPermits reloaded = load(coupon.get());
+            // 읽는 동안 invalidate 되었으면 다음 조회에서 새로 읽으므로 교체하지 않음
+            permits.computeIfPresent(code, (c, current) -> reloaded);
+        }
+    }
+
+    private CouponPermits load(Coupon coupon) {
+        List<CouponStock> stocks = couponStockRepository.findByCouponId(coupon.getId());
+        int[] remaining = new int[stocks.size()];
+        for (CouponStock stock : stocks) {
+            remaining[stock.getShard()] = stock.getRemaining();
+        }
+        return new CouponPermits(coupon.getId(), coupon.getCode(), coupon.getDiscountPercent(), coupon.getPerUserLimit(),
+                coupon.getValidFrom(), coupon.getValidUntil(), new AtomicIntegerArray(remaining));
+    }
+
+    public static final class CouponPermits {
+
+        private final Long couponId;
+        private final String code;
+        private final int discountPercent;
+        private final int perUserLimit;
+        private final LocalDateTime validFrom;
+        private final LocalDateTime validUntil;
+        private final AtomicIntegerArray stripes;
+
+        CouponPermits(Long couponId, String code, int discountPercent, int perUserLimit,
+                      LocalDateTime validFrom, LocalDateTime validUntil, AtomicIntegerArray stripes) {
+            this.couponId = couponId;
+            this.code = code;
+            this.discountPercent = discountPercent;
+            this.perUserLimit = perUserLimit;
+            this.validFrom = validFrom;
+            this.validUntil = validUntil;
+            this.stripes = stripes;
+        }
+
+        public Long getCouponId() {
+            return couponId;
+        }
+
+        public String getCode() {
+            return code;
+        }
+
+        public int getDiscountPercent() {
+            return discountPercent;
+        }
+
+        public int getPerUserLimit() {
+            return perUserLimit;
+        }
+
+        public boolean isValidAt(LocalDateTime time) {
+            return (validFrom == null || !time.isBefore(validFrom))
+                    && (validUntil == null || time.isBefore(validUntil));
+        }
+
+        // 임의의 조각부터 순서대로 하나를 예약하고 조각 번호를 반환 (모두 소진되었으면 -1)
+        public int tryAcquire() {
+            int length = stripes.length();
+            if (length == 0) {
+                return -1;
+            }
+            int start = ThreadLocalRandom.current().nextInt(length);
+            for (int i = 0; i < length; i++) {
+                int shard = (start + i) % length;
+                int current;
+                while ((current = stripes.get(shard)) > 0) {
+                    if (stripes.compareAndSet(shard, current, current - 1)) {
+                        return shard;
+                    }
+                }
+            }
+            return -1;
+        }
+
+        // DB 반영에 실패했을 때 예약 취소
+        public void release(int shard) {
+            stripes.incrementAndGet(shard);
+        }
+
+        // DB에서 해당 조각이 이미 소진된 것을 확인함 (다른 인스턴스가 사용)
+        public void markExhausted(int shard) {
+            stripes.set(shard, 0);
+        }
+
+        public int remaining() {
+            int total = 0;
+            for (int i = 0; i < stripes.length(); i++) {
+                total += stripes.get(i);
+            }
+            return total;
+        }
+    }
+}
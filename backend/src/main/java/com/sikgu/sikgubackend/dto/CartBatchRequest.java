@@ -0,0 +1,14 @@
+package com.sikgu.sikgubackend.dto;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.List;
+
+@Getter
+@Setter
+@NoArgsConstructor
+public class CartBatchRequest {
+    private List<CartItemOperation> operations;
+}
@@ -0,0 +1,21 @@
+package com.sikgu.sikgubackend.dto;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@NoArgsConstructor
+public class CartItemOperation {
+
+    public enum Type {
+        ADD,          // quantity만큼 수량 증가 (기본 1, 없으면 새 항목 생성)
+        SET_QUANTITY, // 수량을 quantity로 지정 (0이면 항목 제거)
+        REMOVE        // 항목 전체 제거
+    }
+
+    private Type type;
+    private Long plantId;
+    private Integer quantity;
+}
@@ -6,6 +6,5 @@ import lombok.Setter;
 @Getter
 @Setter
 public class CouponDto {
-    private Long userId;
     private String couponCode;
-}
\ No newline at end of file
+}
@@ -0,0 +1,28 @@
+package com.sikgu.sikgubackend.dto;
+
+import com.sikgu.sikgubackend.entity.enums.NotificationType;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class NotificationDto {
+
+    private Long id;
+    private NotificationType type;
+    private String message;
+    private boolean read;
+    private LocalDateTime createdAt;
+
+    // 알림함 조회 쿼리(JPQL 생성자 표현식)용
+    public NotificationDto(Long id, NotificationType type, String message, boolean read, Timestamp createdAt) {
+        this(id, type, message, read, createdAt == null ? null : createdAt.toLocalDateTime());
+    }
+}
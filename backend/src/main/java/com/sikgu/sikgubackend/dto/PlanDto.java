@@ -1,12 +1,15 @@
 package com.sikgu.sikgubackend.dto;
 
+import lombok.AllArgsConstructor;
 import lombok.Getter;
-import lombok.Setter;
 
+// 플랜 카탈로그가 여러 요청에 같은 인스턴스를 내주므로 불변
 @Getter
-@Setter
+@AllArgsConstructor
 public class PlanDto {
-    private String planName;
-    private int price;
-    private String description;
-}
\ No newline at end of file
+    private final Long id;
+    private final String planName;
+    private final Long price;
+    private final Integer coins;
+    private final String description;
+}
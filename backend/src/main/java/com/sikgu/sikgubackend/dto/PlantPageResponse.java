@@ -0,0 +1,20 @@
+package com.sikgu.sikgubackend.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.List;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class PlantPageResponse {
+
+    private List<PlantSummaryDto> plants;
+
+    // 다음 페이지 조회 시 cursor로 전달할 값 (마지막 페이지면 null)
+    private Long nextCursor;
+}
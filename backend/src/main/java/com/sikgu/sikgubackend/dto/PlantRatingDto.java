@@ -0,0 +1,22 @@
+package com.sikgu.sikgubackend.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.List;
+
+// 식물별 별점 집계 (histogram은 별점 1~5 순서의 리뷰 수)
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class PlantRatingDto {
+
+    private Long plantId;
+    private String plantName;
+    private long reviewCount;
+    private double averageRating;
+    private List<Long> histogram;
+}
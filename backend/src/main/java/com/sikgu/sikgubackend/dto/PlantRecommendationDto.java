@@ -0,0 +1,17 @@
+package com.sikgu.sikgubackend.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+// 추천 결과 (score는 0~1로 정규화된 적합도)
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class PlantRecommendationDto {
+
+    private Long plantId;
+    private double score;
+}
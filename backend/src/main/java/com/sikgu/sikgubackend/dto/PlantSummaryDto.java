@@ -0,0 +1,24 @@
+package com.sikgu.sikgubackend.dto;
+
+import com.sikgu.sikgubackend.entity.enums.PlantCondition;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+// 목록 조회용 식물 정보 (caution, 3D 모델 등 무거운 컬럼 제외)
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class PlantSummaryDto {
+
+    private Long id;
+    private String name;
+    private Long price;
+    private Long cycle;
+    private PlantCondition light;
+    private PlantCondition humidity;
+    private PlantCondition temp;
+    private String plantImageURL;
+}
@@ -0,0 +1,21 @@
+package com.sikgu.sikgubackend.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class ReviewDto {
+
+    private Long id;
+    private Long plantId;
+    private Long rating;
+    private String content;
+    private LocalDateTime createdAt;
+}
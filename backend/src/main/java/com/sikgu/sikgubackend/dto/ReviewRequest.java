@@ -0,0 +1,18 @@
+package com.sikgu.sikgubackend.dto;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@NoArgsConstructor
+public class ReviewRequest {
+
+    private Long plantId;
+
+    // 1~5
+    private Long rating;
+
+    private String content;
+}
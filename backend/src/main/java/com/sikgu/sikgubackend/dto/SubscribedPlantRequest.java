@@ -0,0 +1,20 @@
+package com.sikgu.sikgubackend.dto;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@NoArgsConstructor
+public class SubscribedPlantRequest {
+
+    // 구독에 추가할 식물 ID
+    private Long plantId;
+
+    // 화분 ID (선택)
+    private Long potId;
+
+    // 수량 (없으면 1)
+    private Integer quantity;
+}
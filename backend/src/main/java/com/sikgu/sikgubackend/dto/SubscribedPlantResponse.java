@@ -0,0 +1,22 @@
+package com.sikgu.sikgubackend.dto;
+
+import com.sikgu.sikgubackend.entity.Reminder;
+import lombok.Getter;
+
+import java.time.LocalDate;
+
+@Getter
+public class SubscribedPlantResponse {
+
+    private final Long subscribedPlantId;
+    private final Long plantId;
+    private final int cycle;
+    private final LocalDate nextReminderDate;
+
+    public SubscribedPlantResponse(Reminder reminder) {
+        this.subscribedPlantId = reminder.getSubscribedPlant().getId();
+        this.plantId = reminder.getPlant().getId();
+        this.cycle = reminder.getCycle();
+        this.nextReminderDate = reminder.getNextDate();
+    }
+}
@@ -2,11 +2,13 @@ package com.sikgu.sikgubackend.dto;
 
 import com.sikgu.sikgubackend.entity.Subscription;
 import lombok.Getter;
+import lombok.NoArgsConstructor;
 import lombok.Setter;
 import java.time.LocalDateTime;
 
 @Getter
 @Setter
+@NoArgsConstructor // Idempotency-Key 재요청 시 저장된 응답 복원용
 public class SubscriptionResponse {
 
     private Long id;
@@ -0,0 +1,21 @@
+package com.sikgu.sikgubackend.dto;
+
+import com.sikgu.sikgubackend.entity.enums.Category;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+// QnA 검색 결과 (answer는 앞부분만 잘라서 제공, score는 BM25 점수)
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class SupportSearchResultDto {
+
+    private Long id;
+    private Category category;
+    private String question;
+    private String answer;
+    private double score;
+}
@@ -8,7 +8,9 @@ import lombok.Setter;
 @Entity
 @Getter
 @NoArgsConstructor
-@Table(name = "cart_item")
+@Table(name = "cart_item", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_cart_item_cart_plant", columnNames = {"cart_id", "plant_id"})
+})
 public class CartItem {
 
     @Id
@@ -40,4 +42,8 @@ public class CartItem {
     public void decreaseQuantity() {
         this.quantity -= 1;
     }
+
+    public void changeQuantity(int quantity) {
+        this.quantity = quantity;
+    }
 }
\ No newline at end of file
@@ -0,0 +1,54 @@
+package com.sikgu.sikgubackend.entity;
+
+import com.sikgu.sikgubackend.entity.base.BaseEntity;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Entity
+@Table(name = "coupon")
+public class Coupon extends BaseEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false, unique = true, length = 50)
+    private String code;
+
+    // 할인율 (%)
+    @Column(nullable = false)
+    private Integer discountPercent;
+
+    // 전체 사용 가능 횟수 (남은 횟수는 CouponStock에 분산 저장)
+    @Column(nullable = false)
+    private Integer totalUses;
+
+    // 사용자당 사용 가능 횟수
+    @Column(nullable = false)
+    private Integer perUserLimit;
+
+    private LocalDateTime validFrom;
+    private LocalDateTime validUntil;
+
+    public static Coupon createCoupon(String code, int discountPercent, int totalUses, int perUserLimit,
+                                      LocalDateTime validFrom, LocalDateTime validUntil) {
+        if (code == null || code.isBlank() || totalUses <= 0 || perUserLimit <= 0) {
+            throw new IllegalArgumentException("쿠폰 생성에 필요한 정보가 올바르지 않습니다.");
+        }
+
+        Coupon coupon = new Coupon();
+        coupon.code = code;
+        coupon.discountPercent = discountPercent;
+        coupon.totalUses = totalUses;
+        coupon.perUserLimit = perUserLimit;
+        coupon.validFrom = validFrom;
+        coupon.validUntil = validUntil;
+        return coupon;
+    }
+}
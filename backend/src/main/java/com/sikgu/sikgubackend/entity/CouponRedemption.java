@@ -0,0 +1,40 @@
+package com.sikgu.sikgubackend.entity;
+
+import com.sikgu.sikgubackend.entity.base.BaseEntity;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+// 쿠폰 사용 내역 (같은 사용자의 n번째 사용은 한 번만 기록되도록 unique 제약)
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Entity
+@Table(name = "coupon_redemption", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_coupon_redemption_coupon_user_use", columnNames = {"coupon_id", "user_id", "use_number"})
+})
+public class CouponRedemption extends BaseEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "coupon_id", nullable = false)
+    private Coupon coupon;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "user_id", nullable = false)
+    private User user;
+
+    @Column(name = "use_number", nullable = false)
+    private Integer useNumber;
+
+    public static CouponRedemption createCouponRedemption(Coupon coupon, User user, int useNumber) {
+        CouponRedemption redemption = new CouponRedemption();
+        redemption.coupon = coupon;
+        redemption.user = user;
+        redemption.useNumber = useNumber;
+        return redemption;
+    }
+}
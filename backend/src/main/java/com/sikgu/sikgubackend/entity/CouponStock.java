@@ -0,0 +1,38 @@
+package com.sikgu.sikgubackend.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+// 쿠폰의 남은 사용 횟수 조각 (한 행에 잠금이 몰리지 않도록 여러 행으로 나눔)
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Entity
+@Table(name = "coupon_stock", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_coupon_stock_coupon_shard", columnNames = {"coupon_id", "shard"})
+})
+public class CouponStock {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "coupon_id", nullable = false)
+    private Coupon coupon;
+
+    @Column(nullable = false)
+    private Integer shard;
+
+    @Column(nullable = false)
+    private Integer remaining;
+
+    public static CouponStock createCouponStock(Coupon coupon, int shard, int remaining) {
+        CouponStock stock = new CouponStock();
+        stock.coupon = coupon;
+        stock.shard = shard;
+        stock.remaining = remaining;
+        return stock;
+    }
+}
@@ -0,0 +1,74 @@
+package com.sikgu.sikgubackend.entity;
+
+import com.sikgu.sikgubackend.entity.base.BaseEntity;
+import com.sikgu.sikgubackend.entity.enums.IdempotencyStatus;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.sql.Timestamp;
+
+// Idempotency-Key 요청의 처리 결과 (같은 키로 다시 요청하면 저장된 응답 또는 실패를 그대로 반환)
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Entity
+@Table(name = "idempotency_record", indexes = {
+        @Index(name = "idx_idempotency_record_creation_time", columnList = "creation_time")
+})
+public class IdempotencyRecord extends BaseEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    // 사용자 범위로 구분된 키 (email:Idempotency-Key)
+    @Column(name = "idempotency_key", nullable = false, unique = true, length = 320)
+    private String idempotencyKey;
+
+    // 요청 본문 해시 (같은 키를 다른 요청에 재사용했는지 확인)
+    @Column(nullable = false, length = 64)
+    private String fingerprint;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private IdempotencyStatus status;
+
+    // IN_PROGRESS 기록의 임대 만료 시각 (지나면 처리하던 인스턴스가 중단된 것으로 보고 다른 요청이 이어받음)
+    private Timestamp leaseExpiresAt;
+
+    @Column(columnDefinition = "TEXT")
+    private String responseBody;
+
+    // FAILED 결과의 메시지와 요청 자체가 잘못되었는지 여부 (재현 시 400 / 500 구분)
+    @Column(length = 500)
+    private String errorMessage;
+
+    private boolean rejected;
+
+    public static IdempotencyRecord createInProgress(String idempotencyKey, String fingerprint, Timestamp leaseExpiresAt) {
+        IdempotencyRecord record = new IdempotencyRecord();
+        record.idempotencyKey = idempotencyKey;
+        record.fingerprint = fingerprint;
+        record.status = IdempotencyStatus.IN_PROGRESS;
+        record.leaseExpiresAt = leaseExpiresAt;
+        return record;
+    }
+
+    public boolean isInProgress() {
+        return status == IdempotencyStatus.IN_PROGRESS;
+    }
+
+    public void complete(String responseBody) {
+        this.status = IdempotencyStatus.COMPLETED;
+        this.responseBody = responseBody;
+        this.leaseExpiresAt = null;
+    }
+
+    public void fail(String errorMessage, boolean rejected) {
+        this.status = IdempotencyStatus.FAILED;
+        this.errorMessage = errorMessage;
+        this.rejected = rejected;
+        this.leaseExpiresAt = null;
+    }
+}
@@ -0,0 +1,44 @@
+package com.sikgu.sikgubackend.entity;
+
+import com.sikgu.sikgubackend.entity.base.BaseEntity;
+import com.sikgu.sikgubackend.entity.enums.NotificationType;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+// 알림함에 보관되는 알림 (SSE 연결이 없을 때도 나중에 조회 가능)
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Entity
+@Table(name = "notification", indexes = {
+        @Index(name = "idx_notification_user_id_id", columnList = "user_id, id")
+})
+public class Notification extends BaseEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "user_id", nullable = false)
+    private User user;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private NotificationType type;
+
+    @Column(nullable = false)
+    private String message;
+
+    @Column(name = "is_read", nullable = false)
+    private boolean read;
+
+    public static Notification createNotification(User user, NotificationType type, String message) {
+        Notification notification = new Notification();
+        notification.user = user;
+        notification.type = type;
+        notification.message = message;
+        return notification;
+    }
+}
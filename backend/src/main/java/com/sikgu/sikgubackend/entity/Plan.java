@@ -1,5 +1,6 @@
 package com.sikgu.sikgubackend.entity;
 
+import com.sikgu.sikgubackend.catalog.PlanEntityListener;
 import com.sikgu.sikgubackend.entity.base.BaseEntity;
 import jakarta.persistence.*;
 import lombok.*;
@@ -7,6 +8,7 @@ import lombok.*;
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @Entity
+@EntityListeners(PlanEntityListener.class)
 @Table(name = "plan")
 public class Plan extends BaseEntity {
 
@@ -20,11 +22,18 @@ public class Plan extends BaseEntity {
 
     private Integer coins;
 
+    private String description;
+
     public static Plan createPlan(String name, long price, int coins) {
+        return createPlan(name, price, coins, null);
+    }
+
+    public static Plan createPlan(String name, long price, int coins, String description) {
         Plan plan = new Plan();
         plan.name = name;
         plan.price = price;
         plan.coins = coins;
+        plan.description = description;
         return plan;
     }
 }
\ No newline at end of file
@@ -1,5 +1,6 @@
 package com.sikgu.sikgubackend.entity;
 
+import com.sikgu.sikgubackend.catalog.PlantEntityListener;
 import com.sikgu.sikgubackend.entity.base.BaseEntity;
 import com.sikgu.sikgubackend.entity.enums.PlantCondition;
 import jakarta.persistence.*;
@@ -11,7 +12,12 @@ import java.util.List;
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @Entity
-@Table(name = "plant")
+@EntityListeners(PlantEntityListener.class)
+@Table(name = "plant", indexes = {
+        @Index(name = "idx_plant_light", columnList = "light"),
+        @Index(name = "idx_plant_humidity", columnList = "humidity"),
+        @Index(name = "idx_plant_temp", columnList = "temp")
+})
 public class Plant extends BaseEntity {
 
     @Id
@@ -0,0 +1,57 @@
+package com.sikgu.sikgubackend.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+// 식물별 리뷰 집계 (리뷰 등록/삭제와 같은 트랜잭션에서 증감하므로 평균 계산에 리뷰 전체를 읽지 않음)
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Entity
+@Table(name = "plant_rating_summary")
+public class PlantRatingSummary {
+
+    @Id
+    @Column(name = "plant_id")
+    private Long plantId;
+
+    @Column(nullable = false)
+    private long reviewCount;
+
+    @Column(nullable = false)
+    private long ratingSum;
+
+    // 별점별 리뷰 수
+    @Column(name = "count_1", nullable = false)
+    private long count1;
+
+    @Column(name = "count_2", nullable = false)
+    private long count2;
+
+    @Column(name = "count_3", nullable = false)
+    private long count3;
+
+    @Column(name = "count_4", nullable = false)
+    private long count4;
+
+    @Column(name = "count_5", nullable = false)
+    private long count5;
+
+    public static PlantRatingSummary createPlantRatingSummary(Long plantId) {
+        PlantRatingSummary summary = new PlantRatingSummary();
+        summary.plantId = plantId;
+        return summary;
+    }
+
+    public double getAverageRating() {
+        return reviewCount == 0 ? 0.0 : (double) ratingSum / reviewCount;
+    }
+
+    // 별점 1~5 순서의 리뷰 수
+    public List<Long> getHistogram() {
+        return List.of(count1, count2, count3, count4, count5);
+    }
+}
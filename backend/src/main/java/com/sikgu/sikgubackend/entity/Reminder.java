@@ -1,44 +1,61 @@
-//package com.sikgu.sikgubackend.entity;
-//
-//import com.sikgu.sikgubackend.entity.base.BaseEntity;
-//import jakarta.persistence.*;
-//import java.time.LocalDate;
-//import java.time.LocalDateTime;
-//
-//import lombok.*;
-//
-//@Getter
-//@NoArgsConstructor(access = AccessLevel.PROTECTED)
-//@Entity
-//@Table(name = "reminder")
-//public class Reminder extends BaseEntity {
-//
-//    @Id
-//    @GeneratedValue(strategy = GenerationType.IDENTITY)
-//    private Long id;
-//
-//    @ManyToOne(fetch = FetchType.LAZY)
-//    @JoinColumn(name = "user_id")
-//    private User user;
-//
-////    @ManyToOne(fetch = FetchType.LAZY)
-////    @JoinColumn(name = "plant_id")
-////    private Plant plant;
-//
-//    @ManyToOne(fetch = FetchType.LAZY)
-//    @JoinColumn(name = "subscription_id")
-//    private Subscription subscription;
-//
-//    private Integer cycle;
-//
-//    // TODO
-//    private LocalDate nextDate;
-//
-//    public static Reminder createReminder(User user, Subscription subscription, int cycle) {
-//        Reminder reminder = new Reminder();
-//        reminder.user = user;
-//        reminder.subscription = subscription;
-//        reminder.cycle = cycle;
-//        return reminder;
-//    }
-//}
+package com.sikgu.sikgubackend.entity;
+
+import com.sikgu.sikgubackend.entity.base.BaseEntity;
+import jakarta.persistence.*;
+import java.time.LocalDate;
+
+import lombok.*;
+
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Entity
+@Table(name = "reminder", indexes = {
+        // 알림 대상 조회는 (next_date, id) 키셋으로 진행하므로 전체 스캔 없이 인덱스만 탐색
+        @Index(name = "idx_reminder_next_date_id", columnList = "next_date, id")
+})
+public class Reminder extends BaseEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "user_id", nullable = false)
+    private User user;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "plant_id", nullable = false)
+    private Plant plant;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "subscription_id")
+    private Subscription subscription;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "subscribed_plant_id")
+    private SubscribedPlant subscribedPlant;
+
+    // 물 주기 (일)
+    @Column(nullable = false)
+    private Integer cycle;
+
+    // 다음 알림 날짜
+    @Column(name = "next_date", nullable = false)
+    private LocalDate nextDate;
+
+    public static Reminder createReminder(User user, Plant plant, Subscription subscription, SubscribedPlant subscribedPlant,
+                                          int cycle, LocalDate nextDate) {
+        if (user == null || plant == null || nextDate == null || cycle <= 0) {
+            throw new IllegalArgumentException("알림 생성에 필요한 필수 정보가 누락되었습니다.");
+        }
+
+        Reminder reminder = new Reminder();
+        reminder.user = user;
+        reminder.plant = plant;
+        reminder.subscription = subscription;
+        reminder.subscribedPlant = subscribedPlant;
+        reminder.cycle = cycle;
+        reminder.nextDate = nextDate;
+        return reminder;
+    }
+}
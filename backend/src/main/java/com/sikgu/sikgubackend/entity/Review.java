@@ -9,7 +9,9 @@ import lombok.*;
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @Entity
-@Table(name = "review")
+@Table(name = "review", indexes = {
+        @Index(name = "idx_review_plant_id_id", columnList = "plant_id, id")
+})
 public class Review extends BaseEntity {
 
     @Id
@@ -21,6 +23,10 @@ public class Review extends BaseEntity {
     @JoinColumn(name = "user_id")
     private User user;
 
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "plant_id")
+    private Plant plant;
+
 //    @ManyToOne(fetch = FetchType.LAZY)
 //    @JoinColumn(name = "subscription_id")
 //    private Subscription subscription;
@@ -32,9 +38,14 @@ public class Review extends BaseEntity {
 
     private LocalDateTime createdAt;
 
-    public static Review createReview(User user, long rating, String content) {
+    public static Review createReview(User user, Plant plant, long rating, String content) {
+        if (rating < 1 || rating > 5) {
+            throw new IllegalArgumentException("별점은 1~5 사이여야 합니다.");
+        }
+
         Review review = new Review();
         review.user = user;
+        review.plant = plant;
         review.rating = rating;
         review.content = content;
         review.createdAt = LocalDateTime.now();
@@ -10,7 +10,10 @@ import java.time.LocalDateTime;
 
 @Entity
 @Getter
-@Table(name = "subscription")
+@Table(name = "subscription", indexes = {
+        // 갱신/만료 대상 조회는 (end_date, id) 키셋으로 진행
+        @Index(name = "idx_subscription_end_date_id", columnList = "end_date, id")
+})
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class Subscription extends BaseEntity {
 
@@ -26,11 +29,15 @@ public class Subscription extends BaseEntity {
     private Long planId;
 
     private LocalDateTime startDate;
+    @Column(name = "end_date")
     private LocalDateTime endDate;
 
-    private String paymentStatus; // SUCCESS, FAILED
+    private String paymentStatus; // PENDING, SUCCESS, FAILED, CANCELED, CANCELED_AT_PERIOD_END, PAYMENT_DUE, RENEWED, EXPIRED
     private Long paidAmount;
 
+    // PG 승인 번호
+    private String paymentTransactionId;
+
     @Builder
     public Subscription(User user, Long planId, Long paidAmount) {
         if (user == null || planId == null || paidAmount == null) {
@@ -45,6 +52,23 @@ public class Subscription extends BaseEntity {
         this.paymentStatus = "SUCCESS";
     }
 
+    // 결제 전 구독을 먼저 기록 (결제 승인 후 markAsPaid)
+    public static Subscription reserve(User user, Long planId, Long amount) {
+        Subscription subscription = new Subscription(user, planId, amount);
+        subscription.paymentStatus = "PENDING";
+        return subscription;
+    }
+
+    public void markAsPaid(String paymentTransactionId) {
+        if (!"PENDING".equals(this.paymentStatus)) {
+            throw new IllegalStateException("결제 대기 중인 구독이 아닙니다.");
+        }
+        this.paymentTransactionId = paymentTransactionId;
+        this.startDate = LocalDateTime.now();
+        this.endDate = this.startDate.plusMonths(1);
+        this.paymentStatus = "SUCCESS";
+    }
+
     public void markAsFailed() {
         this.paymentStatus = "FAILED";
     }
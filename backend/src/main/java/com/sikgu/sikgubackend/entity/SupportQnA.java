@@ -2,6 +2,7 @@ package com.sikgu.sikgubackend.entity;
 
 import com.sikgu.sikgubackend.entity.base.BaseEntity;
 import com.sikgu.sikgubackend.entity.enums.Category;
+import com.sikgu.sikgubackend.search.SupportQnAEntityListener;
 import jakarta.persistence.*;
 
 import java.time.LocalDate;
@@ -12,6 +13,7 @@ import lombok.*;
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @Entity
+@EntityListeners(SupportQnAEntityListener.class)
 @Table(name = "support_qna")
 public class SupportQnA extends BaseEntity {
 
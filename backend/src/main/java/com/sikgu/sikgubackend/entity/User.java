@@ -55,6 +55,10 @@ public class User extends BaseEntity {
         this.phoneNumber = newPhoneNumber;
     }
 
+    public void changeRole(Role newRole) {
+        this.role = newRole;
+    }
+
     public void addReview(Review review) {
         this.reviews.add(review);
         review.setUser(this);
@@ -0,0 +1,6 @@
+package com.sikgu.sikgubackend.entity.enums;
+
+// IN_PROGRESS: 처리 중 (임대 시간 동안만 유효), COMPLETED / FAILED: 최종 결과 (같은 키로 다시 요청하면 그대로 재현)
+public enum IdempotencyStatus {
+    IN_PROGRESS, COMPLETED, FAILED
+}
@@ -0,0 +1,5 @@
+package com.sikgu.sikgubackend.entity.enums;
+
+public enum NotificationType {
+    REMINDER, SUBSCRIPTION
+}
@@ -0,0 +1,17 @@
+package com.sikgu.sikgubackend.idempotency;
+
+// 같은 Idempotency-Key 요청이 다른 곳에서 처리 중이거나, 같은 키를 다른 요청 본문에 재사용한 경우
+public class IdempotencyConflictException extends RuntimeException {
+
+    private final boolean keyReused;
+
+    public IdempotencyConflictException(String message, boolean keyReused) {
+        super(message);
+        this.keyReused = keyReused;
+    }
+
+    // true이면 다른 요청 본문에 키를 재사용한 경우 (422), false이면 처리 중 (409)
+    public boolean isKeyReused() {
+        return keyReused;
+    }
+}
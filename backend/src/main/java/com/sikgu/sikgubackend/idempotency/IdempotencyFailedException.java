@@ -0,0 +1,17 @@
+package com.sikgu.sikgubackend.idempotency;
+
+// 같은 Idempotency-Key의 이전 요청이 실패로 끝났을 때 그 실패를 재현 (결제를 다시 시도하지 않음)
+public class IdempotencyFailedException extends RuntimeException {
+
+    private final boolean rejected;
+
+    public IdempotencyFailedException(String message, boolean rejected) {
+        super(message);
+        this.rejected = rejected;
+    }
+
+    // true이면 잘못된 요청으로 거부된 경우 (400), false이면 처리 중 오류 (500)
+    public boolean isRejected() {
+        return rejected;
+    }
+}
@@ -0,0 +1,223 @@
+package com.sikgu.sikgubackend.idempotency;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sikgu.sikgubackend.entity.IdempotencyRecord;
+import com.sikgu.sikgubackend.entity.enums.IdempotencyStatus;
+import com.sikgu.sikgubackend.repository.IdempotencyRecordRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.sql.Timestamp;
+import java.util.HexFormat;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+/**
+ * Idempotency-Key 요청의 결과를 저장하고 재사용합니다.
+ * - 메모리(hot tier): 키별 CompletableFuture. 같은 키로 동시에 들어온 요청은 먼저 들어온 요청의 결과를 기다립니다.
+ * - DB(idempotency_record): 재시작 이후나 다른 인스턴스에서도 같은 결과를 반환하기 위한 영구 저장소.
+ * 실행을 시작한 뒤의 결과는 성공(COMPLETED)이든 실패(FAILED)든 최종 결과로 저장합니다.
+ * 결제가 이미 시도되었을 수 있으므로 같은 키의 재시도는 다시 실행하지 않고 저장된 실패를 재현합니다.
+ * 처리 중(IN_PROGRESS) 기록은 임대 시간이 지나면 중단된 것으로 보고 다른 요청이 이어받습니다.
+ */
+@Slf4j
+@Component
+public class IdempotencyStore {
+
+    private static final int MAX_ERROR_MESSAGE_LENGTH = 500;
+
+    private final IdempotencyRecordRepository repository;
+    private final ObjectMapper objectMapper;
+    private final long waitTimeoutMillis;
+    private final long hotTtlMillis;
+    private final long retentionMillis;
+    private final long leaseMillis;
+
+    private final ConcurrentHashMap<String, CompletableFuture<StoredResponse>> hot = new ConcurrentHashMap<>();
+
+    public IdempotencyStore(IdempotencyRecordRepository repository,
+                            ObjectMapper objectMapper,
+                            @Value("${idempotency.wait-timeout-ms:10000}") long waitTimeoutMillis,
+                            @Value("${idempotency.hot-ttl-seconds:600}") long hotTtlSeconds,
+                            @Value("${idempotency.retention-hours:24}") long retentionHours,
+                            @Value("${idempotency.lease-seconds:60}") long leaseSeconds) {
+        this.repository = repository;
+        this.objectMapper = objectMapper;
+        this.waitTimeoutMillis = waitTimeoutMillis;
+        this.hotTtlMillis = TimeUnit.SECONDS.toMillis(hotTtlSeconds);
+        this.retentionMillis = TimeUnit.HOURS.toMillis(retentionHours);
+        this.leaseMillis = TimeUnit.SECONDS.toMillis(leaseSeconds);
+    }
+
+    // key는 사용자 범위로 구분된 값이어야 함 (예: email:Idempotency-Key)
+    public <T> IdempotentResult<T> execute(String key, String fingerprint, Class<T> type, Supplier<T> action) {
+        CompletableFuture<StoredResponse> mine = new CompletableFuture<>();
+        CompletableFuture<StoredResponse> existing = hot.putIfAbsent(key, mine);
+        if (existing != null) {
+            // 같은 키의 요청이 처리 중이면 완료될 때까지 대기
+            return replay(await(existing), fingerprint, type);
+        }
+
+        try {
+            IdempotencyRecord record;
+            Optional<IdempotencyRecord> found = repository.findByIdempotencyKey(key);
+            if (found.isPresent()) {
+                IdempotencyRecord stored = found.get();
+                if (!stored.isInProgress()) {
+                    StoredResponse response = StoredResponse.of(stored);
+                    mine.complete(response);
+                    return replay(response, fingerprint, type);
+                }
+                if (!stored.getFingerprint().equals(fingerprint)) {
+                    throw new IdempotencyConflictException("같은 Idempotency-Key가 다른 요청에 사용되었습니다.", true);
+                }
+                record = takeOver(key);
+            } else {
+                record = insert(key, fingerprint);
+            }
+
+            T body;
+            try {
+                body = action.get();
+            } catch (RuntimeException e) {
+                // 잘못된 요청(IllegalArgumentException)은 400, 그 밖의 실패는 500으로 재현
+                boolean rejected = e instanceof IllegalArgumentException;
+                String message = abbreviate(e.getMessage());
+                record.fail(message, rejected);
+                repository.save(record);
+                mine.complete(new StoredResponse(fingerprint, null, message, rejected, System.currentTimeMillis()));
+                throw e;
+            }
+
+            String json = write(body);
+            record.complete(json);
+            repository.save(record);
+
+            mine.complete(new StoredResponse(fingerprint, json, null, false, System.currentTimeMillis()));
+            return new IdempotentResult<>(body, false);
+        } catch (RuntimeException e) {
+            // 결과를 저장하지 못한 경우 (대기 중인 요청에는 같은 예외 전달, DB 기록은 임대 만료 후 이어받을 수 있음)
+            if (!mine.isDone()) {
+                hot.remove(key, mine);
+                mine.completeExceptionally(e);
+            }
+            throw e;
+        }
+    }
+
+    private IdempotencyRecord insert(String key, String fingerprint) {
+        try {
+            return repository.saveAndFlush(IdempotencyRecord.createInProgress(key, fingerprint, leaseUntil()));
+        } catch (DataIntegrityViolationException e) {
+            // 다른 인스턴스가 먼저 기록함
+            throw new IdempotencyConflictException("같은 Idempotency-Key 요청을 처리 중입니다.", false);
+        }
+    }
+
+    // 임대 시간 안에 끝나지 않은 처리(인스턴스 중단 등)를 이어받음
+    // 임대 시간은 결제 응답 대기 시간보다 충분히 길어야 하며, 중단 시점에 승인된 결제는 PG orderId로 대사해야 함
+    private IdempotencyRecord takeOver(String key) {
+        Timestamp now = new Timestamp(System.currentTimeMillis());
+        if (repository.takeOverExpiredLease(key, IdempotencyStatus.IN_PROGRESS, now, leaseUntil()) == 0) {
+            throw new IdempotencyConflictException("같은 Idempotency-Key 요청을 처리 중입니다.", false);
+        }
+        log.warn("임대가 만료된 Idempotency-Key 처리를 이어받습니다: {}", key);
+        return repository.findByIdempotencyKey(key)
+                .orElseThrow(() -> new IdempotencyConflictException("같은 Idempotency-Key 요청을 처리 중입니다.", false));
+    }
+
+    private Timestamp leaseUntil() {
+        return new Timestamp(System.currentTimeMillis() + leaseMillis);
+    }
+
+    private static String abbreviate(String message) {
+        if (message == null) {
+            return null;
+        }
+        return message.length() <= MAX_ERROR_MESSAGE_LENGTH ? message : message.substring(0, MAX_ERROR_MESSAGE_LENGTH);
+    }
+
+    // 요청 본문을 구분하기 위한 해시 (원문은 저장하지 않음)
+    // 솔트 없는 해시라 값의 범위가 작으면 역산할 수 있으므로 카드 번호 전체, CVC 같은 민감 정보는 넘기지 말 것
+    public static String fingerprint(Object... parts) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            for (Object part : parts) {
+                digest.update(String.valueOf(part).getBytes(StandardCharsets.UTF_8));
+                digest.update((byte) 0);
+            }
+            return HexFormat.of().formatHex(digest.digest());
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256을 사용할 수 없습니다.", e);
+        }
+    }
+
+    // 오래된 메모리 항목과 DB 기록 정리
+    @Scheduled(fixedDelayString = "${idempotency.cleanup-interval-ms:300000}")
+    public void cleanup() {
+        long now = System.currentTimeMillis();
+        hot.values().removeIf(future -> future.isDone()
+                && !future.isCompletedExceptionally()
+                && future.join().storedAt() < now - hotTtlMillis);
+        repository.deleteCreatedBefore(new Timestamp(now - retentionMillis));
+    }
+
+    private StoredResponse await(CompletableFuture<StoredResponse> future) {
+        try {
+            return future.get(waitTimeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new IllegalStateException(e.getCause());
+        } catch (TimeoutException e) {
+            throw new IdempotencyConflictException("같은 Idempotency-Key 요청을 처리 중입니다.", false);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IdempotencyConflictException("같은 Idempotency-Key 요청을 처리 중입니다.", false);
+        }
+    }
+
+    private <T> IdempotentResult<T> replay(StoredResponse stored, String fingerprint, Class<T> type) {
+        if (!stored.fingerprint().equals(fingerprint)) {
+            throw new IdempotencyConflictException("같은 Idempotency-Key가 다른 요청에 사용되었습니다.", true);
+        }
+        if (stored.body() == null) {
+            throw new IdempotencyFailedException(stored.errorMessage(), stored.rejected());
+        }
+        try {
+            return new IdempotentResult<>(objectMapper.readValue(stored.body(), type), true);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("저장된 응답을 읽을 수 없습니다.", e);
+        }
+    }
+
+    private String write(Object body) {
+        try {
+            return objectMapper.writeValueAsString(body);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("응답을 저장할 수 없습니다.", e);
+        }
+    }
+
+    // body가 null이면 실패 결과
+    private record StoredResponse(String fingerprint, String body, String errorMessage, boolean rejected, long storedAt) {
+
+        static StoredResponse of(IdempotencyRecord record) {
+            return new StoredResponse(record.getFingerprint(), record.getResponseBody(), record.getErrorMessage(),
+                    record.isRejected(), System.currentTimeMillis());
+        }
+    }
+}
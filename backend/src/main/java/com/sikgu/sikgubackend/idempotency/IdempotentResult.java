@@ -0,0 +1,5 @@
+package com.sikgu.sikgubackend.idempotency;
+
+// replayed가 true이면 이전에 저장된 응답을 재사용한 결과
+public record IdempotentResult<T>(T body, boolean replayed) {
+}
@@ -0,0 +1,39 @@
+package com.sikgu.sikgubackend.image;
+
+// 변형 이미지 출력 형식
+public enum ImageFormat {
+
+    JPEG("jpeg", "jpg", "image/jpeg"),
+    WEBP("webp", "webp", "image/webp");
+
+    private final String writerName;
+    private final String extension;
+    private final String contentType;
+
+    ImageFormat(String writerName, String extension, String contentType) {
+        this.writerName = writerName;
+        this.extension = extension;
+        this.contentType = contentType;
+    }
+
+    public String writerName() {
+        return writerName;
+    }
+
+    public String extension() {
+        return extension;
+    }
+
+    public String contentType() {
+        return contentType;
+    }
+
+    public static ImageFormat fromExtension(String extension) {
+        for (ImageFormat format : values()) {
+            if (format.extension.equals(extension)) {
+                return format;
+            }
+        }
+        throw new IllegalArgumentException("지원하지 않는 이미지 형식입니다: " + extension);
+    }
+}
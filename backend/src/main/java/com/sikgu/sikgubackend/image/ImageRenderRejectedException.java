@@ -0,0 +1,9 @@
+package com.sikgu.sikgubackend.image;
+
+// 이미지 변환 대기열이 가득 찼거나 변환 시간이 초과되었을 때 발생 (HTTP 503으로 응답)
+public class ImageRenderRejectedException extends RuntimeException {
+
+    public ImageRenderRejectedException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
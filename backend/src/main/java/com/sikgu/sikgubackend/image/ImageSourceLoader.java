@@ -0,0 +1,156 @@
+package com.sikgu.sikgubackend.image;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Flow;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.regex.Pattern;
+
+/**
+ * 변형 이미지를 만들 원본 이미지를 읽습니다.
+ * http(s) URL이면 내려받고, 그 외에는 image.source-dir 아래의 파일 이름으로 취급합니다.
+ * 다운로드는 응답 헤더뿐 아니라 본문을 다 받을 때까지를 image.fetch-timeout-ms 안에 끝내야 하며,
+ * 본문을 천천히 보내는 서버가 변환 스레드를 붙잡지 않도록 제한 시간이 지나면 요청을 취소합니다.
+ */
+@Component
+public class ImageSourceLoader {
+
+    private static final Pattern FILE_NAME = Pattern.compile("[A-Za-z0-9][A-Za-z0-9._-]{0,200}");
+
+    private final Path sourceDir;
+    private final Duration timeout;
+    private final long maxBytes;
+    private final HttpClient httpClient;
+
+    public ImageSourceLoader(@Value("${image.source-dir:./assets/images}") String sourceDir,
+                             @Value("${image.fetch-timeout-ms:5000}") long timeoutMs,
+                             @Value("${image.max-source-bytes:20971520}") long maxBytes) {
+        this.sourceDir = Path.of(sourceDir).toAbsolutePath().normalize();
+        this.timeout = Duration.ofMillis(timeoutMs);
+        this.maxBytes = maxBytes;
+        this.httpClient = HttpClient.newBuilder()
+                .connectTimeout(timeout)
+                .followRedirects(HttpClient.Redirect.NORMAL)
+                .build();
+    }
+
+    public byte[] load(String url) {
+        try {
+            if (url.startsWith("http://") || url.startsWith("https://")) {
+                return download(url);
+            }
+            if (!FILE_NAME.matcher(url).matches()) {
+                throw new IllegalArgumentException("잘못된 이미지 경로입니다: " + url);
+            }
+            Path path = sourceDir.resolve(url);
+            if (!Files.isRegularFile(path)) {
+                throw new IllegalArgumentException("원본 이미지가 없습니다: " + url);
+            }
+            if (Files.size(path) > maxBytes) {
+                throw new IllegalStateException("원본 이미지가 너무 큽니다: " + url);
+            }
+            return Files.readAllBytes(path);
+        } catch (IOException e) {
+            throw new IllegalStateException("원본 이미지를 읽지 못했습니다: " + url, e);
+        }
+    }
+
+    // 헤더와 본문 전체를 timeout 안에 받음 (시간이 지나면 요청 취소)
+    private byte[] download(String url) {
+        HttpRequest request = HttpRequest.newBuilder(URI.create(url)).timeout(timeout).GET().build();
+        CompletableFuture<HttpResponse<byte[]>> future = httpClient.sendAsync(request, info -> info.statusCode() == 200
+                ? new LimitedBodySubscriber(maxBytes, url)
+                : HttpResponse.BodySubscribers.replacing(null));
+
+        HttpResponse<byte[]> response;
+        try {
+            response = future.get(timeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            throw new IllegalStateException("원본 이미지 다운로드 시간이 초과되었습니다: " + url, e);
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("원본 이미지 다운로드가 중단되었습니다: " + url, e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof IllegalStateException cause) {
+                throw cause;
+            }
+            throw new IllegalStateException("원본 이미지를 받지 못했습니다: " + url, e.getCause());
+        }
+
+        if (response.statusCode() != 200) {
+            throw new IllegalStateException("원본 이미지를 받지 못했습니다 (" + response.statusCode() + "): " + url);
+        }
+        return response.body();
+    }
+
+    // 본문을 메모리에 모으되 최대 크기를 넘으면 받기를 멈추고 실패
+    private static final class LimitedBodySubscriber implements HttpResponse.BodySubscriber<byte[]> {
+
+        private final long maxBytes;
+        private final String url;
+        private final CompletableFuture<byte[]> body = new CompletableFuture<>();
+        private final ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+        private Flow.Subscription subscription;
+
+        private LimitedBodySubscriber(long maxBytes, String url) {
+            this.maxBytes = maxBytes;
+            this.url = url;
+        }
+
+        @Override
+        public CompletionStage<byte[]> getBody() {
+            return body;
+        }
+
+        @Override
+        public void onSubscribe(Flow.Subscription subscription) {
+            this.subscription = subscription;
+            subscription.request(Long.MAX_VALUE);
+        }
+
+        @Override
+        public void onNext(List<ByteBuffer> items) {
+            if (body.isDone()) {
+                return;
+            }
+            for (ByteBuffer item : items) {
+                if (buffer.size() + (long) item.remaining() > maxBytes) {
+                    subscription.cancel();
+                    body.completeExceptionally(new IllegalStateException("원본 이미지가 너무 큽니다: " + url));
+                    return;
+                }
+                byte[] bytes = new byte[item.remaining()];
+                item.get(bytes);
+                buffer.write(bytes, 0, bytes.length);
+            }
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            body.completeExceptionally(throwable);
+        }
+
+        @Override
+        public void onComplete() {
+            body.complete(buffer.toByteArray());
+        }
+    }
+}
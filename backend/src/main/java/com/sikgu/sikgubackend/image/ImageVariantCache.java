@@ -0,0 +1,347 @@
+package com.sikgu.sikgubackend.image;
+
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReader;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageInputStream;
+import javax.imageio.stream.ImageOutputStream;
+import javax.imageio.stream.MemoryCacheImageOutputStream;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Iterator;
+import java.util.Optional;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.regex.Pattern;
+
+/**
+ * 원본 이미지를 정해진 너비로 줄인 변형 이미지를 만들고 디스크에 보관합니다.
+ * 변형 파일 이름은 결과 바이트의 해시이므로 내용이 바뀌면 이름도 바뀝니다. (immutable 캐시 가능)
+ * (원본 URL, 너비, 형식) → 파일 이름 대응은 메모리와 keys/ 디렉터리에 저장해 재시작 후에도 재사용합니다.
+ * 같은 변형을 동시에 요청하면 한 요청만 변환하고 나머지는 그 결과를 기다립니다.
+ * <p>
+ * 원본 읽기와 변환은 스레드 수와 대기열 길이가 제한된 전용 풀에서 실행하며, 대기열이 가득 차면
+ * {@link ImageRenderRejectedException}을 던집니다. 변환이 image.render-timeout-ms 안에 끝나지 않으면 작업을 취소하고
+ * 같은 예외를 던지므로, 같은 변형을 기다리던 요청들도 함께 실패합니다. 원본은 디코딩 전에 헤더로 크기를 확인해
+ * 픽셀 수가 제한을 넘으면 거절합니다. (작은 파일이라도 디코딩하면 가로×세로×4바이트를 차지)
+ * <p>
+ * WebP는 ImageIO용 WebP 인코더가 클래스패스에 있을 때만 만듭니다. 이 프로젝트는 인코더를 포함하지 않으므로 현재는 JPEG만 제공합니다.
+ */
+@Component
+public class ImageVariantCache {
+
+    // 제공하는 너비 (요청 너비는 이 중 같거나 큰 값으로 올림)
+    public static final int[] WIDTHS = {160, 320, 640, 1280};
+
+    // 변환 방식이 바뀌면 올려서 기존 대응을 무시
+    private static final int PIPELINE_VERSION = 1;
+    private static final float QUALITY = 0.82f;
+
+    private static final Pattern VARIANT_NAME = Pattern.compile("[0-9a-f]{40}\\.(jpg|webp)");
+
+    private final ImageSourceLoader sourceLoader;
+    private final Path cacheDir;
+    private final Path keyDir;
+    private final boolean webpSupported;
+    private final long maxSourcePixels;
+    private final long renderTimeoutMillis;
+    private final ThreadPoolExecutor renderExecutor;
+
+    private final ConcurrentHashMap<String, String> names = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<String, CompletableFuture<String>> inFlight = new ConcurrentHashMap<>();
+
+    public ImageVariantCache(ImageSourceLoader sourceLoader,
+                             @Value("${image.cache-dir:./assets/image-cache}") String cacheDir,
+                             @Value("${image.max-source-pixels:40000000}") long maxSourcePixels,
+                             @Value("${image.render-threads:2}") int renderThreads,
+                             @Value("${image.render-queue-capacity:16}") int renderQueueCapacity,
+                             @Value("${image.render-timeout-ms:10000}") long renderTimeoutMillis) {
+        this.sourceLoader = sourceLoader;
+        this.cacheDir = Path.of(cacheDir).toAbsolutePath().normalize();
+        this.keyDir = this.cacheDir.resolve("keys");
+        this.webpSupported = ImageIO.getImageWritersByFormatName(ImageFormat.WEBP.writerName()).hasNext();
+        this.maxSourcePixels = maxSourcePixels;
+        this.renderTimeoutMillis = renderTimeoutMillis;
+
+        AtomicInteger sequence = new AtomicInteger();
+        this.renderExecutor = new ThreadPoolExecutor(
+                renderThreads, renderThreads,
+                0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(renderQueueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "image-render-" + sequence.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy()
+        );
+    }
+
+    // WebP 인코더(ImageIO 플러그인)가 있을 때만 WebP 변형 제공
+    public boolean isWebpSupported() {
+        return webpSupported;
+    }
+
+    public static int snapWidth(Integer requested) {
+        if (requested == null) {
+            return WIDTHS[WIDTHS.length - 1];
+        }
+        for (int width : WIDTHS) {
+            if (requested <= width) {
+                return width;
+            }
+        }
+        return WIDTHS[WIDTHS.length - 1];
+    }
+
+    // 변형 파일 이름 (없으면 생성)
+    public String variantName(String sourceUrl, int width, ImageFormat format) {
+        if (format == ImageFormat.WEBP && !webpSupported) {
+            throw new IllegalArgumentException("WebP 형식을 지원하지 않습니다.");
+        }
+        String key = sourceUrl + "|" + width + "|" + format + "|" + PIPELINE_VERSION;
+        String known = names.get(key);
+        if (known != null && Files.isRegularFile(cacheDir.resolve(known))) {
+            return known;
+        }
+
+        CompletableFuture<String> created = new CompletableFuture<>();
+        CompletableFuture<String> existing = inFlight.putIfAbsent(key, created);
+        if (existing != null) {
+            return await(existing);
+        }
+
+        try {
+            String name = readKey(key);
+            if (name == null) {
+                name = renderOnExecutor(sourceUrl, width, format);
+                writeKey(key, name);
+            }
+            names.put(key, name);
+            created.complete(name);
+            return name;
+        } catch (RuntimeException e) {
+            created.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, created);
+        }
+    }
+
+    // 변형 파일 경로 (이름 형식이 맞지 않거나 없으면 empty)
+    public Optional<Path> find(String name) {
+        if (name == null || !VARIANT_NAME.matcher(name).matches()) {
+            return Optional.empty();
+        }
+        Path path = cacheDir.resolve(name);
+        return Files.isRegularFile(path) ? Optional.of(path) : Optional.empty();
+    }
+
+    // 변환 대기열에 쌓인 작업 수
+    int getRenderQueueDepth() {
+        return renderExecutor.getQueue().size();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        renderExecutor.shutdown();
+    }
+
+    // 변환을 전용 풀에서 실행하고 결과를 기다림 (대기열이 가득 차면 즉시 거절, 제한 시간이 지나면 취소)
+    private String renderOnExecutor(String sourceUrl, int width, ImageFormat format) {
+        Future<String> future;
+        try {
+            future = renderExecutor.submit(() -> render(sourceUrl, width, format));
+        } catch (RejectedExecutionException e) {
+            throw new ImageRenderRejectedException("이미지 변환 요청이 많아 거부되었습니다.", e);
+        }
+
+        try {
+            return future.get(renderTimeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            throw new ImageRenderRejectedException("이미지 변환 시간이 초과되었습니다.", e);
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("이미지 변환 중 인터럽트가 발생했습니다.", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException("이미지 변환 중 오류가 발생했습니다.", e.getCause());
+        }
+    }
+
+    private String render(String sourceUrl, int width, ImageFormat format) {
+        BufferedImage source = decode(sourceLoader.load(sourceUrl), sourceUrl);
+
+        // 원본보다 크게 늘리지 않음
+        int targetWidth = Math.min(width, source.getWidth());
+        int targetHeight = Math.max(1, (int) Math.round((double) source.getHeight() * targetWidth / source.getWidth()));
+        byte[] encoded = encode(resize(source, targetWidth, targetHeight), format);
+
+        try {
+            Files.createDirectories(keyDir);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        String name = sha1(encoded) + "." + format.extension();
+        Path target = cacheDir.resolve(name);
+        if (!Files.exists(target)) {
+            try {
+                Path temp = Files.createTempFile(cacheDir, "variant-", ".tmp");
+                Files.write(temp, encoded);
+                Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+        return name;
+    }
+
+    // 헤더에서 가로/세로를 먼저 읽어 픽셀 수가 제한 이하일 때만 디코딩
+    private BufferedImage decode(byte[] bytes, String sourceUrl) {
+        try (ImageInputStream input = ImageIO.createImageInputStream(new ByteArrayInputStream(bytes))) {
+            Iterator<ImageReader> readers = input == null ? null : ImageIO.getImageReaders(input);
+            if (readers == null || !readers.hasNext()) {
+                throw new IllegalStateException("지원하지 않는 원본 이미지 형식입니다: " + sourceUrl);
+            }
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(input, true, true);
+                long pixels = (long) reader.getWidth(0) * reader.getHeight(0);
+                if (pixels > maxSourcePixels) {
+                    throw new IllegalStateException("원본 이미지가 너무 큽니다 (" + reader.getWidth(0) + "x" + reader.getHeight(0) + "): " + sourceUrl);
+                }
+                return reader.read(0);
+            } finally {
+                reader.dispose();
+            }
+        } catch (IOException e) {
+            throw new IllegalStateException("원본 이미지를 해석하지 못했습니다: " + sourceUrl, e);
+        }
+    }
+
+    // 절반씩 여러 번 줄여 한 번에 크게 줄일 때 생기는 계단 현상을 줄임 (알파 채널은 흰 배경으로 합성)
+    private static BufferedImage resize(BufferedImage source, int targetWidth, int targetHeight) {
+        BufferedImage current = source;
+        int width = source.getWidth();
+        int height = source.getHeight();
+        do {
+            width = Math.max(targetWidth, width / 2);
+            height = Math.max(targetHeight, height / 2);
+            BufferedImage next = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+            Graphics2D graphics = next.createGraphics();
+            try {
+                graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+                graphics.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+                graphics.setColor(Color.WHITE);
+                graphics.fillRect(0, 0, width, height);
+                graphics.drawImage(current, 0, 0, width, height, null);
+            } finally {
+                graphics.dispose();
+            }
+            current = next;
+        } while (width != targetWidth || height != targetHeight);
+        return current;
+    }
+
+    private static byte[] encode(BufferedImage image, ImageFormat format) {
+        Iterator<ImageWriter> writers = ImageIO.getImageWritersByFormatName(format.writerName());
+        if (!writers.hasNext()) {
+            throw new IllegalStateException("이미지 인코더가 없습니다: " + format);
+        }
+        ImageWriter writer = writers.next();
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (ImageOutputStream stream = new MemoryCacheImageOutputStream(out)) {
+            writer.setOutput(stream);
+            ImageWriteParam param = writer.getDefaultWriteParam();
+            if (param.canWriteCompressed()) {
+                param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+                if (param.getCompressionTypes() != null && param.getCompressionTypes().length > 0) {
+                    param.setCompressionType(param.getCompressionTypes()[0]);
+                }
+                param.setCompressionQuality(QUALITY);
+            }
+            writer.write(null, new IIOImage(image, null, null), param);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } finally {
+            writer.dispose();
+        }
+        return out.toByteArray();
+    }
+
+    private String readKey(String key) {
+        Path keyFile = keyDir.resolve(sha1(key.getBytes(StandardCharsets.UTF_8)));
+        try {
+            if (!Files.isRegularFile(keyFile)) {
+                return null;
+            }
+            String name = Files.readString(keyFile).trim();
+            return find(name).isPresent() ? name : null;
+        } catch (IOException e) {
+            return null;
+        }
+    }
+
+    private void writeKey(String key, String name) {
+        try {
+            Path temp = Files.createTempFile(keyDir, "key-", ".tmp");
+            Files.writeString(temp, name);
+            Files.move(temp, keyDir.resolve(sha1(key.getBytes(StandardCharsets.UTF_8))),
+                    StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static String await(CompletableFuture<String> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    private static String sha1(byte[] bytes) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-1").digest(bytes));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
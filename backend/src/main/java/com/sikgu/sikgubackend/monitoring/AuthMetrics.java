@@ -0,0 +1,64 @@
+package com.sikgu.sikgubackend.monitoring;
+
+import com.sikgu.sikgubackend.security.jwt.util.JwtTokenUtil;
+import com.sikgu.sikgubackend.security.password.PasswordHashingExecutor;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.FunctionTimer;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.TimeGauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 인증 경로의 메트릭: BCrypt 전용 풀(실행 시간, 대기열, 거부 수)과 JWT 검증 캐시 적중률.
+ * JWT 검증 시간은 JwtAuthenticationFilter가 jwt.verify 타이머로 직접 기록합니다.
+ */
+@Component
+public class AuthMetrics implements MeterBinder {
+
+    private final PasswordHashingExecutor passwordHashingExecutor;
+    private final JwtTokenUtil jwtTokenUtil;
+
+    public AuthMetrics(PasswordHashingExecutor passwordHashingExecutor, JwtTokenUtil jwtTokenUtil) {
+        this.passwordHashingExecutor = passwordHashingExecutor;
+        this.jwtTokenUtil = jwtTokenUtil;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionTimer.builder("password.hash", passwordHashingExecutor,
+                        PasswordHashingExecutor::getHashCount,
+                        PasswordHashingExecutor::getHashNanosTotal,
+                        TimeUnit.NANOSECONDS)
+                .description("BCrypt 해시/비교 실행 시간")
+                .register(registry);
+        TimeGauge.builder("password.hash.max", passwordHashingExecutor, TimeUnit.NANOSECONDS,
+                        PasswordHashingExecutor::getHashNanosMax)
+                .description("BCrypt 해시/비교 최대 실행 시간 (시작 이후)")
+                .register(registry);
+        Gauge.builder("password.hash.queue", passwordHashingExecutor, PasswordHashingExecutor::getQueueDepth)
+                .description("실행을 기다리는 해시 작업 수")
+                .register(registry);
+        Gauge.builder("password.hash.active", passwordHashingExecutor, PasswordHashingExecutor::getActiveCount)
+                .description("실행 중인 해시 작업 수")
+                .register(registry);
+        Gauge.builder("password.hash.pool.size", passwordHashingExecutor, PasswordHashingExecutor::getPoolSize)
+                .register(registry);
+        FunctionCounter.builder("password.hash.rejected", passwordHashingExecutor,
+                        PasswordHashingExecutor::getRejectedCount)
+                .description("대기열 초과/시간 초과로 거부된 해시 작업 수")
+                .register(registry);
+
+        FunctionCounter.builder("jwt.verified.cache", jwtTokenUtil, JwtTokenUtil::getVerifiedCacheHits)
+                .tag("result", "hit")
+                .register(registry);
+        FunctionCounter.builder("jwt.verified.cache", jwtTokenUtil, JwtTokenUtil::getVerifiedCacheMisses)
+                .tag("result", "miss")
+                .register(registry);
+        Gauge.builder("jwt.verified.cache.size", jwtTokenUtil, JwtTokenUtil::getVerifiedCacheSize)
+                .register(registry);
+    }
+}
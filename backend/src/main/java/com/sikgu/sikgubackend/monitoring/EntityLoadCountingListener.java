@@ -0,0 +1,36 @@
+package com.sikgu.sikgubackend.monitoring;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.EventType;
+import org.hibernate.event.spi.PostLoadEvent;
+import org.hibernate.event.spi.PostLoadEventListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * Hibernate가 엔티티를 로드할 때마다 {@link RequestStatistics}에 기록합니다.
+ */
+@Component
+public class EntityLoadCountingListener implements PostLoadEventListener {
+
+    private final EntityManagerFactory entityManagerFactory;
+
+    public EntityLoadCountingListener(EntityManagerFactory entityManagerFactory) {
+        this.entityManagerFactory = entityManagerFactory;
+    }
+
+    @PostConstruct
+    void register() {
+        entityManagerFactory.unwrap(SessionFactoryImplementor.class)
+                .getServiceRegistry()
+                .getService(EventListenerRegistry.class)
+                .appendListeners(EventType.POST_LOAD, this);
+    }
+
+    @Override
+    public void onPostLoad(PostLoadEvent event) {
+        RequestStatistics.entityLoaded();
+    }
+}
@@ -0,0 +1,25 @@
+package com.sikgu.sikgubackend.monitoring;
+
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.sql.DataSource;
+
+@Configuration
+public class MonitoringConfig {
+
+    // 모든 DataSource를 SQL 문 수를 세는 래퍼로 감쌈 (static: 다른 빈보다 먼저 등록되어야 함)
+    @Bean
+    static BeanPostProcessor statementCountingDataSourcePostProcessor() {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof DataSource dataSource) {
+                    return StatementCountingDataSource.wrap(dataSource);
+                }
+                return bean;
+            }
+        };
+    }
+}
@@ -0,0 +1,74 @@
+package com.sikgu.sikgubackend.monitoring;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+
+/**
+ * 요청마다 실행한 SQL 문 수와 로드한 엔티티 수를 엔드포인트(URI 패턴)별 분포로 기록하고
+ * {@link StatementBudget}으로 예산 초과 여부를 확인합니다.
+ * 인증 필터의 사용자 조회까지 포함되도록 보안 필터보다 먼저 실행됩니다.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class RequestMetricsFilter extends OncePerRequestFilter {
+
+    // 요청당 SQL 문/엔티티 수 히스토그램 구간
+    private static final double[] BUCKETS = {1, 2, 5, 10, 20, 50, 100, 200, 500};
+
+    private final MeterRegistry meterRegistry;
+    private final StatementBudget statementBudget;
+
+    public RequestMetricsFilter(MeterRegistry meterRegistry, StatementBudget statementBudget) {
+        this.meterRegistry = meterRegistry;
+        this.statementBudget = statementBudget;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        RequestStatistics statistics = RequestStatistics.begin();
+        // 테스트에서 요청별 집계를 확인할 수 있도록 요청 속성으로도 남김
+        request.setAttribute(RequestStatistics.ATTRIBUTE, statistics);
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            RequestStatistics.end();
+            record(request.getMethod(), uriOf(request), statistics);
+        }
+        // 요청 처리 중 발생한 예외가 있으면 그 예외를 우선 (예산 확인은 정상 처리된 요청만)
+        statementBudget.check(request.getMethod(), uriOf(request), statistics.getStatements());
+    }
+
+    private void record(String method, String uri, RequestStatistics statistics) {
+        summary("http.server.requests.statements", "요청당 실행한 SQL 문 수", method, uri)
+                .record(statistics.getStatements());
+        summary("http.server.requests.entity.loads", "요청당 로드한 엔티티 수", method, uri)
+                .record(statistics.getEntityLoads());
+    }
+
+    private DistributionSummary summary(String name, String description, String method, String uri) {
+        return DistributionSummary.builder(name)
+                .description(description)
+                .tag("method", method)
+                .tag("uri", uri)
+                .serviceLevelObjectives(BUCKETS)
+                .register(meterRegistry);
+    }
+
+    // 실제 경로 대신 매핑된 패턴을 태그로 사용 (/plants/{plantId}), 매핑되지 않은 요청은 하나로 묶음
+    static String uriOf(HttpServletRequest request) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        return pattern != null ? pattern.toString() : "UNKNOWN";
+    }
+}
@@ -0,0 +1,57 @@
+package com.sikgu.sikgubackend.monitoring;
+
+/**
+ * 요청 하나가 실행한 SQL 문 수와 로드한 엔티티 수.
+ * {@link RequestMetricsFilter}가 요청 스레드에 연결하며, 요청 밖(스케줄러, 별도 스레드 풀)의 작업은 집계하지 않습니다.
+ */
+public final class RequestStatistics {
+
+    // 요청 속성 이름 (요청이 끝난 뒤 테스트에서 집계를 읽을 때 사용)
+    public static final String ATTRIBUTE = RequestStatistics.class.getName();
+
+    private static final ThreadLocal<RequestStatistics> CURRENT = new ThreadLocal<>();
+
+    private int statements;
+    private int entityLoads;
+
+    private RequestStatistics() {
+    }
+
+    // 현재 스레드에서 집계를 시작 (이전 집계가 남아 있으면 버림)
+    public static RequestStatistics begin() {
+        RequestStatistics statistics = new RequestStatistics();
+        CURRENT.set(statistics);
+        return statistics;
+    }
+
+    // 집계 중이 아니면 null
+    public static RequestStatistics current() {
+        return CURRENT.get();
+    }
+
+    public static void end() {
+        CURRENT.remove();
+    }
+
+    static void statementExecuted() {
+        RequestStatistics statistics = CURRENT.get();
+        if (statistics != null) {
+            statistics.statements++;
+        }
+    }
+
+    static void entityLoaded() {
+        RequestStatistics statistics = CURRENT.get();
+        if (statistics != null) {
+            statistics.entityLoads++;
+        }
+    }
+
+    public int getStatements() {
+        return statements;
+    }
+
+    public int getEntityLoads() {
+        return entityLoads;
+    }
+}
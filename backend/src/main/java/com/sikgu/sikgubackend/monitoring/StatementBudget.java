@@ -0,0 +1,77 @@
+package com.sikgu.sikgubackend.monitoring;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 엔드포인트별 요청당 SQL 문 예산.
+ * 지연 로딩 연관관계를 항목마다 읽는 N+1 쿼리를 찾기 위한 것으로, 예산을 넘은 요청은
+ * LOG 모드에서 경고를 남기고 FAIL 모드(테스트)에서 {@link StatementBudgetExceededException}을 던집니다.
+ */
+@Slf4j
+@Component
+public class StatementBudget {
+
+    public enum Mode {
+        OFF, LOG, FAIL
+    }
+
+    private final Mode mode;
+    private final int defaultBudget;
+
+    // 키: "GET /carts" (메서드 + 매핑된 URI 패턴)
+    private final Map<String, Integer> endpointBudgets;
+
+    public StatementBudget(@Value("${monitoring.statement-budget.mode:LOG}") Mode mode,
+                           @Value("${monitoring.statement-budget.default:30}") int defaultBudget,
+                           @Value("${monitoring.statement-budget.endpoints:}") String endpointBudgets) {
+        this.mode = mode;
+        this.defaultBudget = defaultBudget;
+        this.endpointBudgets = parse(endpointBudgets);
+    }
+
+    // "GET /carts=4, GET /plants/{plantId}=3" 형식
+    static Map<String, Integer> parse(String value) {
+        Map<String, Integer> budgets = new HashMap<>();
+        for (String entry : value.split(",")) {
+            if (entry.isBlank()) {
+                continue;
+            }
+            int separator = entry.lastIndexOf('=');
+            String endpoint = separator > 0 ? entry.substring(0, separator).trim().replaceAll("\\s+", " ") : "";
+            if (endpoint.indexOf(' ') < 0) {
+                throw new IllegalArgumentException("SQL 문 예산 형식이 올바르지 않습니다 (예: GET /carts=4): " + entry.trim());
+            }
+            try {
+                budgets.put(endpoint, Integer.parseInt(entry.substring(separator + 1).trim()));
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException("SQL 문 예산은 숫자여야 합니다: " + entry.trim(), e);
+            }
+        }
+        return budgets;
+    }
+
+    public int budgetOf(String method, String uri) {
+        return endpointBudgets.getOrDefault(method + " " + uri, defaultBudget);
+    }
+
+    public void check(String method, String uri, int statements) {
+        if (mode == Mode.OFF) {
+            return;
+        }
+        int budget = budgetOf(method, uri);
+        if (statements <= budget) {
+            return;
+        }
+
+        String message = String.format("SQL 문 예산 초과: %s %s 요청에서 %d개 실행 (예산 %d)", method, uri, statements, budget);
+        if (mode == Mode.FAIL) {
+            throw new StatementBudgetExceededException(message);
+        }
+        log.warn(message);
+    }
+}
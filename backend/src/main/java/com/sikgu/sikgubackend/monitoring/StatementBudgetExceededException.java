@@ -0,0 +1,9 @@
+package com.sikgu.sikgubackend.monitoring;
+
+// 요청 하나가 엔드포인트의 SQL 문 예산을 넘었을 때 발생 (monitoring.statement-budget.mode=FAIL, 테스트용)
+public class StatementBudgetExceededException extends IllegalStateException {
+
+    public StatementBudgetExceededException(String message) {
+        super(message);
+    }
+}
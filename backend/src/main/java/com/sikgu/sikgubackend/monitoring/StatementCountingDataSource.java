@@ -0,0 +1,76 @@
+package com.sikgu.sikgubackend.monitoring;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.Statement;
+
+/**
+ * 실행한 SQL 문 수를 {@link RequestStatistics}에 기록하는 DataSource 래퍼 (JDK 동적 프록시).
+ * unwrap/isWrapperFor는 원본에 그대로 위임하므로 HikariCP 풀 메트릭은 원본 풀을 찾아 등록됩니다.
+ */
+final class StatementCountingDataSource {
+
+    private StatementCountingDataSource() {
+    }
+
+    static DataSource wrap(DataSource dataSource) {
+        if (Proxy.isProxyClass(dataSource.getClass())
+                && Proxy.getInvocationHandler(dataSource) instanceof CountingHandler) {
+            return dataSource;
+        }
+        // 풀이 Closeable이면 프록시도 Closeable로 만들어 컨텍스트 종료 시 close()가 호출되도록 함
+        Class<?>[] interfaces = dataSource instanceof AutoCloseable
+                ? new Class<?>[]{DataSource.class, AutoCloseable.class}
+                : new Class<?>[]{DataSource.class};
+        return (DataSource) Proxy.newProxyInstance(
+                StatementCountingDataSource.class.getClassLoader(), interfaces, new CountingHandler(dataSource));
+    }
+
+    private static final class CountingHandler implements InvocationHandler {
+
+        private final Object target;
+
+        private CountingHandler(Object target) {
+            this.target = target;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            String name = method.getName();
+            switch (name) {
+                case "equals":
+                    return proxy == args[0];
+                case "hashCode":
+                    return System.identityHashCode(proxy);
+                case "toString":
+                    return target.toString();
+                default:
+                    break;
+            }
+
+            // execute, executeQuery, executeUpdate, executeBatch, executeLarge* (배치는 왕복 한 번으로 셈)
+            if (target instanceof Statement && name.startsWith("execute")) {
+                RequestStatistics.statementExecuted();
+            }
+
+            Object result;
+            try {
+                result = method.invoke(target, args);
+            } catch (InvocationTargetException e) {
+                throw e.getCause();
+            }
+
+            if (result instanceof Connection || result instanceof Statement) {
+                if (!name.equals("unwrap")) {
+                    return Proxy.newProxyInstance(StatementCountingDataSource.class.getClassLoader(),
+                            new Class<?>[]{method.getReturnType()}, new CountingHandler(result));
+                }
+            }
+            return result;
+        }
+    }
+}
@@ -0,0 +1,302 @@
+package com.sikgu.sikgubackend.notification;
+
+import com.sikgu.sikgubackend.dto.NotificationDto;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 사용자별 SSE 연결을 관리하고 알림을 전달합니다.
+ * 연결마다 크기가 제한된 대기열을 두고, 가득 차면 가장 오래된 알림부터 버립니다. (버려진 알림은 알림함에서 조회 가능)
+ * 대기열은 보낼 알림이 있을 때만 만들어지므로 유휴 연결은 emitter와 작은 객체 하나만 차지합니다.
+ * <p>
+ * {@link #flush()}와 {@link #heartbeat()}는 보낼 것이 있는 연결을 골라 전송 작업을 맡기기만 하고,
+ * 실제 전송(블로킹 쓰기)은 크기가 제한된 전용 전송 풀에서 연결마다 하나의 작업으로 순서대로 실행합니다.
+ * 그래서 TCP 창이 가득 찬 클라이언트 하나가 스케줄러 스레드나 다른 사용자의 전송을 붙잡지 않습니다.
+ * 쓰기가 막혀 있는 동안 대기열이 넘친 연결은 따라오지 못하는 것으로 보고 닫습니다. (다시 연결하면 알림함에서 조회)
+ * 전송 풀의 대기열이 가득 차면 남은 연결은 다음 주기에 다시 맡깁니다.
+ */
+@Slf4j
+@Component
+public class NotificationHub {
+
+    private final ConcurrentHashMap<Long, CopyOnWriteArrayList<Connection>> connections = new ConcurrentHashMap<>();
+
+    // 전송할 알림이 쌓인 연결
+    private final Set<Connection> dirty = ConcurrentHashMap.newKeySet();
+
+    private final AtomicInteger connectionCount = new AtomicInteger();
+    private final AtomicLong droppedCount = new AtomicLong();
+
+    private final int queueCapacity;
+    private final int maxConnectionsPerUser;
+    private final long streamTimeoutMillis;
+    private final ThreadPoolExecutor sendExecutor;
+
+    public NotificationHub(@Value("${notification.queue-capacity:32}") int queueCapacity,
+                           @Value("${notification.max-connections-per-user:3}") int maxConnectionsPerUser,
+                           @Value("${notification.stream-timeout-ms:1800000}") long streamTimeoutMillis,
+                           @Value("${notification.send-threads:4}") int sendThreads,
+                           @Value("${notification.send-queue-capacity:10000}") int sendQueueCapacity) {
+        this.queueCapacity = queueCapacity;
+        this.maxConnectionsPerUser = maxConnectionsPerUser;
+        this.streamTimeoutMillis = streamTimeoutMillis;
+
+        AtomicInteger sequence = new AtomicInteger();
+        this.sendExecutor = new ThreadPoolExecutor(
+                sendThreads, sendThreads,
+                0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(sendQueueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "sse-send-" + sequence.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy()
+        );
+    }
+
+    public SseEmitter connect(Long userId) {
+        SseEmitter emitter = new SseEmitter(streamTimeoutMillis);
+        Connection connection = new Connection(userId, emitter);
+
+        emitter.onCompletion(() -> remove(connection));
+        emitter.onTimeout(() -> {
+            remove(connection);
+            emitter.complete();
+        });
+        emitter.onError(e -> remove(connection));
+
+        // 목록 생성/추가와 연결 수 제한을 키 단위로 원자적으로 처리
+        // (동시에 마지막 연결이 제거되어 목록이 맵에서 빠져도 새 연결이 버려진 목록에 추가되지 않음)
+        List<Connection> evicted = new ArrayList<>(1);
+        connections.compute(userId, (id, userConnections) -> {
+            CopyOnWriteArrayList<Connection> updated =
+                    userConnections == null ? new CopyOnWriteArrayList<>() : userConnections;
+            updated.add(connection);
+            // 사용자당 연결 수 제한 (가장 오래된 연결부터 종료)
+            while (updated.size() > maxConnectionsPerUser) {
+                evicted.add(updated.remove(0));
+            }
+            return updated;
+        });
+        connectionCount.addAndGet(1 - evicted.size());
+        for (Connection oldest : evicted) {
+            dirty.remove(oldest);
+            oldest.emitter.complete();
+        }
+
+        // 연결 직후 응답 헤더를 바로 내려보내기 위한 주석 이벤트
+        send(connection, SseEmitter.event().comment("connected"));
+        return emitter;
+    }
+
+    // 사용자의 모든 연결 대기열에 추가 (실제 전송은 flush가 맡긴 전송 작업에서)
+    public void publish(Long userId, NotificationDto notification) {
+        List<Connection> userConnections = connections.get(userId);
+        if (userConnections == null) {
+            return;
+        }
+        for (Connection connection : userConnections) {
+            if (!connection.offer(notification, queueCapacity)) {
+                droppedCount.incrementAndGet();
+                if (connection.sending) {
+                    closeStalled(connection);
+                    continue;
+                }
+            }
+            dirty.add(connection);
+        }
+    }
+
+    // 보낼 것이 있는 연결마다 전송 작업을 하나씩 맡김 (이미 작업이 있는 연결은 그 작업이 이어서 보냄)
+    public void flush() {
+        Iterator<Connection> iterator = dirty.iterator();
+        while (iterator.hasNext()) {
+            Connection connection = iterator.next();
+            if (!connection.trySchedule()) {
+                iterator.remove();
+                continue;
+            }
+            try {
+                sendExecutor.execute(() -> sendPending(connection));
+                iterator.remove();
+            } catch (RejectedExecutionException e) {
+                // 전송 풀이 밀려 있으면 남은 연결은 다음 주기에 다시 시도
+                connection.unschedule();
+                break;
+            }
+        }
+    }
+
+    // 끊어진 연결을 감지하고 프록시의 유휴 연결 종료를 막기 위한 주기적 주석 이벤트 (전송은 flush에서 맡김)
+    @Scheduled(fixedDelayString = "${notification.heartbeat-ms:25000}")
+    public void heartbeat() {
+        for (List<Connection> userConnections : connections.values()) {
+            for (Connection connection : userConnections) {
+                connection.requestPing();
+                dirty.add(connection);
+            }
+        }
+    }
+
+    public int getConnectionCount() {
+        return connectionCount.get();
+    }
+
+    public long getDroppedCount() {
+        return droppedCount.get();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        sendExecutor.shutdownNow();
+    }
+
+    // 전송 풀에서 실행 (연결마다 한 번에 하나만 실행되며, 보낼 것이 없어질 때까지 이어서 보냄)
+    private void sendPending(Connection connection) {
+        do {
+            if (connection.takePing() && !send(connection, SseEmitter.event().comment("ping"))) {
+                return;
+            }
+            for (NotificationDto notification : connection.drain()) {
+                if (!send(connection, SseEmitter.event()
+                        .name("notification")
+                        .data(notification, MediaType.APPLICATION_JSON))) {
+                    return;
+                }
+            }
+        } while (!connection.finishIfIdle());
+    }
+
+    // 쓰기가 막힌 연결은 목록에서만 먼저 빼고, emitter 종료는 막혀 있는 전송 스레드가 쓰기를 마친 뒤 처리
+    private void closeStalled(Connection connection) {
+        log.debug("SSE 전송이 밀려 연결 종료: userId={}", connection.userId);
+        connection.closed = true;
+        remove(connection);
+    }
+
+    private boolean send(Connection connection, SseEmitter.SseEventBuilder event) {
+        if (connection.closed) {
+            connection.emitter.complete();
+            return false;
+        }
+        connection.sending = true;
+        try {
+            connection.emitter.send(event);
+            return true;
+        } catch (IOException | IllegalStateException e) {
+            // 클라이언트가 연결을 끊었거나 이미 완료된 emitter
+            log.debug("SSE 전송 실패, 연결 제거: userId={}", connection.userId);
+            remove(connection);
+            connection.emitter.completeWithError(e);
+            return false;
+        } finally {
+            connection.sending = false;
+        }
+    }
+
+    private void remove(Connection connection) {
+        dirty.remove(connection);
+        connections.computeIfPresent(connection.userId, (userId, userConnections) -> {
+            if (userConnections.remove(connection)) {
+                connectionCount.decrementAndGet();
+            }
+            return userConnections.isEmpty() ? null : userConnections;
+        });
+    }
+
+    private static final class Connection {
+
+        private final Long userId;
+        private final SseEmitter emitter;
+
+        // 보낼 알림이 있을 때만 생성
+        private ArrayDeque<NotificationDto> queue;
+        private boolean pingRequested;
+        // 전송 작업이 맡겨졌거나 실행 중
+        private boolean scheduled;
+
+        // emitter.send에서 쓰기 중 / 밀려서 닫기로 함
+        private volatile boolean sending;
+        private volatile boolean closed;
+
+        private Connection(Long userId, SseEmitter emitter) {
+            this.userId = userId;
+            this.emitter = emitter;
+        }
+
+        // 대기열이 가득 차서 오래된 알림을 버렸으면 false
+        synchronized boolean offer(NotificationDto notification, int capacity) {
+            if (queue == null) {
+                queue = new ArrayDeque<>(Math.min(capacity, 4));
+            }
+            boolean dropped = false;
+            if (queue.size() >= capacity) {
+                queue.pollFirst();
+                dropped = true;
+            }
+            queue.addLast(notification);
+            return !dropped;
+        }
+
+        synchronized void requestPing() {
+            pingRequested = true;
+        }
+
+        synchronized boolean takePing() {
+            boolean requested = pingRequested;
+            pingRequested = false;
+            return requested;
+        }
+
+        synchronized boolean trySchedule() {
+            if (scheduled) {
+                return false;
+            }
+            scheduled = true;
+            return true;
+        }
+
+        synchronized void unschedule() {
+            scheduled = false;
+        }
+
+        // 보낼 것이 남아 있지 않으면 작업을 끝냄 (남아 있으면 false를 반환해 같은 작업이 이어서 보냄)
+        synchronized boolean finishIfIdle() {
+            if (queue != null || pingRequested) {
+                return false;
+            }
+            scheduled = false;
+            return true;
+        }
+
+        synchronized List<NotificationDto> drain() {
+            if (queue == null) {
+                return List.of();
+            }
+            List<NotificationDto> pending = new ArrayList<>(queue);
+            queue = null;
+            return pending;
+        }
+    }
+}
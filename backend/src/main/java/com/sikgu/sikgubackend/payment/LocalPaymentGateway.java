@@ -0,0 +1,47 @@
+package com.sikgu.sikgubackend.payment;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 로컬 개발/테스트용 PG 대체 구현.
+ * 실제 PG 호출처럼 지연 시간을 흉내 낸 뒤, 정해진 테스트 카드만 승인합니다.
+ * 지연은 스레드를 점유하지 않는 지연 실행기로 처리합니다.
+ */
+@Component
+public class LocalPaymentGateway implements PaymentGateway {
+
+    // 더미 결제를 위한 성공 가능 카드 목록
+    private static final List<String> SUCCESS_CARDS = List.of(
+            "1234567812345678",
+            "0000000000000000"
+    );
+
+    private static final String SUCCESS_CVC = "123";
+
+    private final Executor delayedExecutor;
+
+    public LocalPaymentGateway(@Value("${payment.local.latency-ms:200}") long latencyMillis) {
+        this.delayedExecutor = CompletableFuture.delayedExecutor(latencyMillis, TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public CompletableFuture<PaymentReceipt> charge(PaymentCommand command) {
+        return CompletableFuture.supplyAsync(() -> {
+            String cleanedCardNumber = command.cardNumber() == null
+                    ? ""
+                    : command.cardNumber().replaceAll("[^0-9]", "");
+
+            if (!SUCCESS_CVC.equals(command.cvc()) || !SUCCESS_CARDS.contains(cleanedCardNumber)) {
+                throw new PaymentDeclinedException("결제 정보가 유효하지 않거나 결제에 실패했습니다.");
+            }
+            return new PaymentReceipt("local-" + UUID.randomUUID(), command.amount());
+        }, delayedExecutor);
+    }
+}
@@ -0,0 +1,12 @@
+package com.sikgu.sikgubackend.payment;
+
+// 결제 요청 (orderId는 PG 측 중복 결제 방지 키로 사용)
+public record PaymentCommand(String orderId, long amount, String cardNumber, String expiryDate, String cvc,
+                             String cardHolderName) {
+
+    @Override
+    public String toString() {
+        // 카드 정보가 로그에 남지 않도록 함
+        return "PaymentCommand[orderId=" + orderId + ", amount=" + amount + "]";
+    }
+}
@@ -0,0 +1,9 @@
+package com.sikgu.sikgubackend.payment;
+
+// PG가 결제를 거절한 경우
+public class PaymentDeclinedException extends RuntimeException {
+
+    public PaymentDeclinedException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,13 @@
+package com.sikgu.sikgubackend.payment;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * 결제 대행(PG) 연동 지점.
+ * 구현체는 네트워크 호출을 비동기로 수행해야 하며, 호출 측은 DB 트랜잭션이 없는 상태에서 결과를 기다립니다.
+ * 결제가 거절되면 {@link PaymentDeclinedException}으로 완료합니다.
+ */
+public interface PaymentGateway {
+
+    CompletableFuture<PaymentReceipt> charge(PaymentCommand command);
+}
@@ -0,0 +1,5 @@
+package com.sikgu.sikgubackend.payment;
+
+// 결제 승인 결과
+public record PaymentReceipt(String transactionId, long amount) {
+}
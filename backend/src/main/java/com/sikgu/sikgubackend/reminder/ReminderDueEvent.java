@@ -0,0 +1,7 @@
+package com.sikgu.sikgubackend.reminder;
+
+import java.time.LocalDate;
+
+// 물 주기 알림 날짜가 도래했을 때 발행
+public record ReminderDueEvent(Long reminderId, Long userId, Long plantId, LocalDate dueDate) {
+}
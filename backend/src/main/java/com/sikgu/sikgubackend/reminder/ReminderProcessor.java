@@ -0,0 +1,161 @@
+package com.sikgu.sikgubackend.reminder;
+
+import com.sikgu.sikgubackend.repository.ReminderRepository;
+import com.sikgu.sikgubackend.repository.ReminderRepository.DueReminder;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 도래한 물 주기 알림을 처리하는 스케줄러.
+ * (next_date, id) 키셋으로 청크 단위 조회 후, 청크를 배치 크기로 나눠 병렬로 이벤트를 발행하고
+ * JDBC 배치 UPDATE로 다음 알림 날짜를 한 번에 갱신합니다.
+ * UPDATE는 조회 시점의 next_date가 그대로일 때만 적용되므로 다른 인스턴스와 겹쳐 실행되어도 날짜가 두 번 밀리지 않습니다.
+ */
+@Slf4j
+@Component
+public class ReminderProcessor {
+
+    private static final String ADVANCE_SQL =
+            "UPDATE reminder SET next_date = ?, last_modified_time = ? WHERE id = ? AND next_date = ?";
+
+    private final ReminderRepository reminderRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
+    private final int chunkSize;
+    private final int batchSize;
+    private final ExecutorService executor;
+
+    private final AtomicBoolean running = new AtomicBoolean();
+
+    public ReminderProcessor(ReminderRepository reminderRepository,
+                             JdbcTemplate jdbcTemplate,
+                             ApplicationEventPublisher eventPublisher,
+                             PlatformTransactionManager transactionManager,
+                             @Value("${reminder.chunk-size:2000}") int chunkSize,
+                             @Value("${reminder.batch-size:500}") int batchSize,
+                             @Value("${reminder.threads:4}") int threads) {
+        this.reminderRepository = reminderRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.eventPublisher = eventPublisher;
+        this.chunkSize = chunkSize;
+        this.batchSize = batchSize;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+
+        AtomicInteger threadCount = new AtomicInteger();
+        this.executor = Executors.newFixedThreadPool(threads, runnable -> {
+            Thread thread = new Thread(runnable, "reminder-worker-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @Scheduled(initialDelayString = "${reminder.initial-delay-ms:60000}", fixedDelayString = "${reminder.poll-delay-ms:60000}")
+    public void processDueReminders() {
+        processDue(LocalDate.now());
+    }
+
+    // 오늘까지 도래한 알림을 모두 처리하고 다음 날짜로 갱신된 건수를 반환
+    public int processDue(LocalDate today) {
+        if (!running.compareAndSet(false, true)) {
+            return 0;
+        }
+
+        long startedAt = System.nanoTime();
+        AtomicInteger advanced = new AtomicInteger();
+        try {
+            LocalDate afterDate = LocalDate.EPOCH;
+            long afterId = 0L;
+
+            while (true) {
+                List<DueReminder> chunk = reminderRepository.findDueAfter(
+                        today, afterDate, afterId, PageRequest.of(0, chunkSize));
+                if (chunk.isEmpty()) {
+                    break;
+                }
+
+                List<CompletableFuture<Void>> batches = new ArrayList<>();
+                for (int from = 0; from < chunk.size(); from += batchSize) {
+                    List<DueReminder> batch = chunk.subList(from, Math.min(from + batchSize, chunk.size()));
+                    batches.add(CompletableFuture.runAsync(() -> advanced.addAndGet(process(batch, today)), executor));
+                }
+                CompletableFuture.allOf(batches.toArray(new CompletableFuture[0])).join();
+
+                DueReminder last = chunk.get(chunk.size() - 1);
+                afterDate = last.getNextDate();
+                afterId = last.getId();
+
+                if (chunk.size() < chunkSize) {
+                    break;
+                }
+            }
+        } finally {
+            running.set(false);
+        }
+
+        long elapsedMillis = Math.max(1, (System.nanoTime() - startedAt) / 1_000_000);
+        if (advanced.get() > 0) {
+            log.info("물 주기 알림 {}건 처리 ({}ms, {}건/s)", advanced.get(), elapsedMillis, advanced.get() * 1000L / elapsedMillis);
+        }
+        return advanced.get();
+    }
+
+    private int process(List<DueReminder> batch, LocalDate today) {
+        Timestamp now = new Timestamp(System.currentTimeMillis());
+        List<Object[]> updates = new ArrayList<>(batch.size());
+        for (DueReminder reminder : batch) {
+            // 밀린 알림은 한 번만 보내고 오늘 기준으로 다음 날짜를 잡음
+            LocalDate nextDate = today.plusDays(reminder.getCycle());
+            updates.add(new Object[]{Date.valueOf(nextDate), now, reminder.getId(), Date.valueOf(reminder.getNextDate())});
+        }
+
+        // 배치 하나를 한 트랜잭션으로 커밋 (이벤트도 트랜잭션 안에서 발행해 알림함 행이 날짜 갱신과 함께 커밋되도록 함)
+        return transactionTemplate.execute(status -> {
+            int[][] results = jdbcTemplate.batchUpdate(ADVANCE_SQL, updates, updates.size(),
+                    (ps, args) -> {
+                        for (int i = 0; i < args.length; i++) {
+                            ps.setObject(i + 1, args[i]);
+                        }
+                    });
+
+            // 실제로 갱신된 알림에 대해서만 이벤트 발행 (다른 인스턴스가 먼저 처리한 건은 제외)
+            int count = 0;
+            int index = 0;
+            for (int[] result : results) {
+                for (int rows : result) {
+                    DueReminder reminder = batch.get(index++);
+                    if (rows != 0) {
+                        count++;
+                        eventPublisher.publishEvent(new ReminderDueEvent(
+                                reminder.getId(), reminder.getUserId(), reminder.getPlantId(), reminder.getNextDate()));
+                    }
+                }
+            }
+            return count;
+        });
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+}
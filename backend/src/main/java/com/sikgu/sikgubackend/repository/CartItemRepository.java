@@ -2,6 +2,15 @@ package com.sikgu.sikgubackend.repository;
 
 import com.sikgu.sikgubackend.entity.CartItem;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface CartItemRepository extends JpaRepository<CartItem, Long> {
+
+    // 읽지 않고 SQL에서 바로 수량 증가 (갱신된 행 수 반환, 0이면 항목 없음)
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE CartItem ci SET ci.quantity = ci.quantity + :amount " +
+            "WHERE ci.cart.id = :cartId AND ci.plant.id = :plantId")
+    int incrementQuantity(@Param("cartId") Long cartId, @Param("plantId") Long plantId, @Param("amount") int amount);
 }
\ No newline at end of file
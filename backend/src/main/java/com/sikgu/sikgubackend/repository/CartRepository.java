@@ -1,14 +1,45 @@
 package com.sikgu.sikgubackend.repository;
 
 import com.sikgu.sikgubackend.entity.Cart;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.util.List;
 import java.util.Optional;
 
 public interface CartRepository extends JpaRepository<Cart, Long> {
 
     @Query("SELECT c FROM Cart c JOIN c.user u WHERE u.email = :email")
     Optional<Cart> findByUserEmail(@Param("email") String email);
+
+    // 행 잠금과 함께 조회 (다른 트랜잭션이 방금 커밋한 장바구니도 보임)
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT c FROM Cart c JOIN c.user u WHERE u.email = :email")
+    Optional<Cart> findLockedByUserEmail(@Param("email") String email);
+
+    // 버전을 증가시키며 장바구니 행을 잠금 (같은 장바구니에 대한 동시 추가를 직렬화)
+    @Modifying
+    @Query("UPDATE Cart c SET c.version = c.version + 1 WHERE c.id = :cartId")
+    int incrementVersion(@Param("cartId") Long cartId);
+
+    // 장바구니와 항목, 항목의 식물까지 한 번에 조회 (일괄 변경용)
+    @Query("SELECT c FROM Cart c JOIN c.user u LEFT JOIN FETCH c.items i LEFT JOIN FETCH i.plant " +
+            "WHERE u.email = :email ORDER BY i.id")
+    Optional<Cart> findWithItemsByUserEmail(@Param("email") String email);
+
+    // 장바구니 항목의 식물 ID와 수량만 조회 (식물 정보는 카탈로그 스냅샷에서 조회)
+    @Query("SELECT ci.plant.id AS plantId, ci.quantity AS quantity " +
+            "FROM CartItem ci JOIN ci.cart c JOIN c.user u " +
+            "WHERE u.email = :email ORDER BY ci.id")
+    List<CartLine> findLinesByUserEmail(@Param("email") String email);
+
+    interface CartLine {
+        Long getPlantId();
+
+        int getQuantity();
+    }
 }
\ No newline at end of file
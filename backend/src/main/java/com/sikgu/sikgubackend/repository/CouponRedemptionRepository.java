@@ -0,0 +1,12 @@
+package com.sikgu.sikgubackend.repository;
+
+import com.sikgu.sikgubackend.entity.CouponRedemption;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface CouponRedemptionRepository extends JpaRepository<CouponRedemption, Long> {
+
+    @Query("SELECT COUNT(r) FROM CouponRedemption r WHERE r.coupon.id = :couponId AND r.user.id = :userId")
+    long countByCouponIdAndUserId(@Param("couponId") Long couponId, @Param("userId") Long userId);
+}
@@ -0,0 +1,11 @@
+package com.sikgu.sikgubackend.repository;
+
+import com.sikgu.sikgubackend.entity.Coupon;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.Optional;
+
+public interface CouponRepository extends JpaRepository<Coupon, Long> {
+
+    Optional<Coupon> findByCode(String code);
+}
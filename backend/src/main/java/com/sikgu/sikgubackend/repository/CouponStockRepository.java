@@ -0,0 +1,21 @@
+package com.sikgu.sikgubackend.repository;
+
+import com.sikgu.sikgubackend.entity.CouponStock;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+
+public interface CouponStockRepository extends JpaRepository<CouponStock, Long> {
+
+    @Query("SELECT s FROM CouponStock s WHERE s.coupon.id = :couponId ORDER BY s.shard")
+    List<CouponStock> findByCouponId(@Param("couponId") Long couponId);
+
+    // 남은 횟수가 있을 때만 1 감소 (0이면 갱신되지 않음)
+    @Modifying
+    @Query("UPDATE CouponStock s SET s.remaining = s.remaining - 1 " +
+            "WHERE s.coupon.id = :couponId AND s.shard = :shard AND s.remaining > 0")
+    int decrement(@Param("couponId") Long couponId, @Param("shard") int shard);
+}
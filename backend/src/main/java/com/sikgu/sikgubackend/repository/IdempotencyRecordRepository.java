@@ -0,0 +1,32 @@
+package com.sikgu.sikgubackend.repository;
+
+import com.sikgu.sikgubackend.entity.IdempotencyRecord;
+import com.sikgu.sikgubackend.entity.enums.IdempotencyStatus;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.util.Optional;
+
+public interface IdempotencyRecordRepository extends JpaRepository<IdempotencyRecord, Long> {
+
+    Optional<IdempotencyRecord> findByIdempotencyKey(String idempotencyKey);
+
+    // 임대가 만료된 IN_PROGRESS 기록을 원자적으로 이어받음 (1이면 성공)
+    @Transactional
+    @Modifying
+    @Query("UPDATE IdempotencyRecord r SET r.leaseExpiresAt = :leaseExpiresAt " +
+            "WHERE r.idempotencyKey = :idempotencyKey AND r.status = :status AND r.leaseExpiresAt < :now")
+    int takeOverExpiredLease(@Param("idempotencyKey") String idempotencyKey,
+                             @Param("status") IdempotencyStatus status,
+                             @Param("now") Timestamp now,
+                             @Param("leaseExpiresAt") Timestamp leaseExpiresAt);
+
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM IdempotencyRecord r WHERE r.creationTime < :before")
+    int deleteCreatedBefore(@Param("before") Timestamp before);
+}
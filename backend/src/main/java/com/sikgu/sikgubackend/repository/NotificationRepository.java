@@ -0,0 +1,20 @@
+package com.sikgu.sikgubackend.repository;
+
+import com.sikgu.sikgubackend.dto.NotificationDto;
+import com.sikgu.sikgubackend.entity.Notification;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+
+public interface NotificationRepository extends JpaRepository<Notification, Long> {
+
+    // 최신순 알림함 조회 (id 기준 커서, idx_notification_user_id_id 사용)
+    @Query("SELECT new com.sikgu.sikgubackend.dto.NotificationDto(n.id, n.type, n.message, n.read, n.creationTime) " +
+            "FROM Notification n " +
+            "WHERE n.user.id = :userId AND n.id < :beforeId " +
+            "ORDER BY n.id DESC")
+    List<NotificationDto> findInbox(@Param("userId") Long userId, @Param("beforeId") long beforeId, Pageable pageable);
+}
@@ -0,0 +1,39 @@
+package com.sikgu.sikgubackend.repository;
+
+import com.sikgu.sikgubackend.entity.PlantRatingSummary;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+
+public interface PlantRatingSummaryRepository extends JpaRepository<PlantRatingSummary, Long> {
+
+    // 집계 행에 증감 반영 (행이 없으면 0 반환, 영속성 컨텍스트의 이전 집계 값이 남지 않도록 clear)
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE PlantRatingSummary s SET " +
+            "s.reviewCount = s.reviewCount + :countDelta, " +
+            "s.ratingSum = s.ratingSum + :sumDelta, " +
+            "s.count1 = s.count1 + :delta1, " +
+            "s.count2 = s.count2 + :delta2, " +
+            "s.count3 = s.count3 + :delta3, " +
+            "s.count4 = s.count4 + :delta4, " +
+            "s.count5 = s.count5 + :delta5 " +
+            "WHERE s.plantId = :plantId")
+    int applyDelta(@Param("plantId") Long plantId,
+                   @Param("countDelta") long countDelta,
+                   @Param("sumDelta") long sumDelta,
+                   @Param("delta1") long delta1,
+                   @Param("delta2") long delta2,
+                   @Param("delta3") long delta3,
+                   @Param("delta4") long delta4,
+                   @Param("delta5") long delta5);
+
+    // 평균 별점 순 (리뷰 수가 minReviews 이상인 식물만, 식물 수만큼의 집계 행만 읽음)
+    @Query("SELECT s FROM PlantRatingSummary s " +
+            "WHERE s.reviewCount >= :minReviews AND s.reviewCount > 0 " +
+            "ORDER BY (s.ratingSum * 1.0 / s.reviewCount) DESC, s.reviewCount DESC, s.plantId")
+    List<PlantRatingSummary> findTopRated(@Param("minReviews") long minReviews, Pageable pageable);
+}
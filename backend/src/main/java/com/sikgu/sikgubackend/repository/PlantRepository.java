@@ -1,7 +1,35 @@
 package com.sikgu.sikgubackend.repository;
 
+import com.sikgu.sikgubackend.dto.PlantSummaryDto;
 import com.sikgu.sikgubackend.entity.Plant;
+import com.sikgu.sikgubackend.entity.enums.PlantCondition;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+import java.util.List;
 
 public interface PlantRepository extends JpaRepository<Plant, Long> {
+
+    // id 기준 키셋 페이지네이션 (OFFSET 없이 cursor 이후 행만 조회하므로 페이지 깊이와 무관)
+    @Query("SELECT new com.sikgu.sikgubackend.dto.PlantSummaryDto(" +
+            "p.id, p.name, p.price, p.cycle, p.light, p.humidity, p.temp, p.plantImageURL) " +
+            "FROM Plant p " +
+            "WHERE p.id > :cursor " +
+            "AND (:light IS NULL OR p.light = :light) " +
+            "AND (:humidity IS NULL OR p.humidity = :humidity) " +
+            "AND (:temp IS NULL OR p.temp = :temp) " +
+            "ORDER BY p.id")
+    List<PlantSummaryDto> findSummariesAfter(@Param("cursor") long cursor,
+                                             @Param("light") PlantCondition light,
+                                             @Param("humidity") PlantCondition humidity,
+                                             @Param("temp") PlantCondition temp,
+                                             Pageable pageable);
+
+    @Query("SELECT new com.sikgu.sikgubackend.dto.PlantSummaryDto(" +
+            "p.id, p.name, p.price, p.cycle, p.light, p.humidity, p.temp, p.plantImageURL) " +
+            "FROM Plant p WHERE p.id IN :ids")
+    List<PlantSummaryDto> findSummariesByIdIn(@Param("ids") Collection<Long> ids);
 }
@@ -1,7 +1,32 @@
-//package com.sikgu.sikgubackend.repository;
-//
-//import com.sikgu.sikgubackend.entity.Reminder;
-//import org.springframework.data.jpa.repository.JpaRepository;
-//
-//public interface ReminderRepository extends JpaRepository<Reminder, Long> {
-//}
+package com.sikgu.sikgubackend.repository;
+
+import com.sikgu.sikgubackend.entity.Reminder;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDate;
+import java.util.List;
+
+public interface ReminderRepository extends JpaRepository<Reminder, Long> {
+
+    // 오늘까지 도래한 알림을 (nextDate, id) 순서로 커서 다음부터 조회 (idx_reminder_next_date_id 사용)
+    @Query("SELECT r.id AS id, r.user.id AS userId, r.plant.id AS plantId, r.cycle AS cycle, r.nextDate AS nextDate " +
+            "FROM Reminder r " +
+            "WHERE r.nextDate <= :today " +
+            "AND (r.nextDate > :afterDate OR (r.nextDate = :afterDate AND r.id > :afterId)) " +
+            "ORDER BY r.nextDate, r.id")
+    List<DueReminder> findDueAfter(@Param("today") LocalDate today,
+                                   @Param("afterDate") LocalDate afterDate,
+                                   @Param("afterId") long afterId,
+                                   Pageable pageable);
+
+    interface DueReminder {
+        Long getId();
+        Long getUserId();
+        Long getPlantId();
+        Integer getCycle();
+        LocalDate getNextDate();
+    }
+}
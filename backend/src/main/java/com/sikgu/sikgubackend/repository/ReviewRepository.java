@@ -2,6 +2,19 @@ package com.sikgu.sikgubackend.repository;
 
 import com.sikgu.sikgubackend.entity.Review;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Optional;
 
 public interface ReviewRepository extends JpaRepository<Review, Long> {
+
+    @Query("SELECT r FROM Review r JOIN FETCH r.user WHERE r.id = :id")
+    Optional<Review> findWithUserById(@Param("id") Long id);
+
+    // 삭제된 행 수 반환 (이미 다른 요청이 지웠으면 0)
+    @Modifying
+    @Query("DELETE FROM Review r WHERE r.id = :id")
+    int deleteReviewById(@Param("id") Long id);
 }
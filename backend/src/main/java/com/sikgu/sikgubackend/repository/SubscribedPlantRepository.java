@@ -2,6 +2,18 @@ package com.sikgu.sikgubackend.repository;
 
 import com.sikgu.sikgubackend.entity.SubscribedPlant;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Optional;
 
 public interface SubscribedPlantRepository extends JpaRepository<SubscribedPlant, Long> {
+
+    // 알림 생성 시 구독, 사용자, 식물을 한 번에 조회
+    @Query("SELECT sp FROM SubscribedPlant sp " +
+            "JOIN FETCH sp.subscription s " +
+            "JOIN FETCH s.user " +
+            "JOIN FETCH sp.plant " +
+            "WHERE sp.id = :id")
+    Optional<SubscribedPlant> findWithSubscriptionAndPlantById(@Param("id") Long id);
 }
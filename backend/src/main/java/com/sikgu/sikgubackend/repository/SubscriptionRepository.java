@@ -2,11 +2,48 @@ package com.sikgu.sikgubackend.repository;
 
 import com.sikgu.sikgubackend.entity.Subscription;
 import com.sikgu.sikgubackend.entity.User;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface SubscriptionRepository extends JpaRepository<Subscription, Long> {
 
-    Optional<Subscription> findByUserAndPaymentStatus(User user, String success);
+    // 같은 상태의 구독이 여러 개일 수 있으므로 종료일이 가장 늦은 구독 하나만 조회
+    Optional<Subscription> findFirstByUserAndPaymentStatusOrderByEndDateDesc(User user, String paymentStatus);
+
+    @Query("SELECT s FROM Subscription s JOIN FETCH s.user WHERE s.id = :id")
+    Optional<Subscription> findWithUserById(@Param("id") Long id);
+
+    // 새 기간을 결제한 사용자의 결제 대기 구독을 갱신 완료로 표시 (유예 기간이 지나도 만료 처리되지 않도록)
+    @Modifying
+    @Query("UPDATE Subscription s SET s.paymentStatus = 'RENEWED' " +
+            "WHERE s.user.id = :userId AND s.paymentStatus = 'PAYMENT_DUE'")
+    int markPaymentDueAsRenewed(@Param("userId") Long userId);
+
+    // 종료일이 도래한 구독을 (endDate, id) 순서로 커서 다음부터 조회 (idx_subscription_end_date_id 사용)
+    @Query("SELECT s.id AS id, s.user.id AS userId, s.endDate AS endDate, s.paymentStatus AS paymentStatus " +
+            "FROM Subscription s " +
+            "WHERE s.endDate <= :now " +
+            "AND s.paymentStatus IN :statuses " +
+            "AND (s.endDate > :afterDate OR (s.endDate = :afterDate AND s.id > :afterId)) " +
+            "ORDER BY s.endDate, s.id")
+    List<DueSubscription> findDueAfter(@Param("now") LocalDateTime now,
+                                       @Param("statuses") Collection<String> statuses,
+                                       @Param("afterDate") LocalDateTime afterDate,
+                                       @Param("afterId") long afterId,
+                                       Pageable pageable);
+
+    interface DueSubscription {
+        Long getId();
+        Long getUserId();
+        LocalDateTime getEndDate();
+        String getPaymentStatus();
+    }
 }
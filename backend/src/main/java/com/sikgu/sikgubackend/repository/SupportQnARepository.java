@@ -1,7 +1,30 @@
 package com.sikgu.sikgubackend.repository;
 
 import com.sikgu.sikgubackend.entity.SupportQnA;
+import com.sikgu.sikgubackend.entity.enums.Category;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+import java.util.List;
 
 public interface SupportQnARepository extends JpaRepository<SupportQnA, Long> {
+
+    // 검색 색인 구축용: id 커서 다음부터 질문/답변 본문만 조회
+    @Query("SELECT q.id AS id, q.category AS category, q.question AS question, q.answer AS answer " +
+            "FROM SupportQnA q WHERE q.id > :afterId ORDER BY q.id")
+    List<QnAText> findTextsAfter(@Param("afterId") long afterId, Pageable pageable);
+
+    @Query("SELECT q.id AS id, q.category AS category, q.question AS question, q.answer AS answer " +
+            "FROM SupportQnA q WHERE q.id IN :ids")
+    List<QnAText> findTextsByIdIn(@Param("ids") Collection<Long> ids);
+
+    interface QnAText {
+        Long getId();
+        Category getCategory();
+        String getQuestion();
+        String getAnswer();
+    }
 }
@@ -0,0 +1,7 @@
+package com.sikgu.sikgubackend.search;
+
+import java.util.Set;
+
+// 고객지원 QnA 변경이 커밋된 후 발행되는 이벤트 (트랜잭션당 한 번)
+public record QnAChangedEvent(Set<Long> qnaIds) {
+}
@@ -0,0 +1,376 @@
+package com.sikgu.sikgubackend.search;
+
+import java.text.Normalizer;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 문자 바이그램 기반의 메모리 역색인 (BM25 점수).
+ * 한국어는 띄어쓰기와 조사 때문에 단어 단위 색인이 잘 맞지 않아, 글자/숫자 연속 구간을 두 글자씩 잘라 색인합니다.
+ * (한 글자짜리 구간은 그대로 색인)
+ *
+ * 바이그램은 두 문자를 int 하나로 묶어 다루므로 색인/검색 중에 문자열을 만들지 않습니다.
+ * 문서는 내부 번호(slot)로 관리하며, 수정/삭제된 문서의 slot은 삭제 표시만 하고 검색 시 건너뜁니다.
+ * 삭제 표시가 많아지면 전체를 다시 압축합니다. 검색은 읽기 잠금, 변경은 쓰기 잠금으로 보호합니다.
+ */
+public class QnASearchIndex {
+
+    private static final float K1 = 1.2f;
+    private static final float B = 0.75f;
+
+    // 삭제된 slot 비율이 이 값을 넘으면 압축
+    private static final double COMPACT_RATIO = 0.3;
+    private static final int COMPACT_MIN_SLOTS = 1024;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    // 용어 사전 (토큰 코드 → 용어 번호, 개방 주소법. 토큰 코드는 0이 될 수 없으므로 0을 빈 칸으로 사용)
+    private int[] dictionaryCodes = new int[1024];
+    private int[] dictionaryTermIds = new int[1024];
+    private int termCount;
+
+    // 용어별 posting (slot 번호, 출현 빈도)
+    private int[][] postingSlots = new int[16][];
+    private int[][] postingFreqs = new int[16][];
+    private int[] postingSizes = new int[16];
+    private int[] documentFrequency = new int[16];
+
+    // slot별 문서 정보
+    private long[] slotDocIds = new long[16];
+    private int[] slotLengths = new int[16];
+    private int[][] slotTerms = new int[16][];
+    private final BitSet deleted = new BitSet();
+    private int deletedCount;
+    private int slotCount;
+
+    // 외부 문서 id → slot
+    private final Map<Long, Integer> slotsByDocId = new HashMap<>();
+    private long totalLength;
+
+    // 검색이 끝난 점수 배열을 재사용 (문서 수만큼의 배열을 요청 스레드마다 붙잡아 두지 않도록 코어 수만큼만 보관)
+    private final ArrayBlockingQueue<float[]> scoreBuffers =
+            new ArrayBlockingQueue<>(Runtime.getRuntime().availableProcessors());
+
+    public void upsert(long docId, String text) {
+        int[] tokens = tokenize(text);
+        Arrays.sort(tokens);
+        lock.writeLock().lock();
+        try {
+            removeInternal(docId);
+            addInternal(docId, tokens);
+            if (slotCount > COMPACT_MIN_SLOTS && deletedCount > COMPACT_RATIO * slotCount) {
+                compact();
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(long docId) {
+        lock.writeLock().lock();
+        try {
+            removeInternal(docId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return slotsByDocId.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // BM25 점수 상위 limit개 (점수 내림차순)
+    public List<SearchHit> search(String query, int limit) {
+        int[] queryTokens = Arrays.stream(tokenize(query)).distinct().toArray();
+        if (queryTokens.length == 0 || limit <= 0) {
+            return List.of();
+        }
+
+        lock.readLock().lock();
+        try {
+            int liveCount = slotsByDocId.size();
+            if (liveCount == 0) {
+                return List.of();
+            }
+            float averageLength = (float) totalLength / liveCount;
+
+            float[] scores = borrowScoreBuffer(slotCount);
+            int[] touched = new int[64];
+            int touchedCount = 0;
+
+            for (int token : queryTokens) {
+                int termId = findTerm(token);
+                if (termId < 0 || documentFrequency[termId] == 0) {
+                    continue;
+                }
+                int df = documentFrequency[termId];
+                float idf = (float) Math.log(1 + (liveCount - df + 0.5) / (df + 0.5));
+
+                int[] slots = postingSlots[termId];
+                int[] freqs = postingFreqs[termId];
+                for (int i = 0; i < postingSizes[termId]; i++) {
+                    int slot = slots[i];
+                    if (deleted.get(slot)) {
+                        continue;
+                    }
+                    float tf = freqs[i];
+                    float norm = K1 * (1 - B + B * slotLengths[slot] / averageLength);
+                    if (scores[slot] == 0f) {
+                        if (touchedCount == touched.length) {
+                            touched = Arrays.copyOf(touched, touchedCount * 2);
+                        }
+                        touched[touchedCount++] = slot;
+                    }
+                    scores[slot] += idf * tf * (K1 + 1) / (tf + norm);
+                }
+            }
+
+            // 상위 limit개를 최소 힙으로 선택 (점수가 같으면 먼저 색인된 문서 우선)
+            PriorityQueue<Long> heap = new PriorityQueue<>(Math.min(limit, touchedCount) + 1);
+            for (int i = 0; i < touchedCount; i++) {
+                int slot = touched[i];
+                long key = ((long) Float.floatToIntBits(scores[slot]) << 32) | (Integer.MAX_VALUE - slot);
+                if (heap.size() < limit) {
+                    heap.add(key);
+                } else if (key > heap.peek()) {
+                    heap.poll();
+                    heap.add(key);
+                }
+            }
+
+            SearchHit[] hits = new SearchHit[heap.size()];
+            for (int i = hits.length - 1; i >= 0; i--) {
+                long key = heap.poll();
+                int slot = Integer.MAX_VALUE - (int) key;
+                hits[i] = new SearchHit(slotDocIds[slot], scores[slot]);
+            }
+
+            for (int i = 0; i < touchedCount; i++) {
+                scores[touched[i]] = 0f;
+            }
+            scoreBuffers.offer(scores);
+            return Arrays.asList(hits);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // 글자/숫자 연속 구간을 두 글자씩 잘라 (앞 글자 << 16 | 뒤 글자) 코드로 반환 (소문자, NFC 정규화)
+    static int[] tokenize(String text) {
+        if (text == null || text.isEmpty()) {
+            return new int[0];
+        }
+        String normalized = Normalizer.normalize(text, Normalizer.Form.NFC).toLowerCase(Locale.ROOT);
+        int[] tokens = new int[normalized.length()];
+        int count = 0;
+
+        int runStart = -1;
+        for (int i = 0; i <= normalized.length(); i++) {
+            boolean inRun = i < normalized.length() && Character.isLetterOrDigit(normalized.charAt(i));
+            if (inRun && runStart < 0) {
+                runStart = i;
+            } else if (!inRun && runStart >= 0) {
+                if (i - runStart == 1) {
+                    tokens[count++] = normalized.charAt(runStart);
+                } else {
+                    for (int j = runStart; j + 2 <= i; j++) {
+                        tokens[count++] = (normalized.charAt(j) << 16) | normalized.charAt(j + 1);
+                    }
+                }
+                runStart = -1;
+            }
+        }
+        return Arrays.copyOf(tokens, count);
+    }
+
+    // sortedTokens는 정렬되어 있으므로 같은 토큰의 연속 구간 길이가 출현 빈도
+    private void addInternal(long docId, int[] sortedTokens) {
+        int slot = slotCount++;
+        ensureSlotCapacity(slotCount);
+        slotDocIds[slot] = docId;
+        slotLengths[slot] = sortedTokens.length;
+
+        int[] terms = new int[sortedTokens.length];
+        int termCountInDoc = 0;
+        for (int i = 0; i < sortedTokens.length; ) {
+            int j = i + 1;
+            while (j < sortedTokens.length && sortedTokens[j] == sortedTokens[i]) {
+                j++;
+            }
+            int termId = termId(sortedTokens[i]);
+            appendPosting(termId, slot, j - i);
+            documentFrequency[termId]++;
+            terms[termCountInDoc++] = termId;
+            i = j;
+        }
+        slotTerms[slot] = Arrays.copyOf(terms, termCountInDoc);
+
+        slotsByDocId.put(docId, slot);
+        totalLength += sortedTokens.length;
+    }
+
+    private void removeInternal(long docId) {
+        Integer slot = slotsByDocId.remove(docId);
+        if (slot == null) {
+            return;
+        }
+        deleted.set(slot);
+        deletedCount++;
+        for (int termId : slotTerms[slot]) {
+            documentFrequency[termId]--;
+        }
+        slotTerms[slot] = null;
+        totalLength -= slotLengths[slot];
+    }
+
+    // 삭제된 slot을 제거하고 번호를 다시 매김
+    private void compact() {
+        int[] remap = new int[slotCount];
+        int live = 0;
+        for (int slot = 0; slot < slotCount; slot++) {
+            if (deleted.get(slot)) {
+                remap[slot] = -1;
+                continue;
+            }
+            remap[slot] = live;
+            slotDocIds[live] = slotDocIds[slot];
+            slotLengths[live] = slotLengths[slot];
+            slotTerms[live] = slotTerms[slot];
+            slotsByDocId.put(slotDocIds[live], live);
+            live++;
+        }
+        for (int slot = live; slot < slotCount; slot++) {
+            slotTerms[slot] = null;
+        }
+
+        for (int termId = 0; termId < termCount; termId++) {
+            int[] slots = postingSlots[termId];
+            int[] freqs = postingFreqs[termId];
+            int size = 0;
+            for (int i = 0; i < postingSizes[termId]; i++) {
+                int mapped = remap[slots[i]];
+                if (mapped >= 0) {
+                    slots[size] = mapped;
+                    freqs[size] = freqs[i];
+                    size++;
+                }
+            }
+            postingSizes[termId] = size;
+        }
+
+        slotCount = live;
+        deleted.clear();
+        deletedCount = 0;
+    }
+
+    private int findTerm(int code) {
+        int mask = dictionaryCodes.length - 1;
+        for (int i = mix(code) & mask; ; i = (i + 1) & mask) {
+            if (dictionaryCodes[i] == code) {
+                return dictionaryTermIds[i];
+            }
+            if (dictionaryCodes[i] == 0) {
+                return -1;
+            }
+        }
+    }
+
+    private int termId(int code) {
+        int mask = dictionaryCodes.length - 1;
+        int i = mix(code) & mask;
+        while (dictionaryCodes[i] != 0) {
+            if (dictionaryCodes[i] == code) {
+                return dictionaryTermIds[i];
+            }
+            i = (i + 1) & mask;
+        }
+
+        int termId = termCount++;
+        dictionaryCodes[i] = code;
+        dictionaryTermIds[i] = termId;
+        if (termCount * 2 > dictionaryCodes.length) {
+            growDictionary();
+        }
+
+        if (termId == postingSlots.length) {
+            int capacity = termId * 2;
+            postingSlots = Arrays.copyOf(postingSlots, capacity);
+            postingFreqs = Arrays.copyOf(postingFreqs, capacity);
+            postingSizes = Arrays.copyOf(postingSizes, capacity);
+            documentFrequency = Arrays.copyOf(documentFrequency, capacity);
+        }
+        postingSlots[termId] = new int[4];
+        postingFreqs[termId] = new int[4];
+        return termId;
+    }
+
+    private void growDictionary() {
+        int[] oldCodes = dictionaryCodes;
+        int[] oldTermIds = dictionaryTermIds;
+        dictionaryCodes = new int[oldCodes.length * 2];
+        dictionaryTermIds = new int[oldCodes.length * 2];
+        int mask = dictionaryCodes.length - 1;
+        for (int j = 0; j < oldCodes.length; j++) {
+            if (oldCodes[j] == 0) {
+                continue;
+            }
+            int i = mix(oldCodes[j]) & mask;
+            while (dictionaryCodes[i] != 0) {
+                i = (i + 1) & mask;
+            }
+            dictionaryCodes[i] = oldCodes[j];
+            dictionaryTermIds[i] = oldTermIds[j];
+        }
+    }
+
+    private static int mix(int code) {
+        int h = code * 0x9E3779B9;
+        return h ^ (h >>> 16);
+    }
+
+    private void appendPosting(int termId, int slot, int frequency) {
+        int size = postingSizes[termId];
+        if (size == postingSlots[termId].length) {
+            postingSlots[termId] = Arrays.copyOf(postingSlots[termId], size * 2);
+            postingFreqs[termId] = Arrays.copyOf(postingFreqs[termId], size * 2);
+        }
+        postingSlots[termId][size] = slot;
+        postingFreqs[termId][size] = frequency;
+        postingSizes[termId] = size + 1;
+    }
+
+    private void ensureSlotCapacity(int required) {
+        if (required <= slotDocIds.length) {
+            return;
+        }
+        int capacity = Math.max(required, slotDocIds.length * 2);
+        slotDocIds = Arrays.copyOf(slotDocIds, capacity);
+        slotLengths = Arrays.copyOf(slotLengths, capacity);
+        slotTerms = Arrays.copyOf(slotTerms, capacity);
+    }
+
+    // 보관 중인 점수 배열을 꺼내고, 없거나 작으면 새로 만듦
+    // (사용 후 건드린 칸만 0으로 되돌려 반납하며, 보관 칸이 가득 차 있으면 버림)
+    private float[] borrowScoreBuffer(int required) {
+        float[] buffer = scoreBuffers.poll();
+        if (buffer == null || buffer.length < required) {
+            buffer = new float[Math.max(required, 1024)];
+        }
+        return buffer;
+    }
+
+    public record SearchHit(long docId, float score) {
+    }
+}
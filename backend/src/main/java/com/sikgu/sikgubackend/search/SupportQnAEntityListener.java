@@ -0,0 +1,30 @@
+package com.sikgu.sikgubackend.search;
+
+import com.sikgu.sikgubackend.entity.SupportQnA;
+import com.sikgu.sikgubackend.transaction.AfterCommit;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import org.springframework.context.ApplicationEventPublisher;
+
+/**
+ * SupportQnA 변경을 모아 두었다가 트랜잭션 커밋 후 {@link QnAChangedEvent}를 한 번 발행합니다.
+ * 롤백된 변경은 발행하지 않습니다.
+ */
+public class SupportQnAEntityListener {
+
+    private static final Object RESOURCE_KEY = SupportQnAEntityListener.class.getName() + ".changedIds";
+
+    private final ApplicationEventPublisher eventPublisher;
+
+    public SupportQnAEntityListener(ApplicationEventPublisher eventPublisher) {
+        this.eventPublisher = eventPublisher;
+    }
+
+    @PostPersist
+    @PostUpdate
+    @PostRemove
+    public void onChange(SupportQnA qna) {
+        AfterCommit.collect(RESOURCE_KEY, qna.getId(), ids -> eventPublisher.publishEvent(new QnAChangedEvent(ids)));
+    }
+}
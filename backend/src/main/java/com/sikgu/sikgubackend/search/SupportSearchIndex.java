@@ -0,0 +1,84 @@
+package com.sikgu.sikgubackend.search;
+
+import com.sikgu.sikgubackend.repository.SupportQnARepository;
+import com.sikgu.sikgubackend.repository.SupportQnARepository.QnAText;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 고객지원 QnA 검색 색인.
+ * 애플리케이션 시작 시 전체 QnA를 id 순서로 나눠 읽어 색인하고,
+ * 이후에는 커밋된 변경분({@link QnAChangedEvent})만 반영합니다.
+ */
+@Slf4j
+@Component
+public class SupportSearchIndex {
+
+    private final SupportQnARepository supportQnARepository;
+    private final int loadBatchSize;
+
+    private final QnASearchIndex index = new QnASearchIndex();
+
+    private volatile boolean loaded;
+
+    public SupportSearchIndex(SupportQnARepository supportQnARepository,
+                              @Value("${search.load-batch-size:5000}") int loadBatchSize) {
+        this.supportQnARepository = supportQnARepository;
+        this.loadBatchSize = loadBatchSize;
+    }
+
+    public List<QnASearchIndex.SearchHit> search(String query, int limit) {
+        return index.search(query, limit);
+    }
+
+    // 최초 색인이 끝나기 전에는 결과가 비어 있을 수 있음
+    public boolean isLoaded() {
+        return loaded;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        long startedAt = System.currentTimeMillis();
+        long afterId = 0L;
+        while (true) {
+            List<QnAText> texts = supportQnARepository.findTextsAfter(afterId, PageRequest.of(0, loadBatchSize));
+            for (QnAText text : texts) {
+                index.upsert(text.getId(), documentOf(text));
+            }
+            if (texts.size() < loadBatchSize) {
+                break;
+            }
+            afterId = texts.get(texts.size() - 1).getId();
+        }
+        loaded = true;
+        log.info("QnA 검색 색인 완료: {}건, {}ms", index.size(), System.currentTimeMillis() - startedAt);
+    }
+
+    // 커밋 이후 호출되므로 새 트랜잭션에서 변경된 행만 다시 읽음 (없으면 삭제된 것)
+    @EventListener
+    @Transactional(propagation = Propagation.REQUIRES_NEW, readOnly = true)
+    public void onQnAChanged(QnAChangedEvent event) {
+        Set<Long> remaining = new HashSet<>(event.qnaIds());
+        for (QnAText text : supportQnARepository.findTextsByIdIn(event.qnaIds())) {
+            index.upsert(text.getId(), documentOf(text));
+            remaining.remove(text.getId());
+        }
+        remaining.forEach(index::remove);
+    }
+
+    private static String documentOf(QnAText text) {
+        String question = text.getQuestion() == null ? "" : text.getQuestion();
+        String answer = text.getAnswer() == null ? "" : text.getAnswer();
+        return question + "\n" + answer;
+    }
+}
@@ -0,0 +1,61 @@
+package com.sikgu.sikgubackend.security.jwt.cache;
+
+import com.sikgu.sikgubackend.cache.BoundedCache;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.function.Function;
+
+/**
+ * JWT 필터가 매 요청마다 DB에서 사용자를 조회하지 않도록 인증 주체(UserDetails)를 잠시 보관하는 캐시.
+ * 항목은 TTL이 지나면 만료되고, 최대 크기를 넘으면 만료 항목부터 정리합니다.
+ * 사용자 정보나 권한이 바뀌면 {@link #invalidate(String)}를 호출해야 합니다.
+ */
+@Component
+public class PrincipalCache {
+
+    private final BoundedCache<String, UserDetails> entries;
+    private final long ttlMillis;
+
+    public PrincipalCache(@Value("${jwt.principal-cache.ttl-seconds:60}") long ttlSeconds,
+                          @Value("${jwt.principal-cache.max-size:10000}") int maxSize) {
+        this.ttlMillis = ttlSeconds * 1000;
+        // TTL이 0 이하이면 캐시하지 않음
+        this.entries = new BoundedCache<>(ttlMillis > 0 ? maxSize : 0);
+    }
+
+    // 캐시에 있으면 반환하고, 없거나 만료되었으면 loader로 조회 후 저장
+    public UserDetails get(String username, Function<String, UserDetails> loader) {
+        UserDetails cached = entries.get(username);
+        if (cached != null) {
+            return cached;
+        }
+
+        // 조회 중에 무효화되었으면 저장하지 않음
+        long stamp = entries.stamp();
+        UserDetails loaded = loader.apply(username);
+        UserDetails principal = principalOf(loaded.getUsername(), loaded.getAuthorities());
+        entries.put(username, principal, System.currentTimeMillis() + ttlMillis, stamp);
+        return principal;
+    }
+
+    // 사용자 정보 또는 권한 변경 시 호출
+    public void invalidate(String username) {
+        entries.invalidate(username);
+    }
+
+    public void invalidateAll() {
+        entries.invalidateAll();
+    }
+
+    // 인증 이후에는 비밀번호가 필요 없으므로 사용자 이름과 권한만 가진 주체를 만듭니다.
+    public static UserDetails principalOf(String username, Collection<? extends GrantedAuthority> authorities) {
+        return org.springframework.security.core.userdetails.User.withUsername(username)
+                .password("")
+                .authorities(authorities)
+                .build();
+    }
+}
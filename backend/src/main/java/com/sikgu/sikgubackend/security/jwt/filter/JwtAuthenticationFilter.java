@@ -1,10 +1,16 @@
 package com.sikgu.sikgubackend.security.jwt.filter;
 
+import com.sikgu.sikgubackend.security.jwt.cache.PrincipalCache;
+import io.jsonwebtoken.JwtException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.AuthorityUtils;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
@@ -12,17 +18,43 @@ import org.springframework.security.web.authentication.WebAuthenticationDetailsS
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 import com.sikgu.sikgubackend.security.jwt.util.JwtTokenUtil;
+import com.sikgu.sikgubackend.security.jwt.util.VerifiedToken;
 import java.io.IOException;
+import java.util.concurrent.TimeUnit;
 
 @Component
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private final JwtTokenUtil jwtTokenUtil;
     private final UserDetailsService userDetailsService;
+    private final PrincipalCache principalCache;
 
-    public JwtAuthenticationFilter(JwtTokenUtil jwtTokenUtil, UserDetailsService userDetailsService) {
+    // true이면 토큰에 서명된 role 클레임을 그대로 신뢰하고 DB를 조회하지 않습니다.
+    // (권한 변경은 기존 토큰이 만료될 때까지 반영되지 않음)
+    private final boolean trustSignedClaims;
+
+    // 토큰 검증 시간 (캐시 적중 포함, 결과별)
+    private final Timer verifySuccessTimer;
+    private final Timer verifyFailureTimer;
+
+    public JwtAuthenticationFilter(JwtTokenUtil jwtTokenUtil, UserDetailsService userDetailsService,
+                                   PrincipalCache principalCache,
+                                   @Value("${jwt.trust-signed-claims:false}") boolean trustSignedClaims,
+                                   MeterRegistry meterRegistry) {
         this.jwtTokenUtil = jwtTokenUtil;
         this.userDetailsService = userDetailsService;
+        this.principalCache = principalCache;
+        this.trustSignedClaims = trustSignedClaims;
+        this.verifySuccessTimer = verifyTimer(meterRegistry, "success");
+        this.verifyFailureTimer = verifyTimer(meterRegistry, "failure");
+    }
+
+    private static Timer verifyTimer(MeterRegistry meterRegistry, String outcome) {
+        return Timer.builder("jwt.verify")
+                .description("JWT 서명/만료 검증 시간")
+                .tag("outcome", outcome)
+                .publishPercentileHistogram()
+                .register(meterRegistry);
     }
 
     @Override
@@ -36,21 +68,19 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         }
 
         final String authHeader = request.getHeader("Authorization");
-        String username = null;
-        String jwt = null;
+        VerifiedToken token = null;
 
-        // 헤더에서 'Bearer' 토큰 추출
+        // 헤더에서 'Bearer' 토큰 추출 후 한 번만 검증 (서명 + 만료)
         if (authHeader != null && authHeader.startsWith("Bearer ")) {
-            jwt = authHeader.substring(7);
-            username = jwtTokenUtil.extractUsername(jwt);
+            token = verify(authHeader.substring(7));
         }
 
         // 사용자 이름이 있고, SecurityContext에 인증 정보가 없는 경우에만 인증 처리
-        if (username != null && SecurityContextHolder.getContext().getAuthentication() == null) {
-            UserDetails userDetails = this.userDetailsService.loadUserByUsername(username);
+        if (token != null && token.subject() != null && SecurityContextHolder.getContext().getAuthentication() == null) {
+            UserDetails userDetails = resolvePrincipal(token);
 
-            // 토큰 유효성 검증
-            if (jwtTokenUtil.validateToken(jwt, userDetails.getUsername())) {
+            // 토큰의 주체와 조회한 사용자가 일치하는지 확인
+            if (token.subject().equals(userDetails.getUsername())) {
                 UsernamePasswordAuthenticationToken authToken = new UsernamePasswordAuthenticationToken(
                         userDetails, null, userDetails.getAuthorities());
                 authToken.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
@@ -59,4 +89,24 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         }
         filterChain.doFilter(request, response);
     }
+
+    private VerifiedToken verify(String rawToken) {
+        long start = System.nanoTime();
+        try {
+            VerifiedToken verified = jwtTokenUtil.verify(rawToken);
+            verifySuccessTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            return verified;
+        } catch (JwtException | IllegalArgumentException e) {
+            verifyFailureTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            throw e;
+        }
+    }
+
+    // 인증 주체 조회: 서명된 클레임 → 캐시 → DB 순서
+    private UserDetails resolvePrincipal(VerifiedToken token) {
+        if (trustSignedClaims && token.role() != null) {
+            return PrincipalCache.principalOf(token.subject(), AuthorityUtils.createAuthorityList("ROLE_" + token.role()));
+        }
+        return principalCache.get(token.subject(), userDetailsService::loadUserByUsername);
+    }
 }
\ No newline at end of file
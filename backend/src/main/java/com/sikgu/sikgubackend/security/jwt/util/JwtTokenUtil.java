@@ -1,50 +1,122 @@
 package com.sikgu.sikgubackend.security.jwt.util;
 
+import com.sikgu.sikgubackend.cache.BoundedCache;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
 import io.jsonwebtoken.security.Keys;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
+import java.nio.charset.StandardCharsets;
 import java.security.Key;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.util.Date;
+import java.util.HexFormat;
+import java.util.concurrent.atomic.LongAdder;
 
 @Component
 public class JwtTokenUtil {
 
+    private static final String ROLE_CLAIM = "role";
+
     private final Key key;
 
-    public JwtTokenUtil(@Value("${jwt.secret}") String secret) {
+    // 파서는 불변이며 스레드 안전하므로 한 번만 생성해 재사용
+    private final JwtParser parser;
+
+    // 최근 검증한 토큰 캐시 (키: 토큰의 SHA-256 다이제스트)
+    private final BoundedCache<String, VerifiedToken> verifiedTokens;
+
+    // 메트릭 (캐시 적중 = 서명 검증 생략)
+    private final LongAdder cacheHits = new LongAdder();
+    private final LongAdder cacheMisses = new LongAdder();
+
+    public JwtTokenUtil(@Value("${jwt.secret}") String secret,
+                        @Value("${jwt.verified-cache.max-size:10000}") int verifiedCacheSize) {
         // application.properties에 설정한 비밀 키를 사용해 서명 키 생성
         this.key = Keys.hmacShaKeyFor(secret.getBytes());
+        this.parser = Jwts.parserBuilder().setSigningKey(key).build();
+        this.verifiedTokens = new BoundedCache<>(verifiedCacheSize);
     }
 
     public String generateToken(String email) {
+        return generateToken(email, null);
+    }
+
+    // role이 주어지면 서명된 클레임으로 함께 담아 필터가 DB 조회 없이 권한을 알 수 있게 합니다.
+    public String generateToken(String email, String role) {
         return Jwts.builder()
                 .setSubject(email) // 토큰의 주체(subject)로 이메일 사용
+                .claim(ROLE_CLAIM, role) // null이면 클레임이 추가되지 않음
                 .setIssuedAt(new Date(System.currentTimeMillis())) // 발행 시간
                 .setExpiration(new Date(System.currentTimeMillis() + 1000 * 60 * 60 * 10)) // 유효 기간: 10시간
                 .signWith(key, SignatureAlgorithm.HS256) // HS256 알고리즘으로 서명
                 .compact();
     }
 
+    // 토큰을 한 번만 파싱해 서명과 만료를 검증하고 클레임을 반환 (실패 시 JwtException)
+    public VerifiedToken verify(String token) {
+        String digest = digest(token);
+
+        // 만료된 토큰은 캐시에서 빠지므로 파서가 다시 검증하며 만료 예외를 던짐
+        VerifiedToken cached = verifiedTokens.get(digest);
+        if (cached != null) {
+            cacheHits.increment();
+            return cached;
+        }
+
+        cacheMisses.increment();
+        Claims claims = parser.parseClaimsJws(token).getBody();
+        Date expiration = claims.getExpiration();
+        VerifiedToken verified = new VerifiedToken(
+                claims.getSubject(),
+                claims.get(ROLE_CLAIM, String.class),
+                expiration != null ? expiration.getTime() : Long.MAX_VALUE
+        );
+
+        // 만료 시간이 없는 토큰은 캐시하지 않음
+        if (expiration != null) {
+            verifiedTokens.put(digest, verified, verified.expiresAtMillis());
+        }
+        return verified;
+    }
+
     // 토큰에서 사용자 이름을 추출하는 메소드
     public String extractUsername(String token) {
-        return Jwts.parserBuilder()
-                .setSigningKey(key).build()
-                .parseClaimsJws(token).getBody().getSubject();
+        return verify(token).subject();
+    }
+
+    // 토큰에 담긴 역할(Role)을 추출하는 메소드 (없으면 null)
+    public String extractRole(String token) {
+        return verify(token).role();
     }
 
     // 토큰의 유효성을 검증하는 메소드
     public Boolean validateToken(String token, String username) {
-        final String extractedUsername = extractUsername(token);
-        return (extractedUsername.equals(username) && !isTokenExpired(token));
+        VerifiedToken verified = verify(token);
+        return verified.subject().equals(username) && !verified.isExpired(System.currentTimeMillis());
+    }
+
+    public long getVerifiedCacheHits() {
+        return cacheHits.sum();
+    }
+
+    public long getVerifiedCacheMisses() {
+        return cacheMisses.sum();
+    }
+
+    public int getVerifiedCacheSize() {
+        return verifiedTokens.size();
     }
 
-    // 토큰 만료 여부를 확인하는 메소드
-    private Boolean isTokenExpired(String token) {
-        return Jwts.parserBuilder()
-                .setSigningKey(key).build()
-                .parseClaimsJws(token).getBody().getExpiration()
-                .before(new Date());
+    private static String digest(String token) {
+        try {
+            MessageDigest sha256 = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(sha256.digest(token.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256을 사용할 수 없습니다.", e);
+        }
     }
-}
\ No newline at end of file
+}
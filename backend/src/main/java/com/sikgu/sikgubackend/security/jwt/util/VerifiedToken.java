@@ -0,0 +1,9 @@
+package com.sikgu.sikgubackend.security.jwt.util;
+
+// 서명 검증을 통과한 토큰의 클레임 (불변)
+public record VerifiedToken(String subject, String role, long expiresAtMillis) {
+
+    public boolean isExpired(long nowMillis) {
+        return expiresAtMillis <= nowMillis;
+    }
+}
@@ -0,0 +1,157 @@
+package com.sikgu.sikgubackend.security.password;
+
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * BCrypt 해시/비교 작업 전용 스레드 풀.
+ * 로그인/회원가입 요청이 몰려도 동시에 실행되는 해시 작업 수와 대기열 길이가 제한되므로
+ * 다른 API가 CPU를 빼앗기지 않으며, 대기열이 가득 차면 즉시 {@link PasswordHashingRejectedException}을 던집니다.
+ * <p>
+ * 이미 시작된 BCrypt 연산은 인터럽트에 반응하지 않아 중간에 멈출 수 없습니다.
+ * 그래서 측정한 평균 해시 시간으로 예상 대기 시간을 계산해 제한 시간을 넘길 작업은 대기열에 넣기 전에 거절하고,
+ * 제한 시간은 예상이 빗나간 경우의 안전장치로만 사용합니다. (시간 초과 시 아직 시작하지 않은 작업만 대기열에서 제거)
+ * 대기열 크기는 스레드 수 × 제한 시간 / 평균 해시 시간을 넘지 않게 잡아야 합니다.
+ */
+@Component
+public class PasswordHashingExecutor {
+
+    private final ThreadPoolExecutor executor;
+    private final int poolSize;
+    private final long timeoutMillis;
+
+    // 메트릭
+    private final LongAdder rejectedCount = new LongAdder();
+    private final LongAdder hashCount = new LongAdder();
+    private final LongAdder hashNanosTotal = new LongAdder();
+    private final LongAccumulator hashNanosMax = new LongAccumulator(Long::max, 0);
+
+    public PasswordHashingExecutor(@Value("${security.password-hashing.threads:0}") int threads,
+                                   @Value("${security.password-hashing.queue-capacity:32}") int queueCapacity,
+                                   @Value("${security.password-hashing.timeout-ms:5000}") long timeoutMillis) {
+        int poolSize = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+        AtomicInteger sequence = new AtomicInteger();
+
+        this.executor = new ThreadPoolExecutor(
+                poolSize, poolSize,
+                0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "password-hash-" + sequence.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy()
+        );
+        this.poolSize = poolSize;
+        this.timeoutMillis = timeoutMillis;
+    }
+
+    // 해시 작업을 전용 풀에서 실행하고 결과를 기다립니다.
+    public <T> T execute(Supplier<T> task) {
+        if (exceedsTimeout()) {
+            rejectedCount.increment();
+            throw new PasswordHashingRejectedException("비밀번호 처리 요청이 많아 거부되었습니다.");
+        }
+
+        Future<T> future;
+        try {
+            future = executor.submit(() -> {
+                long start = System.nanoTime();
+                try {
+                    return task.get();
+                } finally {
+                    long elapsed = System.nanoTime() - start;
+                    hashCount.increment();
+                    hashNanosTotal.add(elapsed);
+                    hashNanosMax.accumulate(elapsed);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            rejectedCount.increment();
+            throw new PasswordHashingRejectedException("비밀번호 처리 요청이 많아 거부되었습니다.", e);
+        }
+
+        try {
+            return future.get(timeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            abandon(future);
+            rejectedCount.increment();
+            throw new PasswordHashingRejectedException("비밀번호 처리 대기 시간이 초과되었습니다.", e);
+        } catch (InterruptedException e) {
+            abandon(future);
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("비밀번호 처리 중 인터럽트가 발생했습니다.", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException("비밀번호 처리 중 오류가 발생했습니다.", e.getCause());
+        }
+    }
+
+    // 대기 중인 작업과 새 작업이 모두 끝날 때까지의 예상 시간이 제한 시간을 넘는지 (측정값이 없으면 false)
+    private boolean exceedsTimeout() {
+        long count = hashCount.sum();
+        if (count == 0) {
+            return false;
+        }
+        long averageNanos = hashNanosTotal.sum() / count;
+        long rounds = executor.getQueue().size() / poolSize + 1;
+        return rounds * averageNanos > TimeUnit.MILLISECONDS.toNanos(timeoutMillis);
+    }
+
+    // 아직 시작하지 않은 작업은 실행되지 않게 하고 대기열 자리를 비움 (실행 중인 해시는 끝까지 실행됨)
+    private void abandon(Future<?> future) {
+        future.cancel(false);
+        if (future instanceof Runnable queued) {
+            executor.remove(queued);
+        }
+    }
+
+    public int getQueueDepth() {
+        return executor.getQueue().size();
+    }
+
+    public int getActiveCount() {
+        return executor.getActiveCount();
+    }
+
+    public int getPoolSize() {
+        return executor.getMaximumPoolSize();
+    }
+
+    public long getRejectedCount() {
+        return rejectedCount.sum();
+    }
+
+    public long getHashCount() {
+        return hashCount.sum();
+    }
+
+    public long getHashNanosTotal() {
+        return hashNanosTotal.sum();
+    }
+
+    public long getHashNanosMax() {
+        return hashNanosMax.get();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+}
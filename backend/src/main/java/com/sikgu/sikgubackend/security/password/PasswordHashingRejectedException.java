@@ -0,0 +1,13 @@
+package com.sikgu.sikgubackend.security.password;
+
+// 비밀번호 해시 작업 큐가 가득 찼거나 제한 시간 안에 처리되지 못했을 때 발생 (HTTP 429로 응답)
+public class PasswordHashingRejectedException extends RuntimeException {
+
+    public PasswordHashingRejectedException(String message) {
+        super(message);
+    }
+
+    public PasswordHashingRejectedException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -1,22 +1,36 @@
 package com.sikgu.sikgubackend.service;
 
+import com.sikgu.sikgubackend.catalog.CatalogPlant;
+import com.sikgu.sikgubackend.catalog.PlantCatalog;
+import com.sikgu.sikgubackend.catalog.PlantCatalogSnapshot;
+import com.sikgu.sikgubackend.dto.CartBatchRequest;
 import com.sikgu.sikgubackend.dto.CartDto;
 import com.sikgu.sikgubackend.dto.CartItemAddRequest;
 import com.sikgu.sikgubackend.dto.CartItemDto;
+import com.sikgu.sikgubackend.dto.CartItemOperation;
 import com.sikgu.sikgubackend.entity.Cart;
 import com.sikgu.sikgubackend.entity.CartItem;
 import com.sikgu.sikgubackend.entity.Plant;
+import com.sikgu.sikgubackend.entity.User;
 import com.sikgu.sikgubackend.repository.CartItemRepository;
 import com.sikgu.sikgubackend.repository.CartRepository;
 import com.sikgu.sikgubackend.repository.PlantRepository;
 import com.sikgu.sikgubackend.repository.UserRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.LockModeType;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
-import java.util.Optional;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Service
@@ -28,37 +42,46 @@ public class CartService {
     private final UserRepository userRepository;
     private final PlantRepository plantRepository;
     private final CartItemRepository cartItemRepository;
+    private final EntityManager entityManager;
+    private final PlantCatalog plantCatalog;
 
     // 1. 장바구니 정보 조회 (GET /carts)
     @Transactional(readOnly = true)
     public CartDto getShoppingCart(String email) {
 
-        Optional<Cart> optionalCart = cartRepository.findByUserEmail(email);
+        // 항목의 식물 ID와 수량만 조회 (항목 수와 무관하게 쿼리 1회)
+        List<CartRepository.CartLine> lines = cartRepository.findLinesByUserEmail(email);
 
-        Cart cart;
-        if (optionalCart.isPresent()) {
-            cart = optionalCart.get();
-        } else {
-            // 장바구니가 없으면 새로 생성 후 반환 (쓰기 작업은 아니지만 임시 객체 반환)
-            cart = userRepository.findByEmail(email)
-                    .map(Cart::createCart)
-                    .orElseThrow(() -> new UsernameNotFoundException("사용자 정보를 찾을 수 없습니다: " + email));
+        // 항목이 없을 때만 사용자 존재 여부 확인 (장바구니가 없으면 빈 장바구니 반환)
+        if (lines.isEmpty() && !userRepository.existsByEmail(email)) {
+            throw new UsernameNotFoundException("사용자 정보를 찾을 수 없습니다: " + email);
         }
 
-        // Cart 엔티티를 CartDto로 변환 및 총 가격 계산
-        List<CartItemDto> itemDtos = cart.getItems().stream()
-                .map(item -> {
-                    long itemTotal = item.getPlant().getPrice() * item.getQuantity();
-
-                    return new CartItemDto(
-                            item.getPlant().getId(),
-                            item.getPlant().getName(),
-                            item.getPlant().getPrice(),
-                            item.getQuantity(),
-                            itemTotal
-                    );
-                })
-                .collect(Collectors.toList());
+        // 식물 이름과 가격은 카탈로그 스냅샷에서 조회 (스냅샷에 없는 식물만 한 번에 DB 조회)
+        PlantCatalogSnapshot catalog = plantCatalog.snapshot();
+        Map<Long, CatalogPlant> missingPlants = loadMissingPlants(lines, catalog);
+
+        return toCartDto(email, lines, catalog, missingPlants);
+    }
+
+    // 항목 행과 식물 정보로 응답 구성 (DB 접근 없음)
+    static CartDto toCartDto(String email, List<CartRepository.CartLine> lines,
+                             PlantCatalogSnapshot catalog, Map<Long, CatalogPlant> missingPlants) {
+        List<CartItemDto> itemDtos = new ArrayList<>(lines.size());
+        for (CartRepository.CartLine line : lines) {
+            CatalogPlant plant = catalog.find(line.getPlantId());
+            if (plant == null) {
+                plant = missingPlants.get(line.getPlantId());
+            }
+
+            itemDtos.add(new CartItemDto(
+                    plant.id(),
+                    plant.name(),
+                    plant.price(),
+                    line.getQuantity(),
+                    plant.price() * line.getQuantity()
+            ));
+        }
 
         long totalPrice = itemDtos.stream()
                 .mapToLong(CartItemDto::getItemTotal)
@@ -67,38 +90,44 @@ public class CartService {
         return new CartDto(email, itemDtos, totalPrice);
     }
 
+    private Map<Long, CatalogPlant> loadMissingPlants(List<CartRepository.CartLine> lines, PlantCatalogSnapshot catalog) {
+        Set<Long> missingIds = lines.stream()
+                .map(CartRepository.CartLine::getPlantId)
+                .filter(plantId -> catalog.find(plantId) == null)
+                .collect(Collectors.toSet());
+        if (missingIds.isEmpty()) {
+            return Map.of();
+        }
+
+        return plantRepository.findSummariesByIdIn(missingIds).stream()
+                .map(CatalogPlant::from)
+                .collect(Collectors.toMap(CatalogPlant::id, Function.identity()));
+    }
+
     // 2. 장바구니 항목 추가 (POST /carts)
     @Transactional
     public CartDto addItemToCart(String email, CartItemAddRequest request) {
 
         Cart cart = cartRepository.findByUserEmail(email)
-                .orElseGet(() -> {
-                    return userRepository.findByEmail(email)
-                            .map(user -> cartRepository.save(Cart.createCart(user)))
-                            .orElseThrow(() -> new UsernameNotFoundException("사용자를 찾을 수 없습니다: " + email));
-                });
-
-        Plant plant = plantRepository.findById(request.getPlantId())
-                .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 식물 ID입니다: " + request.getPlantId()));
-
-        Optional<CartItem> existingItem = cart.getItems().stream()
-                .filter(item -> item.getPlant().getId().equals(request.getPlantId()))
-                .findFirst();
-
-        CartItem cartItem;
-        if (existingItem.isPresent()) {
-            // 기존 항목이 있으면 수량을 1만 증가
-            cartItem = existingItem.get();
-            cartItem.increaseQuantity();
-        } else {
-            // 새 항목이면 수량을 1로 설정
-            cartItem = CartItem.createCartItem();
-            cartItem.setCart(cart);
-            cartItem.setPlant(plant);
-            cart.getItems().add(cartItem);
+                .orElseGet(() -> createCart(email));
+
+        // 존재 여부는 카탈로그 스냅샷에서 먼저 확인
+        if (plantCatalog.snapshot().find(request.getPlantId()) == null
+                && !plantRepository.existsById(request.getPlantId())) {
+            throw new IllegalArgumentException("존재하지 않는 식물 ID입니다: " + request.getPlantId());
         }
 
-        cartItemRepository.save(cartItem);
+        // 장바구니 행을 먼저 잠가(버전 증가) 같은 장바구니에 대한 변경을 직렬화
+        cartRepository.incrementVersion(cart.getId());
+
+        // 읽고-수정-저장 대신 SQL에서 원자적으로 수량 1 증가, 항목이 없을 때만 새로 생성
+        // (장바구니 행 잠금 + (cart_id, plant_id) 유니크 키로 유실되는 증가나 중복 행이 생기지 않음)
+        if (cartItemRepository.incrementQuantity(cart.getId(), request.getPlantId(), 1) == 0) {
+            CartItem cartItem = CartItem.createCartItem();
+            cartItem.setCart(cart);
+            cartItem.setPlant(plantRepository.getReferenceById(request.getPlantId()));
+            cartItemRepository.save(cartItem);
+        }
 
         return getShoppingCart(email);
     }
@@ -108,6 +137,7 @@ public class CartService {
     public CartDto decreaseItemQuantity(String email, Long plantId) {
         Cart cart = cartRepository.findByUserEmail(email)
                 .orElseThrow(() -> new IllegalArgumentException("사용자의 장바구니를 찾을 수 없습니다."));
+        lockCart(cart);
 
         CartItem cartItem = cart.getItems().stream()
                 .filter(item -> item.getPlant().getId().equals(plantId))
@@ -132,6 +162,7 @@ public class CartService {
     public CartDto removeItemFromCart(String email, Long plantId) {
         Cart cart = cartRepository.findByUserEmail(email)
                 .orElseThrow(() -> new IllegalArgumentException("사용자의 장바구니를 찾을 수 없습니다."));
+        lockCart(cart);
 
         CartItem cartItem = cart.getItems().stream()
                 .filter(item -> item.getPlant().getId().equals(plantId))
@@ -150,6 +181,7 @@ public class CartService {
     public CartDto clearCart(String email) {
         Cart cart = cartRepository.findByUserEmail(email)
                 .orElseThrow(() -> new IllegalArgumentException("사용자의 장바구니를 찾을 수 없습니다."));
+        lockCart(cart);
 
         // 모든 항목 제거 및 DB 반영
         cartItemRepository.deleteAll(cart.getItems());
@@ -157,4 +189,147 @@ public class CartService {
 
         return getShoppingCart(email);
     }
+
+    // 6. 여러 항목 변경을 한 트랜잭션에서 일괄 적용 (PATCH /carts)
+    @Transactional
+    public CartDto applyOperations(String email, CartBatchRequest request) {
+        List<CartItemOperation> operations = request.getOperations() != null ? request.getOperations() : List.of();
+
+        // 장바구니, 항목, 식물을 한 번에 조회
+        Cart cart = cartRepository.findWithItemsByUserEmail(email)
+                .orElseGet(() -> createCart(email));
+        lockCart(cart);
+
+        // 식물 ID 기준 항목 인덱스 (한 번만 구성)
+        Map<Long, CartItem> itemsByPlantId = new LinkedHashMap<>();
+        for (CartItem item : cart.getItems()) {
+            itemsByPlantId.put(item.getPlant().getId(), item);
+        }
+
+        // 장바구니에 없는 식물은 한 번의 쿼리로 조회
+        Set<Long> newPlantIds = operations.stream()
+                .filter(operation -> operation.getType() != CartItemOperation.Type.REMOVE)
+                .map(CartItemOperation::getPlantId)
+                .filter(plantId -> plantId != null && !itemsByPlantId.containsKey(plantId))
+                .collect(Collectors.toSet());
+        Map<Long, Plant> newPlants = newPlantIds.isEmpty()
+                ? Map.of()
+                : plantRepository.findAllById(newPlantIds).stream()
+                        .collect(Collectors.toMap(Plant::getId, Function.identity()));
+
+        // 이번 요청에서 제거한 항목 (같은 요청에서 다시 담으면 새 행 대신 이 항목을 되살림)
+        Map<Long, CartItem> removedItems = new HashMap<>();
+
+        for (CartItemOperation operation : operations) {
+            Long plantId = operation.getPlantId();
+            if (operation.getType() == null || plantId == null) {
+                throw new IllegalArgumentException("변경 유형과 식물 ID는 필수입니다.");
+            }
+
+            CartItem cartItem = itemsByPlantId.get(plantId);
+
+            switch (operation.getType()) {
+                case ADD -> {
+                    int amount = operation.getQuantity() != null ? operation.getQuantity() : 1;
+                    if (amount < 1) {
+                        throw new IllegalArgumentException("추가 수량은 1 이상이어야 합니다.");
+                    }
+                    if (cartItem == null) {
+                        itemsByPlantId.put(plantId, restoreOrCreateCartItem(cart, newPlants, removedItems, plantId, amount));
+                    } else {
+                        cartItem.changeQuantity(cartItem.getQuantity() + amount);
+                    }
+                }
+                case SET_QUANTITY -> {
+                    Integer quantity = operation.getQuantity();
+                    if (quantity == null || quantity < 0) {
+                        throw new IllegalArgumentException("수량은 0 이상이어야 합니다.");
+                    }
+                    if (quantity == 0) {
+                        if (cartItem != null) {
+                            removedItems.put(plantId, itemsByPlantId.remove(plantId));
+                        }
+                    } else if (cartItem == null) {
+                        itemsByPlantId.put(plantId, restoreOrCreateCartItem(cart, newPlants, removedItems, plantId, quantity));
+                    } else {
+                        cartItem.changeQuantity(quantity);
+                    }
+                }
+                case REMOVE -> {
+                    if (cartItem == null) {
+                        throw new IllegalArgumentException("장바구니에 해당 식물 항목이 없습니다.");
+                    }
+                    removedItems.put(plantId, itemsByPlantId.remove(plantId));
+                }
+            }
+        }
+
+        // 제거 항목은 한 번에 컬렉션에서 빼고 (orphanRemoval), 변경 사항은 커밋 시 한 번에 flush
+        if (!removedItems.isEmpty()) {
+            cart.getItems().removeIf(item -> removedItems.get(item.getPlant().getId()) == item);
+        }
+
+        return toCartDto(email, itemsByPlantId.values());
+    }
+
+    // 사용자 행을 잠가 같은 사용자의 장바구니 생성을 직렬화한 뒤, 아직 없을 때만 현재 트랜잭션에서 생성
+    // (같은 사용자의 첫 요청이 동시에 들어오면 뒤 요청은 사용자 잠금을 기다렸다가 먼저 생성된 장바구니 사용,
+    //  잠금 조회는 현재 트랜잭션의 스냅샷과 무관하게 커밋된 행을 읽음)
+    private Cart createCart(String email) {
+        User user = userRepository.findLockedByEmail(email)
+                .orElseThrow(() -> new UsernameNotFoundException("사용자를 찾을 수 없습니다: " + email));
+
+        return cartRepository.findLockedByUserEmail(email)
+                .orElseGet(() -> cartRepository.saveAndFlush(Cart.createCart(user)));
+    }
+
+    // 조회한 버전을 조건으로 즉시 버전을 증가시켜 장바구니 행을 잠금
+    // (조회 이후 다른 요청이 장바구니를 변경했다면 OptimisticLockException)
+    private void lockCart(Cart cart) {
+        entityManager.lock(cart, LockModeType.PESSIMISTIC_FORCE_INCREMENT);
+    }
+
+    // 같은 요청에서 제거했던 항목이면 그 항목의 수량만 바꿔 되살림
+    // (Hibernate는 고아 삭제보다 삽입을 먼저 flush하므로 새 항목을 만들면 (cart_id, plant_id) 유니크 키 위반)
+    private CartItem restoreOrCreateCartItem(Cart cart, Map<Long, Plant> plants, Map<Long, CartItem> removedItems,
+                                             Long plantId, int quantity) {
+        CartItem removed = removedItems.remove(plantId);
+        if (removed != null) {
+            removed.changeQuantity(quantity);
+            return removed;
+        }
+        return newCartItem(cart, plants, plantId, quantity);
+    }
+
+    private CartItem newCartItem(Cart cart, Map<Long, Plant> plants, Long plantId, int quantity) {
+        Plant plant = plants.get(plantId);
+        if (plant == null) {
+            throw new IllegalArgumentException("존재하지 않는 식물 ID입니다: " + plantId);
+        }
+
+        CartItem cartItem = CartItem.createCartItem();
+        cartItem.changeQuantity(quantity);
+        cartItem.setPlant(plant);
+        cart.addCartItem(cartItem);
+        return cartItem;
+    }
+
+    // 이미 메모리에 있는 항목으로 응답을 구성 (추가 조회 없음)
+    private CartDto toCartDto(String email, Collection<CartItem> items) {
+        List<CartItemDto> itemDtos = items.stream()
+                .map(item -> new CartItemDto(
+                        item.getPlant().getId(),
+                        item.getPlant().getName(),
+                        item.getPlant().getPrice(),
+                        item.getQuantity(),
+                        item.getPlant().getPrice() * item.getQuantity()
+                ))
+                .collect(Collectors.toList());
+
+        long totalPrice = itemDtos.stream()
+                .mapToLong(CartItemDto::getItemTotal)
+                .sum();
+
+        return new CartDto(email, itemDtos, totalPrice);
+    }
 }
\ No newline at end of file
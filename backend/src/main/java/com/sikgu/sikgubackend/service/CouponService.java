@@ -1,15 +1,170 @@
 package com.sikgu.sikgubackend.service;
 
+import com.sikgu.sikgubackend.coupon.CouponGate;
+import com.sikgu.sikgubackend.coupon.CouponGate.CouponPermits;
+import com.sikgu.sikgubackend.entity.Coupon;
+import com.sikgu.sikgubackend.entity.CouponRedemption;
+import com.sikgu.sikgubackend.entity.CouponStock;
+import com.sikgu.sikgubackend.repository.CouponRedemptionRepository;
+import com.sikgu.sikgubackend.repository.CouponRepository;
+import com.sikgu.sikgubackend.repository.CouponStockRepository;
+import com.sikgu.sikgubackend.repository.UserRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
 
 @Service
 public class CouponService {
-    public boolean applyCoupon(Long userId, String couponCode) {
-        // 실제로는 쿠폰 코드 유효성을 검증하고, 사용자에게 적용합니다.
-        System.out.println("사용자 " + userId + "에게 쿠폰 " + couponCode + " 적용 시도");
-        if ("DISCOUNT10".equals(couponCode)) {
-            return true;
+
+    // 기존에 사용하던 기본 쿠폰
+    private static final String DEFAULT_COUPON_CODE = "DISCOUNT10";
+
+    private final CouponRepository couponRepository;
+    private final CouponStockRepository couponStockRepository;
+    private final CouponRedemptionRepository couponRedemptionRepository;
+    private final UserRepository userRepository;
+    private final CouponGate couponGate;
+    private final TransactionTemplate transactionTemplate;
+    private final int stockShards;
+    private final boolean seedDefaults;
+    private final int defaultTotalUses;
+    private final int defaultPerUserLimit;
+
+    public CouponService(CouponRepository couponRepository,
+                         CouponStockRepository couponStockRepository,
+                         CouponRedemptionRepository couponRedemptionRepository,
+                         UserRepository userRepository,
+                         CouponGate couponGate,
+                         PlatformTransactionManager transactionManager,
+                         @Value("${coupon.stock-shards:16}") int stockShards,
+                         @Value("${coupon.seed-defaults:true}") boolean seedDefaults,
+                         @Value("${coupon.default.total-uses:1000000}") int defaultTotalUses,
+                         @Value("${coupon.default.per-user-limit:1000000}") int defaultPerUserLimit) {
+        this.couponRepository = couponRepository;
+        this.couponStockRepository = couponStockRepository;
+        this.couponRedemptionRepository = couponRedemptionRepository;
+        this.userRepository = userRepository;
+        this.couponGate = couponGate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.stockShards = stockShards;
+        this.seedDefaults = seedDefaults;
+        this.defaultTotalUses = defaultTotalUses;
+        this.defaultPerUserLimit = defaultPerUserLimit;
+    }
+
+    // 쿠폰 생성 (전체 사용 횟수를 stockShards개의 행으로 나눠 저장)
+    @Transactional
+    public Coupon createCoupon(String code, int discountPercent, int totalUses, int perUserLimit,
+                               LocalDateTime validFrom, LocalDateTime validUntil) {
+        Coupon coupon = couponRepository.save(
+                Coupon.createCoupon(code, discountPercent, totalUses, perUserLimit, validFrom, validUntil));
+
+        int shards = Math.max(1, Math.min(stockShards, totalUses));
+        List<CouponStock> stocks = new ArrayList<>(shards);
+        for (int shard = 0; shard < shards; shard++) {
+            int remaining = totalUses / shards + (shard < totalUses % shards ? 1 : 0);
+            stocks.add(CouponStock.createCouponStock(coupon, shard, remaining));
+        }
+        couponStockRepository.saveAll(stocks);
+
+        couponGate.invalidate(code);
+        return coupon;
+    }
+
+    // 쿠폰 사용 (남은 횟수가 없거나 사용자 한도를 넘으면 예외)
+    public CouponPermits applyCoupon(String email, String couponCode) {
+        if (couponCode == null || couponCode.isBlank()) {
+            throw new IllegalArgumentException("쿠폰 코드를 입력해야 합니다.");
+        }
+        CouponPermits coupon = couponGate.find(couponCode)
+                .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 쿠폰입니다."));
+        if (!coupon.isValidAt(LocalDateTime.now())) {
+            throw new IllegalArgumentException("사용 기간이 아닌 쿠폰입니다.");
+        }
+
+        // 메모리에서 먼저 예약 (소진된 쿠폰은 DB 조회 없이 거절)
+        int shard = coupon.tryAcquire();
+        if (shard < 0) {
+            throw new IllegalStateException("쿠폰이 모두 소진되었습니다.");
+        }
+
+        Long userId = userRepository.findIdByEmail(email)
+                .orElseThrow(() -> {
+                    coupon.release(shard);
+                    return new UsernameNotFoundException("사용자 정보를 찾을 수 없습니다: " + email);
+                });
+
+        int reserved = shard;
+        while (true) {
+            RedeemResult result;
+            try {
+                int attempt = reserved;
+                result = transactionTemplate.execute(status -> redeem(coupon, userId, attempt));
+            } catch (DataIntegrityViolationException e) {
+                // 같은 사용자의 동시 요청이 같은 순번을 먼저 기록함
+                coupon.release(reserved);
+                throw new IllegalStateException("쿠폰 사용 한도를 초과했습니다.");
+            } catch (RuntimeException e) {
+                coupon.release(reserved);
+                throw e;
+            }
+
+            if (result == RedeemResult.REDEEMED) {
+                return coupon;
+            }
+            if (result == RedeemResult.USER_LIMIT_EXCEEDED) {
+                coupon.release(reserved);
+                throw new IllegalStateException("쿠폰 사용 한도를 초과했습니다.");
+            }
+
+            // 다른 인스턴스가 먼저 소진한 조각이면 다른 조각으로 재시도
+            coupon.markExhausted(reserved);
+            reserved = coupon.tryAcquire();
+            if (reserved < 0) {
+                throw new IllegalStateException("쿠폰이 모두 소진되었습니다.");
+            }
         }
-        return false;
     }
-}
\ No newline at end of file
+
+    // 사용자 한도 확인 → 조각 차감 → 사용 내역 기록을 짧은 트랜잭션 하나로 처리
+    private RedeemResult redeem(CouponPermits coupon, Long userId, int shard) {
+        long used = couponRedemptionRepository.countByCouponIdAndUserId(coupon.getCouponId(), userId);
+        if (used >= coupon.getPerUserLimit()) {
+            return RedeemResult.USER_LIMIT_EXCEEDED;
+        }
+
+        if (couponStockRepository.decrement(coupon.getCouponId(), shard) == 0) {
+            return RedeemResult.SHARD_EXHAUSTED;
+        }
+
+        couponRedemptionRepository.saveAndFlush(CouponRedemption.createCouponRedemption(
+                couponRepository.getReferenceById(coupon.getCouponId()),
+                userRepository.getReferenceById(userId),
+                (int) used + 1));
+        return RedeemResult.REDEEMED;
+    }
+
+    // 기존 DISCOUNT10 쿠폰이 계속 동작하도록 없으면 등록
+    // (이전에는 횟수 제한 없이 항상 적용되었으므로 기본 한도를 크게 둠, 이미 등록된 쿠폰은 바꾸지 않음)
+    @EventListener(ApplicationReadyEvent.class)
+    public void seedDefaultCoupon() {
+        if (seedDefaults && couponRepository.findByCode(DEFAULT_COUPON_CODE).isEmpty()) {
+            transactionTemplate.executeWithoutResult(status ->
+                    createCoupon(DEFAULT_COUPON_CODE, 10, defaultTotalUses, defaultPerUserLimit, null, null));
+        }
+    }
+
+    private enum RedeemResult {
+        REDEEMED, USER_LIMIT_EXCEEDED, SHARD_EXHAUSTED
+    }
+}
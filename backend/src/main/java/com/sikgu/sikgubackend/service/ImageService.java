@@ -0,0 +1,39 @@
+package com.sikgu.sikgubackend.service;
+
+import com.sikgu.sikgubackend.image.ImageFormat;
+import com.sikgu.sikgubackend.image.ImageVariantCache;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.nio.file.Path;
+import java.util.Optional;
+
+@Service
+@RequiredArgsConstructor
+public class ImageService {
+
+    private final PlantsService plantsService;
+    private final ImageVariantCache imageVariantCache;
+
+    // 식물 이미지의 변형 파일 이름 (형식을 지정하지 않으면 Accept 헤더로 WebP 지원 여부 판단)
+    public String getPlantImageVariant(Long plantId, Integer width, String format, String accept) {
+        String sourceUrl = plantsService.getPlantImageURL(plantId);
+        return imageVariantCache.variantName(sourceUrl, ImageVariantCache.snapWidth(width), selectFormat(format, accept));
+    }
+
+    public Optional<Path> findVariant(String name) {
+        return imageVariantCache.find(name);
+    }
+
+    private ImageFormat selectFormat(String format, String accept) {
+        if (format != null) {
+            return switch (format.toLowerCase()) {
+                case "jpeg", "jpg" -> ImageFormat.JPEG;
+                case "webp" -> ImageFormat.WEBP;
+                default -> throw new IllegalArgumentException("지원하지 않는 이미지 형식입니다: " + format);
+            };
+        }
+        boolean acceptsWebp = accept != null && accept.contains(ImageFormat.WEBP.contentType());
+        return acceptsWebp && imageVariantCache.isWebpSupported() ? ImageFormat.WEBP : ImageFormat.JPEG;
+    }
+}
@@ -1,12 +1,191 @@
 package com.sikgu.sikgubackend.service;
 
+import com.sikgu.sikgubackend.catalog.CatalogPlant;
+import com.sikgu.sikgubackend.catalog.PlantCatalog;
+import com.sikgu.sikgubackend.dto.NotificationDto;
+import com.sikgu.sikgubackend.entity.enums.NotificationType;
+import com.sikgu.sikgubackend.notification.NotificationHub;
+import com.sikgu.sikgubackend.reminder.ReminderDueEvent;
+import com.sikgu.sikgubackend.repository.NotificationRepository;
+import com.sikgu.sikgubackend.repository.UserRepository;
+import com.sikgu.sikgubackend.subscription.SubscriptionChangedEvent;
+import com.sikgu.sikgubackend.transaction.AfterCommit;
+import com.sikgu.sikgubackend.transaction.BeforeCommit;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 알림 생성과 전달을 담당합니다.
+ * 리마인더/구독 이벤트는 이벤트를 발행한 트랜잭션 안에서 모아 두었다가 커밋 직전에 알림함에 배치 INSERT 하므로,
+ * 알림함 행은 원래 변경(알림 날짜 갱신, 구독 상태 변경)과 함께 커밋되거나 함께 롤백됩니다.
+ * SSE 전달은 커밋된 뒤에 연결별 대기열에 넣고 주기적으로 한 번에 보냅니다.
+ * 대기열이 넘쳐 전달하지 못한 알림도 알림함에는 남아 있습니다.
+ */
 @Service
 public class NotificationService {
-    public String getSubscriptionNotification(Long userId) {
-        // 실제로는 사용자 ID를 기반으로 구독 상태나 갱신 알림을 생성합니다.
-        // 현재는 예시 메시지를 반환합니다.
-        return "구독 갱신 예정일이 다가왔습니다. 확인해주세요.";
+
+    private static final int DEFAULT_PAGE_SIZE = 20;
+    private static final int MAX_PAGE_SIZE = 100;
+
+    private static final Object RESOURCE_KEY = NotificationService.class.getName() + ".pending";
+
+    private static final String INSERT_SQL =
+            "INSERT INTO notification (user_id, type, message, is_read, creation_time, last_modified_time) " +
+                    "VALUES (?, ?, ?, FALSE, ?, ?)";
+
+    private final NotificationRepository notificationRepository;
+    private final UserRepository userRepository;
+    private final NotificationHub notificationHub;
+    private final PlantCatalog plantCatalog;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+
+    public NotificationService(NotificationRepository notificationRepository,
+                               UserRepository userRepository,
+                               NotificationHub notificationHub,
+                               PlantCatalog plantCatalog,
+                               JdbcTemplate jdbcTemplate,
+                               PlatformTransactionManager transactionManager,
+                               @Value("${notification.batch-size:500}") int batchSize) {
+        this.notificationRepository = notificationRepository;
+        this.userRepository = userRepository;
+        this.notificationHub = notificationHub;
+        this.plantCatalog = plantCatalog;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.batchSize = batchSize;
+    }
+
+    // SSE 스트림 연결
+    public SseEmitter connect(String email) {
+        Long userId = userRepository.findIdByEmail(email)
+                .orElseThrow(() -> new UsernameNotFoundException("사용자 정보를 찾을 수 없습니다: " + email));
+        return notificationHub.connect(userId);
+    }
+
+    // 알림함 조회 (최신순, cursor보다 id가 작은 알림)
+    public List<NotificationDto> getInbox(String email, Long cursor, Integer size) {
+        Long userId = userRepository.findIdByEmail(email)
+                .orElseThrow(() -> new UsernameNotFoundException("사용자 정보를 찾을 수 없습니다: " + email));
+        int pageSize = size == null ? DEFAULT_PAGE_SIZE : Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+
+        return notificationRepository.findInbox(userId, cursor == null ? Long.MAX_VALUE : cursor, PageRequest.of(0, pageSize));
+    }
+
+    // 알림 날짜를 갱신한 트랜잭션에서 알림함에 저장
+    @EventListener
+    public void onReminderDue(ReminderDueEvent event) {
+        CatalogPlant plant = plantCatalog.snapshot().find(event.plantId());
+        String plantName = plant == null ? "식물" : plant.name();
+        save(event.userId(), NotificationType.REMINDER, plantName + "에 물을 줄 시간이에요.");
+    }
+
+    // 구독 상태를 바꾼 트랜잭션에서 알림함에 저장 (롤백되면 알림도 남지 않음)
+    @EventListener
+    public void onSubscriptionChanged(SubscriptionChangedEvent event) {
+        String message = switch (event.status()) {
+            case "SUCCESS" -> "구독이 시작되었습니다.";
+            case "CANCELED_AT_PERIOD_END" -> "구독 해지가 예약되었습니다. 현재 기간이 끝나면 종료됩니다.";
+            case "CANCELED", "EXPIRED" -> "구독이 종료되었습니다.";
+            case "PAYMENT_DUE" -> "구독 기간이 끝났습니다. 결제하면 구독이 이어집니다.";
+            default -> "구독 상태가 변경되었습니다.";
+        };
+        save(event.userId(), NotificationType.SUBSCRIPTION, message);
+    }
+
+    // 커밋된 알림을 연결된 SSE 스트림으로 전송
+    @Scheduled(fixedDelayString = "${notification.flush-interval-ms:200}")
+    public void flush() {
+        notificationHub.flush();
+    }
+
+    // 트랜잭션 안에서는 커밋 직전에 한 번에 저장, 트랜잭션 밖에서는 바로 저장
+    private void save(Long userId, NotificationType type, String message) {
+        BeforeCommit.collect(RESOURCE_KEY, new PendingNotification(userId, type, message, LocalDateTime.now()),
+                this::insertAndPublish);
+    }
+
+    private void insertAndPublish(List<PendingNotification> notifications) {
+        List<SavedNotification> saved = new ArrayList<>(notifications.size());
+        for (int from = 0; from < notifications.size(); from += batchSize) {
+            insert(notifications.subList(from, Math.min(from + batchSize, notifications.size())), saved);
+        }
+
+        // 커밋된 알림만 SSE 대기열에 넣음 (전송은 flush에서)
+        AfterCommit.run(() -> {
+            for (SavedNotification notification : saved) {
+                notificationHub.publish(notification.userId(), notification.notification());
+            }
+        });
+    }
+
+    // 진행 중인 트랜잭션이 있으면 참여하고, 없으면 배치 하나를 한 트랜잭션으로 저장
+    private void insert(List<PendingNotification> batch, List<SavedNotification> saved) {
+        // 생성된 ID를 함께 받아 SSE로 보내는 알림에도 알림함과 같은 ID를 담음
+        KeyHolder keyHolder = new GeneratedKeyHolder();
+        transactionTemplate.executeWithoutResult(status -> jdbcTemplate.batchUpdate(
+                connection -> connection.prepareStatement(INSERT_SQL, Statement.RETURN_GENERATED_KEYS),
+                new BatchPreparedStatementSetter() {
+                    @Override
+                    public void setValues(PreparedStatement ps, int i) throws SQLException {
+                        PendingNotification notification = batch.get(i);
+                        Timestamp createdAt = Timestamp.valueOf(notification.createdAt());
+                        ps.setLong(1, notification.userId());
+                        ps.setString(2, notification.type().name());
+                        ps.setString(3, notification.message());
+                        ps.setTimestamp(4, createdAt);
+                        ps.setTimestamp(5, createdAt);
+                    }
+
+                    @Override
+                    public int getBatchSize() {
+                        return batch.size();
+                    }
+                },
+                keyHolder));
+
+        List<Map<String, Object>> keys = keyHolder.getKeyList();
+        for (int i = 0; i < batch.size(); i++) {
+            PendingNotification notification = batch.get(i);
+            Long id = i < keys.size() ? generatedId(keys.get(i)) : null;
+            saved.add(new SavedNotification(notification.userId(), new NotificationDto(
+                    id, notification.type(), notification.message(), false, notification.createdAt())));
+        }
+    }
+
+    // 드라이버마다 키 컬럼 이름이 달라(ID, GENERATED_KEY 등) 첫 번째 값을 사용
+    private static Long generatedId(Map<String, Object> key) {
+        return key.values().stream()
+                .filter(Number.class::isInstance)
+                .map(value -> ((Number) value).longValue())
+                .findFirst()
+                .orElse(null);
+    }
+
+    private record PendingNotification(Long userId, NotificationType type, String message, LocalDateTime createdAt) {
+    }
+
+    private record SavedNotification(Long userId, NotificationDto notification) {
     }
-}
\ No newline at end of file
+}
@@ -1,22 +1,114 @@
 package com.sikgu.sikgubackend.service;
 
+import com.sikgu.sikgubackend.catalog.CareGuide;
+import com.sikgu.sikgubackend.catalog.CareGuideCache;
+import com.sikgu.sikgubackend.catalog.CatalogPlant;
+import com.sikgu.sikgubackend.catalog.PlantCatalog;
+import com.sikgu.sikgubackend.catalog.PlantCatalogSnapshot;
+import com.sikgu.sikgubackend.catalog.PlantRecommender;
+import com.sikgu.sikgubackend.dto.PlantPageResponse;
+import com.sikgu.sikgubackend.dto.PlantRecommendationDto;
+import com.sikgu.sikgubackend.dto.PlantSummaryDto;
+import com.sikgu.sikgubackend.entity.Plant;
+import com.sikgu.sikgubackend.entity.enums.PlantCondition;
+import com.sikgu.sikgubackend.repository.PlantRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
-import java.util.Arrays;
+import java.util.ArrayList;
+import java.util.BitSet;
 import java.util.List;
 
 @Service
+@RequiredArgsConstructor
 public class PlantsService {
-    public List<String> getRecommendations(String environment) {
-        // 실제로는 환경 정보를 바탕으로 DB에서 식물을 추천합니다.
-        if ("indoors".equalsIgnoreCase(environment)) {
-            return Arrays.asList("몬스테라", "스투키", "산세베리아");
+
+    private static final int DEFAULT_PAGE_SIZE = 20;
+    private static final int MAX_PAGE_SIZE = 100;
+    private static final int DEFAULT_RECOMMENDATION_LIMIT = 10;
+
+    private final PlantRepository plantRepository;
+    private final PlantCatalog plantCatalog;
+    private final CareGuideCache careGuideCache;
+
+    // 식물 목록 조회 (키셋 페이지네이션, 조건 필터는 선택)
+    @Transactional(readOnly = true)
+    public PlantPageResponse getPlants(Long cursor, Integer size,
+                                       PlantCondition light, PlantCondition humidity, PlantCondition temp) {
+        int pageSize = size == null ? DEFAULT_PAGE_SIZE : Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+        long after = cursor == null ? 0L : cursor;
+
+        if (plantCatalog.isLoaded()) {
+            return getPlantsFromCatalog(plantCatalog.snapshot(), after, pageSize, light, humidity, temp);
+        }
+
+        // 다음 페이지 존재 여부 확인을 위해 한 건 더 조회
+        List<PlantSummaryDto> rows = plantRepository.findSummariesAfter(
+                after, light, humidity, temp, PageRequest.of(0, pageSize + 1));
+
+        boolean hasNext = rows.size() > pageSize;
+        List<PlantSummaryDto> plants = hasNext ? new ArrayList<>(rows.subList(0, pageSize)) : rows;
+        Long nextCursor = hasNext ? plants.get(plants.size() - 1).getId() : null;
+
+        return new PlantPageResponse(plants, nextCursor);
+    }
+
+    // 카탈로그 스냅샷에서 페이지 구성 (조건 필터는 BitSet 인덱스 교집합)
+    private PlantPageResponse getPlantsFromCatalog(PlantCatalogSnapshot catalog, long after, int pageSize,
+                                                   PlantCondition light, PlantCondition humidity, PlantCondition temp) {
+        BitSet matching = catalog.matching(light, humidity, temp);
+        List<PlantSummaryDto> plants = new ArrayList<>(pageSize);
+
+        int position = nextPosition(matching, catalog.firstPositionAfter(after), catalog.size());
+        while (position >= 0 && plants.size() < pageSize) {
+            plants.add(catalog.plantAt(position).toSummaryDto());
+            position = nextPosition(matching, position + 1, catalog.size());
+        }
+
+        Long nextCursor = position >= 0 ? plants.get(plants.size() - 1).getId() : null;
+        return new PlantPageResponse(plants, nextCursor);
+    }
+
+    // 필터가 없으면(matching == null) 모든 위치가 대상
+    private int nextPosition(BitSet matching, int from, int size) {
+        if (matching == null) {
+            return from < size ? from : -1;
+        }
+        return matching.nextSetBit(from);
+    }
+
+    // 환경 조건에 맞는 식물 추천 (카탈로그 스냅샷 기준)
+    public List<PlantRecommendationDto> getRecommendations(PlantCondition light, PlantCondition humidity,
+                                                           PlantCondition temp, Long cycle, Integer limit) {
+        int topK = limit == null ? DEFAULT_RECOMMENDATION_LIMIT : Math.max(1, Math.min(limit, MAX_PAGE_SIZE));
+
+        // 최초 로딩 전이면 직접 로딩
+        if (!plantCatalog.isLoaded()) {
+            plantCatalog.refresh();
+        }
+        return PlantRecommender.recommend(plantCatalog.snapshot(), light, humidity, temp, cycle, topK);
+    }
+
+    // 식물 대표 이미지 원본 URL (카탈로그 로딩 전에는 DB 조회)
+    @Transactional(readOnly = true)
+    public String getPlantImageURL(Long plantId) {
+        String url;
+        if (plantCatalog.isLoaded()) {
+            CatalogPlant plant = plantCatalog.snapshot().find(plantId);
+            url = plant == null ? null : plant.plantImageURL();
+        } else {
+            url = plantRepository.findById(plantId).map(Plant::getPlantImageURL).orElse(null);
+        }
+        if (url == null || url.isBlank()) {
+            throw new IllegalArgumentException("식물 이미지가 없습니다: " + plantId);
         }
-        return Arrays.asList("해바라기", "장미", "국화");
+        return url;
     }
 
-    public String getCareGuide(String plantName) {
-        // 실제로는 식물 이름을 기반으로 DB에서 관리 가이드를 조회합니다.
-        return plantName + " 관리에 대한 가이드입니다.";
+    // 식물 관리 가이드 조회 (렌더링 결과는 식물별로 캐시)
+    public CareGuide getCareGuide(Long plantId) {
+        return careGuideCache.get(plantId);
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,42 @@
+package com.sikgu.sikgubackend.service;
+
+import com.sikgu.sikgubackend.entity.Plant;
+import com.sikgu.sikgubackend.entity.Reminder;
+import com.sikgu.sikgubackend.entity.SubscribedPlant;
+import com.sikgu.sikgubackend.entity.Subscription;
+import com.sikgu.sikgubackend.repository.ReminderRepository;
+import com.sikgu.sikgubackend.repository.SubscribedPlantRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class ReminderService {
+
+    // 식물에 물 주기 정보가 없을 때 사용할 기본 주기 (일)
+    private static final int DEFAULT_CYCLE_DAYS = 7;
+
+    private final ReminderRepository reminderRepository;
+    private final SubscribedPlantRepository subscribedPlantRepository;
+
+    // 구독 식물에 대한 물 주기 알림 등록 (첫 알림은 오늘부터 한 주기 뒤)
+    @Transactional
+    public Reminder registerReminder(Long subscribedPlantId) {
+        SubscribedPlant subscribedPlant = subscribedPlantRepository.findWithSubscriptionAndPlantById(subscribedPlantId)
+                .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 구독 식물 ID입니다: " + subscribedPlantId));
+
+        Subscription subscription = subscribedPlant.getSubscription();
+        Plant plant = subscribedPlant.getPlant();
+        int cycle = plant.getCycle() != null && plant.getCycle() > 0
+                ? Math.toIntExact(plant.getCycle())
+                : DEFAULT_CYCLE_DAYS;
+
+        Reminder reminder = Reminder.createReminder(subscription.getUser(), plant, subscription, subscribedPlant,
+                cycle, LocalDate.now().plusDays(cycle));
+        return reminderRepository.save(reminder);
+    }
+}
@@ -0,0 +1,137 @@
+package com.sikgu.sikgubackend.service;
+
+import com.sikgu.sikgubackend.catalog.CatalogPlant;
+import com.sikgu.sikgubackend.catalog.PlantCatalog;
+import com.sikgu.sikgubackend.dto.PlantRatingDto;
+import com.sikgu.sikgubackend.dto.ReviewDto;
+import com.sikgu.sikgubackend.dto.ReviewRequest;
+import com.sikgu.sikgubackend.entity.Plant;
+import com.sikgu.sikgubackend.entity.PlantRatingSummary;
+import com.sikgu.sikgubackend.entity.Review;
+import com.sikgu.sikgubackend.entity.User;
+import com.sikgu.sikgubackend.repository.PlantRatingSummaryRepository;
+import com.sikgu.sikgubackend.repository.PlantRepository;
+import com.sikgu.sikgubackend.repository.ReviewRepository;
+import com.sikgu.sikgubackend.repository.UserRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.LockModeType;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class ReviewService {
+
+    private static final int DEFAULT_TOP_RATED_LIMIT = 10;
+    private static final int MAX_TOP_RATED_LIMIT = 100;
+
+    private final ReviewRepository reviewRepository;
+    private final PlantRatingSummaryRepository plantRatingSummaryRepository;
+    private final PlantRepository plantRepository;
+    private final UserRepository userRepository;
+    private final PlantCatalog plantCatalog;
+    private final EntityManager entityManager;
+
+    // 리뷰 등록 (집계는 같은 트랜잭션에서 증가)
+    @Transactional
+    public ReviewDto createReview(String email, ReviewRequest request) {
+        if (request.getPlantId() == null || request.getRating() == null) {
+            throw new IllegalArgumentException("식물 ID와 별점은 필수입니다.");
+        }
+
+        User user = userRepository.findByEmail(email)
+                .orElseThrow(() -> new UsernameNotFoundException("사용자 정보를 찾을 수 없습니다: " + email));
+        if (plantCatalog.snapshot().find(request.getPlantId()) == null
+                && !plantRepository.existsById(request.getPlantId())) {
+            throw new IllegalArgumentException("존재하지 않는 식물 ID입니다: " + request.getPlantId());
+        }
+
+        // 식물 행을 잠그고 집계를 먼저 반영한 뒤 리뷰 행을 저장 (lockPlant 참고)
+        Review review = Review.createReview(
+                user, plantRepository.getReferenceById(request.getPlantId()), request.getRating(), request.getContent());
+        lockPlant(request.getPlantId());
+        applyRating(request.getPlantId(), request.getRating(), 1);
+        reviewRepository.save(review);
+
+        return new ReviewDto(review.getId(), request.getPlantId(), review.getRating(), review.getContent(), review.getCreatedAt());
+    }
+
+    // 본인 리뷰 삭제 (집계는 같은 트랜잭션에서 감소)
+    @Transactional
+    public void deleteReview(String email, Long reviewId) {
+        Review review = reviewRepository.findWithUserById(reviewId)
+                .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 리뷰입니다."));
+        if (!review.getUser().getEmail().equals(email)) {
+            throw new IllegalStateException("본인이 작성한 리뷰만 삭제할 수 있습니다.");
+        }
+
+        // 같은 리뷰를 동시에 삭제하면 잠금을 늦게 얻은 쪽은 지울 행이 없으므로, 실제로 지운 경우에만 집계를 감소
+        Plant plant = review.getPlant();
+        if (plant != null) {
+            lockPlant(plant.getId());
+        }
+        if (reviewRepository.deleteReviewById(reviewId) == 0) {
+            throw new IllegalArgumentException("존재하지 않는 리뷰입니다.");
+        }
+        if (plant != null) {
+            applyRating(plant.getId(), review.getRating(), -1);
+        }
+    }
+
+    // 식물 평균 별점 (집계 행 하나만 조회)
+    public PlantRatingDto getPlantRating(Long plantId) {
+        return plantRatingSummaryRepository.findById(plantId)
+                .map(this::toRatingDto)
+                .orElseGet(() -> new PlantRatingDto(plantId, plantName(plantId), 0, 0.0, List.of(0L, 0L, 0L, 0L, 0L)));
+    }
+
+    // 평균 별점 상위 식물
+    public List<PlantRatingDto> getTopRated(Integer limit, Integer minReviews) {
+        int size = limit == null ? DEFAULT_TOP_RATED_LIMIT : Math.max(1, Math.min(limit, MAX_TOP_RATED_LIMIT));
+        long minimum = minReviews == null ? 1 : Math.max(1, minReviews);
+
+        return plantRatingSummaryRepository.findTopRated(minimum, PageRequest.of(0, size)).stream()
+                .map(this::toRatingDto)
+                .toList();
+    }
+
+    // 식물 행을 가장 먼저 잠가 같은 식물의 리뷰/집계 변경을 직렬화하고, 첫 리뷰에서 집계 행이 두 번 생성되지 않도록 함
+    // (리뷰 행을 먼저 넣으면 InnoDB가 부모인 식물 행에 공유 잠금을 걸어, 동시에 들어온 첫 리뷰끼리
+    //  서로의 공유 잠금 해제를 기다리며 교착됨. 집계 행이 없을 때의 UPDATE가 거는 갭 잠금도 같은 이유로 잠금 이후에 둠)
+    private void lockPlant(Long plantId) {
+        entityManager.find(Plant.class, plantId, LockModeType.PESSIMISTIC_WRITE);
+    }
+
+    // lockPlant 이후에 호출
+    private void applyRating(Long plantId, long rating, int direction) {
+        long[] deltas = new long[5];
+        deltas[(int) rating - 1] = direction;
+
+        if (applyDelta(plantId, rating, direction, deltas) > 0 || direction < 0) {
+            return;
+        }
+        plantRatingSummaryRepository.saveAndFlush(PlantRatingSummary.createPlantRatingSummary(plantId));
+        applyDelta(plantId, rating, direction, deltas);
+    }
+
+    private int applyDelta(Long plantId, long rating, int direction, long[] deltas) {
+        return plantRatingSummaryRepository.applyDelta(plantId, direction, direction * rating,
+                deltas[0], deltas[1], deltas[2], deltas[3], deltas[4]);
+    }
+
+    private PlantRatingDto toRatingDto(PlantRatingSummary summary) {
+        return new PlantRatingDto(summary.getPlantId(), plantName(summary.getPlantId()),
+                summary.getReviewCount(), summary.getAverageRating(), summary.getHistogram());
+    }
+
+    private String plantName(Long plantId) {
+        CatalogPlant plant = plantCatalog.snapshot().find(plantId);
+        return plant == null ? null : plant.name();
+    }
+}
@@ -0,0 +1,56 @@
+package com.sikgu.sikgubackend.service;
+
+import com.sikgu.sikgubackend.dto.SubscribedPlantRequest;
+import com.sikgu.sikgubackend.entity.Plant;
+import com.sikgu.sikgubackend.entity.Pot;
+import com.sikgu.sikgubackend.entity.Reminder;
+import com.sikgu.sikgubackend.entity.SubscribedPlant;
+import com.sikgu.sikgubackend.entity.Subscription;
+import com.sikgu.sikgubackend.entity.User;
+import com.sikgu.sikgubackend.repository.PlantRepository;
+import com.sikgu.sikgubackend.repository.PotRepository;
+import com.sikgu.sikgubackend.repository.SubscribedPlantRepository;
+import com.sikgu.sikgubackend.repository.SubscriptionRepository;
+import com.sikgu.sikgubackend.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class SubscribedPlantService {
+
+    private final UserRepository userRepository;
+    private final SubscriptionRepository subscriptionRepository;
+    private final SubscribedPlantRepository subscribedPlantRepository;
+    private final PlantRepository plantRepository;
+    private final PotRepository potRepository;
+    private final ReminderService reminderService;
+
+    // 활성 구독에 식물을 추가하고 물 주기 알림 등록
+    @Transactional
+    public Reminder addPlant(String email, SubscribedPlantRequest request) {
+        User user = userRepository.findByEmail(email)
+                .orElseThrow(() -> new UsernameNotFoundException("사용자 정보를 찾을 수 없습니다: " + email));
+        Subscription subscription = subscriptionRepository.findFirstByUserAndPaymentStatusOrderByEndDateDesc(user, "SUCCESS")
+                .orElseThrow(() -> new IllegalStateException("식물을 추가할 활성 구독 정보가 없습니다."));
+
+        if (request.getPlantId() == null) {
+            throw new IllegalArgumentException("식물 ID를 입력해야 합니다.");
+        }
+        Plant plant = plantRepository.findById(request.getPlantId())
+                .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 식물 ID입니다: " + request.getPlantId()));
+        Pot pot = request.getPotId() == null ? null : potRepository.findById(request.getPotId())
+                .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 화분 ID입니다: " + request.getPotId()));
+        int quantity = request.getQuantity() == null ? 1 : request.getQuantity();
+        if (quantity <= 0) {
+            throw new IllegalArgumentException("수량은 1 이상이어야 합니다.");
+        }
+
+        SubscribedPlant subscribedPlant = subscribedPlantRepository.save(
+                SubscribedPlant.createSubscribedPlant(subscription, plant, pot, quantity));
+        return reminderService.registerReminder(subscribedPlant.getId());
+    }
+}
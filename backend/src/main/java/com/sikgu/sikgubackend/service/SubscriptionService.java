@@ -1,66 +1,127 @@
 package com.sikgu.sikgubackend.service;
 
+import com.sikgu.sikgubackend.catalog.PlanCatalog;
+import com.sikgu.sikgubackend.dto.PlanDto;
 import com.sikgu.sikgubackend.dto.SubscriptionPaymentRequest;
 import com.sikgu.sikgubackend.entity.Subscription;
 import com.sikgu.sikgubackend.entity.User;
+import com.sikgu.sikgubackend.payment.PaymentCommand;
+import com.sikgu.sikgubackend.payment.PaymentDeclinedException;
+import com.sikgu.sikgubackend.payment.PaymentGateway;
+import com.sikgu.sikgubackend.payment.PaymentReceipt;
 import com.sikgu.sikgubackend.repository.SubscriptionRepository;
 import com.sikgu.sikgubackend.repository.UserRepository;
-import lombok.RequiredArgsConstructor;
+import com.sikgu.sikgubackend.subscription.SubscriptionChangedEvent;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
-import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 
+@Slf4j
 @Service
-@RequiredArgsConstructor
 @Transactional(readOnly = true)
 public class SubscriptionService {
 
     private final SubscriptionRepository subscriptionRepository;
     private final UserRepository userRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final PaymentGateway paymentGateway;
+    private final PlanCatalog planCatalog;
+    private final TransactionTemplate transactionTemplate;
+    private final long paymentTimeoutMillis;
+
+    public SubscriptionService(SubscriptionRepository subscriptionRepository,
+                               UserRepository userRepository,
+                               ApplicationEventPublisher eventPublisher,
+                               PaymentGateway paymentGateway,
+                               PlanCatalog planCatalog,
+                               PlatformTransactionManager transactionManager,
+                               @Value("${payment.timeout-ms:5000}") long paymentTimeoutMillis) {
+        this.subscriptionRepository = subscriptionRepository;
+        this.userRepository = userRepository;
+        this.eventPublisher = eventPublisher;
+        this.paymentGateway = paymentGateway;
+        this.planCatalog = planCatalog;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.paymentTimeoutMillis = paymentTimeoutMillis;
+    }
 
-    // 더미 결제를 위한 성공 가능 카드 목록 (실제 서비스에서는 DB/PG사 연동 필요)
-    private static final List<String> SUCCESS_CARDS = List.of(
-            "1234567812345678",
-            "0000000000000000"
-    );
-
-    // 더미 결제용 임시 plan 가격
+    // 플랜 가격은 메모리 카탈로그에서 조회 (쿼리 없음)
     private Long getPlanPrice(Long planId) {
-        if (planId == 1L) return 4900L;
-        if (planId == 2L) return 9900L;
-        throw new IllegalArgumentException("존재하지 않는 구독 플랜 ID입니다.");
+        return planCatalog.find(planId)
+                .map(PlanDto::getPrice)
+                .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 구독 플랜 ID입니다."));
     }
 
-    @Transactional
+    // 예약(PENDING 저장) → 결제(트랜잭션 없음) → 확정 순서로 진행하여 PG 응답을 기다리는 동안 DB 커넥션을 점유하지 않음
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public Subscription createSubscription(String email, SubscriptionPaymentRequest request) {
-        User user = userRepository.findByEmail(email)
-                .orElseThrow(() -> new UsernameNotFoundException("사용자를 찾을 수 없습니다: " + email));
-
         Long planPrice = getPlanPrice(request.getPlanId());
 
-        if (!isPaymentSuccessful(request)) {
-            throw new IllegalArgumentException("결제 정보가 유효하지 않거나 결제에 실패했습니다.");
+        // 1. 예약
+        Subscription reserved = transactionTemplate.execute(status -> {
+            User user = userRepository.findByEmail(email)
+                    .orElseThrow(() -> new UsernameNotFoundException("사용자를 찾을 수 없습니다: " + email));
+            return subscriptionRepository.save(Subscription.reserve(user, request.getPlanId(), planPrice));
+        });
+
+        // 2. 결제
+        PaymentCommand command = new PaymentCommand("subscription-" + reserved.getId(), planPrice,
+                request.getCardNumber(), request.getExpiryDate(), request.getCvc(), request.getCardHolderName());
+        PaymentReceipt receipt;
+        try {
+            receipt = awaitPayment(command);
+        } catch (RuntimeException e) {
+            transactionTemplate.executeWithoutResult(status -> subscriptionRepository.findById(reserved.getId())
+                    .ifPresent(Subscription::markAsFailed));
+            if (e instanceof PaymentDeclinedException) {
+                throw new IllegalArgumentException(e.getMessage(), e);
+            }
+            throw e;
         }
 
-        Subscription newSubscription = Subscription.builder()
-                .user(user)
-                .planId(request.getPlanId())
-                .paidAmount(planPrice)
-                .build();
-
-        return subscriptionRepository.save(newSubscription);
+        // 3. 확정
+        return transactionTemplate.execute(status -> {
+            Subscription subscription = subscriptionRepository.findWithUserById(reserved.getId())
+                    .orElseThrow(() -> new IllegalStateException("예약된 구독 정보를 찾을 수 없습니다."));
+            subscription.markAsPaid(receipt.transactionId());
+            // 이전 기간의 결제 대기 구독은 이번 결제로 이어졌으므로 만료 대상에서 제외
+            subscriptionRepository.markPaymentDueAsRenewed(subscription.getUser().getId());
+            eventPublisher.publishEvent(new SubscriptionChangedEvent(
+                    subscription.getUser().getId(), subscription.getId(), subscription.getPaymentStatus()));
+            return subscription;
+        });
     }
 
-    private boolean isPaymentSuccessful(SubscriptionPaymentRequest request) {
-        String cleanedCardNumber = request.getCardNumber().replaceAll("[^0-9]", "");
-
-        if (!"123".equals(request.getCvc())) {
-            return false;
+    private PaymentReceipt awaitPayment(PaymentCommand command) {
+        CompletableFuture<PaymentReceipt> payment = paymentGateway.charge(command);
+        try {
+            return payment.get(paymentTimeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (ExecutionException | CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new IllegalStateException("결제 처리 중 오류가 발생했습니다.", e.getCause());
+        } catch (TimeoutException e) {
+            // 늦게 승인된 결제는 PG 측 orderId로 대사하여 취소해야 함
+            payment.cancel(true);
+            log.warn("결제 응답 시간 초과: {}", command);
+            throw new IllegalStateException("결제 응답 시간이 초과되었습니다.", e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("결제 처리가 중단되었습니다.", e);
         }
-
-        return SUCCESS_CARDS.contains(cleanedCardNumber);
     }
 
     @Transactional
@@ -68,11 +129,13 @@ public class SubscriptionService {
         User user = userRepository.findByEmail(email)
                 .orElseThrow(() -> new UsernameNotFoundException("사용자 정보를 찾을 수 없습니다: " + email));
 
-        Subscription subscription = subscriptionRepository.findByUserAndPaymentStatus(user, "SUCCESS")
+        Subscription subscription = subscriptionRepository.findFirstByUserAndPaymentStatusOrderByEndDateDesc(user, "SUCCESS")
                 .orElseThrow(() -> new IllegalStateException("해지할 활성 구독 정보가 없습니다."));
 
         subscription.scheduleCancellation();
 
-        return subscriptionRepository.save(subscription);
+        Subscription saved = subscriptionRepository.save(subscription);
+        eventPublisher.publishEvent(new SubscriptionChangedEvent(user.getId(), saved.getId(), saved.getPaymentStatus()));
+        return saved;
     }
-}
\ No newline at end of file
+}
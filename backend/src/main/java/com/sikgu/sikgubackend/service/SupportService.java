@@ -0,0 +1,69 @@
+package com.sikgu.sikgubackend.service;
+
+import com.sikgu.sikgubackend.dto.SupportSearchResultDto;
+import com.sikgu.sikgubackend.repository.SupportQnARepository;
+import com.sikgu.sikgubackend.repository.SupportQnARepository.QnAText;
+import com.sikgu.sikgubackend.search.QnASearchIndex.SearchHit;
+import com.sikgu.sikgubackend.search.SupportSearchIndex;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@Service
+@RequiredArgsConstructor
+public class SupportService {
+
+    private static final int DEFAULT_SEARCH_LIMIT = 10;
+    private static final int MAX_SEARCH_LIMIT = 50;
+    private static final int MAX_QUERY_LENGTH = 200;
+    private static final int ANSWER_PREVIEW_LENGTH = 120;
+
+    private final SupportSearchIndex supportSearchIndex;
+    private final SupportQnARepository supportQnARepository;
+
+    // 색인에서 상위 id를 고른 뒤 본문은 PK로 한 번에 조회 (점수 순서 유지)
+    @Transactional(readOnly = true)
+    public List<SupportSearchResultDto> search(String query, Integer limit) {
+        if (query == null || query.isBlank()) {
+            throw new IllegalArgumentException("검색어를 입력해야 합니다.");
+        }
+        if (query.length() > MAX_QUERY_LENGTH) {
+            throw new IllegalArgumentException("검색어는 " + MAX_QUERY_LENGTH + "자 이하여야 합니다.");
+        }
+        int size = limit == null ? DEFAULT_SEARCH_LIMIT : Math.max(1, Math.min(limit, MAX_SEARCH_LIMIT));
+
+        List<SearchHit> hits = supportSearchIndex.search(query, size);
+        if (hits.isEmpty()) {
+            return List.of();
+        }
+
+        Map<Long, QnAText> texts = supportQnARepository.findTextsByIdIn(hits.stream().map(SearchHit::docId).toList())
+                .stream()
+                .collect(Collectors.toMap(QnAText::getId, Function.identity()));
+
+        List<SupportSearchResultDto> results = new ArrayList<>(hits.size());
+        for (SearchHit hit : hits) {
+            QnAText text = texts.get(hit.docId());
+            // 색인 반영 전에 삭제된 행은 건너뜀
+            if (text == null) {
+                continue;
+            }
+            results.add(new SupportSearchResultDto(text.getId(), text.getCategory(), text.getQuestion(),
+                    preview(text.getAnswer()), hit.score()));
+        }
+        return results;
+    }
+
+    private static String preview(String answer) {
+        if (answer == null || answer.length() <= ANSWER_PREVIEW_LENGTH) {
+            return answer;
+        }
+        return answer.substring(0, ANSWER_PREVIEW_LENGTH) + "…";
+    }
+}
@@ -6,25 +6,31 @@ import com.sikgu.sikgubackend.dto.UserDto;
 import com.sikgu.sikgubackend.entity.User;
 import com.sikgu.sikgubackend.entity.enums.Role;
 import com.sikgu.sikgubackend.repository.UserRepository;
+import com.sikgu.sikgubackend.security.jwt.cache.PrincipalCache;
+import com.sikgu.sikgubackend.transaction.AfterCommit;
 import jakarta.transaction.Transactional;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 
+@Slf4j
 @Service
 public class UserService {
 
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
+    private final PrincipalCache principalCache;
 
-    public UserService(UserRepository userRepository, PasswordEncoder passwordEncoder) {
+    public UserService(UserRepository userRepository, PasswordEncoder passwordEncoder, PrincipalCache principalCache) {
         this.userRepository = userRepository;
         this.passwordEncoder = passwordEncoder;
+        this.principalCache = principalCache;
     }
 
     public boolean signup(SignupRequest signupRequest) {
         if (userRepository.findByEmail(signupRequest.getEmail()).isPresent()) {
-            System.err.println("회원가입 실패: 이미 존재하는 이메일입니다.");
+            log.info("회원가입 실패: 이미 존재하는 이메일입니다.");
             return false;
         }
 
@@ -35,10 +41,10 @@ public class UserService {
 
         try {
             userRepository.save(user);
-            System.out.println("회원가입 처리 완료: " + signupRequest.getEmail());
+            log.info("회원가입 처리 완료: {}", email);
             return true;
         } catch (Exception e) {
-            System.err.println("회원가입 중 오류 발생: " + e.getMessage());
+            log.error("회원가입 중 오류 발생: {}", email, e);
             return false;
         }
     }
@@ -69,7 +75,19 @@ public class UserService {
         );
 
         userRepository.save(user);
+        AfterCommit.run(() -> principalCache.invalidate(email));
 
         return getUserProfile(email);
     }
+
+    // 권한 변경 (캐시된 인증 주체는 커밋 후 무효화)
+    @Transactional
+    public void changeRole(String email, Role newRole) {
+        User user = userRepository.findByEmail(email)
+                .orElseThrow(() -> new UsernameNotFoundException("사용자를 찾을 수 없습니다: " + email));
+
+        user.changeRole(newRole);
+        userRepository.save(user);
+        AfterCommit.run(() -> principalCache.invalidate(email));
+    }
 }
\ No newline at end of file
@@ -0,0 +1,5 @@
+package com.sikgu.sikgubackend.subscription;
+
+// 구독 상태가 바뀌었을 때 발행 (status는 Subscription.paymentStatus 값)
+public record SubscriptionChangedEvent(Long userId, Long subscriptionId, String status) {
+}
@@ -0,0 +1,184 @@
+package com.sikgu.sikgubackend.subscription;
+
+import com.sikgu.sikgubackend.repository.SubscriptionRepository;
+import com.sikgu.sikgubackend.repository.SubscriptionRepository.DueSubscription;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 종료일이 지난 구독을 결제 대기로 바꾸거나 만료시키는 배치 작업.
+ * (end_date, id) 키셋으로 청크 단위 조회 후 JDBC 배치 UPDATE로 한 번에 반영합니다.
+ * - SUCCESS: PAYMENT_DUE로 변경 (기간은 연장하지 않음, 결제는 POST /subscriptions로 새 기간을 결제)
+ * - CANCELED_AT_PERIOD_END: EXPIRED로 변경
+ * - PAYMENT_DUE: 종료일 + 유예 기간이 지나도록 결제하지 않으면 EXPIRED로 변경
+ *   (유예 기간 안에 새 기간을 결제하면 SubscriptionService가 RENEWED로 바꾸므로 만료 대상에서 빠짐)
+ * 저장된 결제 수단이 없으므로 배치가 직접 결제하지 않으며, 결제 없이 기간을 늘리지도 않습니다.
+ * 조건부 UPDATE이므로 중간에 중단된 뒤 다시 실행해도 이미 반영된 구독은 다시 바뀌지 않습니다.
+ */
+@Slf4j
+@Component
+public class SubscriptionRenewalProcessor {
+
+    static final String ACTIVE = "SUCCESS";
+    static final String CANCELED_AT_PERIOD_END = "CANCELED_AT_PERIOD_END";
+    static final String PAYMENT_DUE = "PAYMENT_DUE";
+    static final String EXPIRED = "EXPIRED";
+
+    private static final List<String> DUE_STATUSES = List.of(ACTIVE, CANCELED_AT_PERIOD_END);
+    private static final List<String> UNPAID_STATUSES = List.of(PAYMENT_DUE);
+
+    private static final String PAYMENT_DUE_SQL =
+            "UPDATE subscription SET payment_status = '" + PAYMENT_DUE + "', last_modified_time = ? " +
+                    "WHERE id = ? AND end_date = ? AND payment_status = '" + ACTIVE + "'";
+
+    private static final String EXPIRE_SQL =
+            "UPDATE subscription SET payment_status = '" + EXPIRED + "', last_modified_time = ? " +
+                    "WHERE id = ? AND payment_status IN ('" + CANCELED_AT_PERIOD_END + "', '" + PAYMENT_DUE + "')";
+
+    private final SubscriptionRepository subscriptionRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final int chunkSize;
+    private final long graceDays;
+
+    private final AtomicBoolean running = new AtomicBoolean();
+
+    public SubscriptionRenewalProcessor(SubscriptionRepository subscriptionRepository,
+                                        JdbcTemplate jdbcTemplate,
+                                        PlatformTransactionManager transactionManager,
+                                        ApplicationEventPublisher eventPublisher,
+                                        @Value("${subscription.renewal.chunk-size:1000}") int chunkSize,
+                                        @Value("${subscription.renewal.grace-days:7}") long graceDays) {
+        this.subscriptionRepository = subscriptionRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.eventPublisher = eventPublisher;
+        this.chunkSize = chunkSize;
+        this.graceDays = graceDays;
+    }
+
+    @Scheduled(initialDelayString = "${subscription.renewal.initial-delay-ms:60000}",
+            fixedDelayString = "${subscription.renewal.poll-delay-ms:600000}")
+    public void processDueSubscriptions() {
+        processDue(LocalDateTime.now());
+    }
+
+    // now 기준으로 종료일이 지난 구독을 처리하고 실제로 변경된 건수를 반환
+    public Result processDue(LocalDateTime now) {
+        if (!running.compareAndSet(false, true)) {
+            return new Result(0, 0, 0);
+        }
+
+        long startedAt = System.nanoTime();
+        int[] counts = new int[3]; // 조회, 결제 대기, 만료
+        try {
+            // 1. 종료일이 지난 구독: 결제 대기 또는 만료
+            scan(now, DUE_STATUSES, now, counts);
+            // 2. 유예 기간이 지나도록 결제하지 않은 구독: 만료
+            scan(now.minusDays(graceDays), UNPAID_STATUSES, now, counts);
+        } finally {
+            running.set(false);
+        }
+
+        long elapsedMillis = Math.max(1, (System.nanoTime() - startedAt) / 1_000_000);
+        if (counts[0] > 0) {
+            log.info("구독 결제 대기/만료 처리: 조회 {}건, 결제 대기 {}건, 만료 {}건 ({}ms, {}건/s)",
+                    counts[0], counts[1], counts[2], elapsedMillis, counts[0] * 1000L / elapsedMillis);
+        }
+        return new Result(counts[0], counts[1], counts[2]);
+    }
+
+    // endDate <= dueBefore 이고 상태가 statuses인 구독을 청크 단위로 처리
+    private void scan(LocalDateTime dueBefore, List<String> statuses, LocalDateTime now, int[] counts) {
+        LocalDateTime afterDate = LocalDateTime.of(1970, 1, 1, 0, 0);
+        long afterId = 0L;
+
+        while (true) {
+            List<DueSubscription> chunk = subscriptionRepository.findDueAfter(
+                    dueBefore, statuses, afterDate, afterId, PageRequest.of(0, chunkSize));
+            if (chunk.isEmpty()) {
+                break;
+            }
+            counts[0] += chunk.size();
+
+            List<DueSubscription> toMarkDue = new ArrayList<>();
+            List<DueSubscription> toExpire = new ArrayList<>();
+            for (DueSubscription subscription : chunk) {
+                (ACTIVE.equals(subscription.getPaymentStatus()) ? toMarkDue : toExpire).add(subscription);
+            }
+
+            // 청크 하나를 한 트랜잭션으로 커밋 (이벤트도 트랜잭션 안에서 발행해 알림함 행이 상태 변경과 함께 커밋되도록 함)
+            int[] changed = transactionTemplate.execute(status -> new int[]{
+                    publish(toMarkDue, markPaymentDue(toMarkDue, now), PAYMENT_DUE),
+                    publish(toExpire, expire(toExpire, now), EXPIRED)
+            });
+            counts[1] += changed[0];
+            counts[2] += changed[1];
+
+            DueSubscription last = chunk.get(chunk.size() - 1);
+            afterDate = last.getEndDate();
+            afterId = last.getId();
+
+            if (chunk.size() < chunkSize) {
+                break;
+            }
+        }
+    }
+
+    private int[][] markPaymentDue(List<DueSubscription> subscriptions, LocalDateTime now) {
+        if (subscriptions.isEmpty()) {
+            return new int[0][];
+        }
+        Timestamp modifiedAt = Timestamp.valueOf(now);
+        return jdbcTemplate.batchUpdate(PAYMENT_DUE_SQL, subscriptions, subscriptions.size(), (ps, subscription) -> {
+            ps.setTimestamp(1, modifiedAt);
+            ps.setLong(2, subscription.getId());
+            ps.setTimestamp(3, Timestamp.valueOf(subscription.getEndDate()));
+        });
+    }
+
+    private int[][] expire(List<DueSubscription> subscriptions, LocalDateTime now) {
+        if (subscriptions.isEmpty()) {
+            return new int[0][];
+        }
+        Timestamp modifiedAt = Timestamp.valueOf(now);
+        return jdbcTemplate.batchUpdate(EXPIRE_SQL, subscriptions, subscriptions.size(), (ps, subscription) -> {
+            ps.setTimestamp(1, modifiedAt);
+            ps.setLong(2, subscription.getId());
+        });
+    }
+
+    // 실제로 변경된 구독에 대해서만 이벤트 발행
+    private int publish(List<DueSubscription> subscriptions, int[][] results, String status) {
+        int count = 0;
+        int index = 0;
+        for (int[] result : results) {
+            for (int rows : result) {
+                DueSubscription subscription = subscriptions.get(index++);
+                if (rows != 0) {
+                    count++;
+                    eventPublisher.publishEvent(new SubscriptionChangedEvent(
+                            subscription.getUserId(), subscription.getId(), status));
+                }
+            }
+        }
+        return count;
+    }
+
+    public record Result(int scanned, int paymentDue, int expired) {
+    }
+}
@@ -0,0 +1,60 @@
+package com.sikgu.sikgubackend.transaction;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.LinkedHashSet;
+import java.util.Set;
+import java.util.function.Consumer;
+
+/**
+ * 트랜잭션이 커밋된 뒤에 실행할 작업을 등록합니다. 롤백되면 실행하지 않으며,
+ * 트랜잭션 밖에서 호출하면 즉시 실행합니다.
+ * (커밋 전에 캐시를 비우면 다른 요청이 커밋 전 값을 다시 읽어 캐시에 남길 수 있음)
+ */
+public final class AfterCommit {
+
+    private AfterCommit() {
+    }
+
+    public static void run(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
+    // 같은 key로 트랜잭션 안에서 여러 번 호출하면 값을 모아 커밋 후 action을 한 번만 실행
+    public static <T> void collect(Object key, T value, Consumer<Set<T>> action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.accept(Set.of(value));
+            return;
+        }
+
+        @SuppressWarnings("unchecked")
+        Set<T> values = (Set<T>) TransactionSynchronizationManager.getResource(key);
+        if (values == null) {
+            Set<T> collected = new LinkedHashSet<>();
+            TransactionSynchronizationManager.bindResource(key, collected);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.accept(Set.copyOf(collected));
+                }
+
+                @Override
+                public void afterCompletion(int status) {
+                    TransactionSynchronizationManager.unbindResourceIfPossible(key);
+                }
+            });
+            values = collected;
+        }
+        values.add(value);
+    }
+}
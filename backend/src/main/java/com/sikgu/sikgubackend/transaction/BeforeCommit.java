@@ -0,0 +1,60 @@
+package com.sikgu.sikgubackend.transaction;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * 트랜잭션 안에서 모은 값을 커밋 직전에 한 번에 처리합니다.
+ * 처리는 같은 트랜잭션에서 실행되므로 원래 변경과 함께 커밋되거나 함께 롤백되며,
+ * 트랜잭션 밖에서 호출하면 즉시 처리합니다.
+ */
+public final class BeforeCommit {
+
+    private BeforeCommit() {
+    }
+
+    // 같은 key로 트랜잭션 안에서 여러 번 호출하면 값을 호출 순서대로 모아 커밋 직전에 action을 한 번만 실행
+    public static <T> void collect(Object key, T value, Consumer<List<T>> action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.accept(List.of(value));
+            return;
+        }
+
+        @SuppressWarnings("unchecked")
+        List<T> values = (List<T>) TransactionSynchronizationManager.getResource(key);
+        if (values == null) {
+            List<T> collected = new ArrayList<>();
+            TransactionSynchronizationManager.bindResource(key, collected);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                // 안쪽 REQUIRES_NEW 트랜잭션의 값이 바깥 트랜잭션 목록에 섞이지 않도록 일시 중단 동안 풀어 둠
+                @Override
+                public void suspend() {
+                    TransactionSynchronizationManager.unbindResourceIfPossible(key);
+                }
+
+                @Override
+                public void resume() {
+                    TransactionSynchronizationManager.bindResource(key, collected);
+                }
+
+                @Override
+                public void beforeCommit(boolean readOnly) {
+                    if (!collected.isEmpty()) {
+                        action.accept(List.copyOf(collected));
+                    }
+                }
+
+                @Override
+                public void afterCompletion(int status) {
+                    TransactionSynchronizationManager.unbindResourceIfPossible(key);
+                }
+            });
+            values = collected;
+        }
+        values.add(value);
+    }
+}
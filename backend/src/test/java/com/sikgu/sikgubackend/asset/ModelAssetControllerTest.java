@@ -0,0 +1,103 @@
+package com.sikgu.sikgubackend.asset;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+class ModelAssetControllerTest {
+
+    @TempDir
+    static Path modelsDir;
+
+    static byte[] content;
+
+    @Autowired
+    MockMvc mockMvc;
+
+    @DynamicPropertySource
+    static void properties(DynamicPropertyRegistry registry) {
+        registry.add("asset.models-dir", () -> modelsDir.toString());
+    }
+
+    @BeforeAll
+    static void setUp() throws Exception {
+        content = new byte[100_000];
+        for (int i = 0; i < content.length; i++) {
+            content[i] = (byte) (i % 251);
+        }
+        Files.write(modelsDir.resolve("monstera.glb"), content);
+        Files.write(modelsDir.resolve("monstera.glb.gz"), new byte[]{1, 2, 3});
+    }
+
+    @Test
+    void 전체_요청은_원본과_강한_ETag를_반환하고_재검증하면_304() throws Exception {
+        MvcResult result = mockMvc.perform(get("/models/monstera.glb"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CONTENT_TYPE, "model/gltf-binary"))
+                .andExpect(header().string(HttpHeaders.ACCEPT_RANGES, "bytes"))
+                .andReturn();
+        assertThat(result.getResponse().getContentAsByteArray()).isEqualTo(content);
+
+        String etag = result.getResponse().getHeader(HttpHeaders.ETAG);
+        assertThat(etag).startsWith("\"").doesNotStartWith("W/");
+
+        mockMvc.perform(get("/models/monstera.glb").header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified());
+    }
+
+    @Test
+    void 구간_요청은_206과_해당_바이트만_반환한다() throws Exception {
+        MvcResult result = mockMvc.perform(get("/models/monstera.glb")
+                        .header(HttpHeaders.RANGE, "bytes=1000-1999")
+                        .header(HttpHeaders.ACCEPT_ENCODING, "gzip"))
+                .andExpect(status().isPartialContent())
+                .andExpect(header().string(HttpHeaders.CONTENT_RANGE, "bytes 1000-1999/100000"))
+                .andExpect(header().doesNotExist(HttpHeaders.CONTENT_ENCODING))
+                .andReturn();
+        assertThat(result.getResponse().getContentAsByteArray()).isEqualTo(Arrays.copyOfRange(content, 1000, 2000));
+
+        mockMvc.perform(get("/models/monstera.glb").header(HttpHeaders.RANGE, "bytes=-10"))
+                .andExpect(status().isPartialContent())
+                .andExpect(header().string(HttpHeaders.CONTENT_RANGE, "bytes 99990-99999/100000"));
+
+        mockMvc.perform(get("/models/monstera.glb").header(HttpHeaders.RANGE, "bytes=200000-"))
+                .andExpect(status().isRequestedRangeNotSatisfiable())
+                .andExpect(header().string(HttpHeaders.CONTENT_RANGE, "bytes */100000"));
+    }
+
+    @Test
+    void 압축_변형이_있으면_Accept_Encoding에_따라_전송한다() throws Exception {
+        MvcResult result = mockMvc.perform(get("/models/monstera.glb").header(HttpHeaders.ACCEPT_ENCODING, "br, gzip"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CONTENT_ENCODING, "gzip"))
+                .andReturn();
+        assertThat(result.getResponse().getContentAsByteArray()).containsExactly(1, 2, 3);
+        assertThat(result.getResponse().getHeaders(HttpHeaders.VARY)).contains(HttpHeaders.ACCEPT_ENCODING);
+        assertThat(result.getResponse().getHeader(HttpHeaders.ETAG)).endsWith("-gzip\"");
+    }
+
+    @Test
+    void 없는_파일이나_경로_이동은_404() throws Exception {
+        mockMvc.perform(get("/models/missing.glb")).andExpect(status().isNotFound());
+        mockMvc.perform(get("/models/..monstera.glb")).andExpect(status().isNotFound());
+    }
+}
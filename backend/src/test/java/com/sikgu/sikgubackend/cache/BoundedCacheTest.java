@@ -0,0 +1,47 @@
+package com.sikgu.sikgubackend.cache;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class BoundedCacheTest {
+
+    @Test
+    void 가득_차면_가장_오래_사용하지_않은_항목을_제거한다() {
+        BoundedCache<String, Integer> cache = new BoundedCache<>(3);
+        cache.put("a", 1, BoundedCache.NO_EXPIRY);
+        cache.put("b", 2, BoundedCache.NO_EXPIRY);
+        cache.put("c", 3, BoundedCache.NO_EXPIRY);
+
+        // a를 최근에 사용했으므로 b가 제거됨
+        assertThat(cache.get("a")).isEqualTo(1);
+        cache.put("d", 4, BoundedCache.NO_EXPIRY);
+
+        assertThat(cache.size()).isEqualTo(3);
+        assertThat(cache.get("b")).isNull();
+        assertThat(cache.get("a")).isEqualTo(1);
+        assertThat(cache.get("c")).isEqualTo(3);
+        assertThat(cache.get("d")).isEqualTo(4);
+    }
+
+    @Test
+    void 만료된_항목은_반환하지_않는다() {
+        BoundedCache<String, Integer> cache = new BoundedCache<>(3);
+        cache.put("expired", 1, System.currentTimeMillis() - 1);
+        cache.put("live", 2, BoundedCache.NO_EXPIRY);
+
+        assertThat(cache.get("expired")).isNull();
+        assertThat(cache.get("live")).isEqualTo(2);
+        assertThat(cache.size()).isEqualTo(1);
+    }
+
+    @Test
+    void 값을_만드는_동안_무효화되면_저장하지_않는다() {
+        BoundedCache<String, Integer> cache = new BoundedCache<>(3);
+        long stamp = cache.stamp();
+        cache.invalidate("a");
+
+        assertThat(cache.put("a", 1, BoundedCache.NO_EXPIRY, stamp)).isFalse();
+        assertThat(cache.get("a")).isNull();
+    }
+}
@@ -0,0 +1,75 @@
+package com.sikgu.sikgubackend.catalog;
+
+import com.sikgu.sikgubackend.entity.Plant;
+import com.sikgu.sikgubackend.entity.enums.PlantCondition;
+import com.sikgu.sikgubackend.repository.PlantRepository;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Optional;
+import java.util.Set;
+import java.util.zip.GZIPInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class CareGuideCacheTest {
+
+    private static final Long PLANT_ID = 1L;
+
+    private final PlantRepository plantRepository = mock(PlantRepository.class);
+    private final CareGuideCache cache = new CareGuideCache(plantRepository, 100);
+
+    @Test
+    void 압축_본문은_원문과_같은_내용이다() throws IOException {
+        when(plantRepository.findById(PLANT_ID)).thenReturn(Optional.of(plant("물을 좋아해요")));
+
+        CareGuide guide = cache.get(PLANT_ID);
+
+        assertThat(guide.text()).contains("몬스테라 관리 가이드", "7일마다", "물을 좋아해요");
+        assertThat(guide.utf8()).isEqualTo(guide.text().getBytes(StandardCharsets.UTF_8));
+        try (GZIPInputStream gzip = new GZIPInputStream(new ByteArrayInputStream(guide.gzip()))) {
+            assertThat(gzip.readAllBytes()).isEqualTo(guide.utf8());
+        }
+    }
+
+    @Test
+    void 식물이_변경되면_다시_렌더링한다() {
+        when(plantRepository.findById(PLANT_ID)).thenReturn(Optional.of(plant("처음 주의사항")));
+        assertThat(cache.get(PLANT_ID).text()).contains("처음 주의사항");
+        assertThat(cache.get(PLANT_ID).text()).contains("처음 주의사항");
+        verify(plantRepository, times(1)).findById(PLANT_ID);
+
+        when(plantRepository.findById(PLANT_ID)).thenReturn(Optional.of(plant("바뀐 주의사항")));
+        cache.onPlantChanged(new PlantChangedEvent(Set.of(PLANT_ID)));
+
+        assertThat(cache.get(PLANT_ID).text()).contains("바뀐 주의사항");
+    }
+
+    @Test
+    void 렌더링_중에_무효화되면_이전_가이드를_저장하지_않는다() {
+        // 조회 직후(렌더링 전) 같은 식물이 변경됨
+        when(plantRepository.findById(PLANT_ID)).thenAnswer(invocation -> {
+            cache.onPlantChanged(new PlantChangedEvent(Set.of(PLANT_ID)));
+            return Optional.of(plant("이전 주의사항"));
+        });
+        CareGuide stale = cache.get(PLANT_ID);
+
+        when(plantRepository.findById(PLANT_ID)).thenReturn(Optional.of(plant("새 주의사항")));
+        CareGuide fresh = cache.get(PLANT_ID);
+
+        assertThat(stale.text()).contains("이전 주의사항");
+        assertThat(fresh.text()).contains("새 주의사항");
+        assertThat(fresh.version()).isGreaterThan(stale.version());
+    }
+
+    private static Plant plant(String caution) {
+        return Plant.createPlant("몬스테라", 3000L, 7L,
+                PlantCondition.MEDIUM, PlantCondition.HIGH, PlantCondition.MEDIUM, caution, null, null);
+    }
+}
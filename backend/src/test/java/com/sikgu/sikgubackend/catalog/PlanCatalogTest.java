@@ -0,0 +1,37 @@
+package com.sikgu.sikgubackend.catalog;
+
+import com.sikgu.sikgubackend.dto.PlanDto;
+import com.sikgu.sikgubackend.entity.Plan;
+import com.sikgu.sikgubackend.repository.PlanRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+class PlanCatalogTest {
+
+    @Autowired
+    PlanCatalog planCatalog;
+
+    @Autowired
+    PlanRepository planRepository;
+
+    @Test
+    void 플랜이_변경되면_커밋_후_카탈로그를_다시_읽는다() {
+        Plan plan = planRepository.save(Plan.createPlan("테스트 요금제", 12900L, 3, "카탈로그 갱신 확인용"));
+
+        assertThat(planCatalog.find(plan.getId())).get()
+                .extracting(PlanDto::getPlanName, PlanDto::getPrice)
+                .containsExactly("테스트 요금제", 12900L);
+        assertThat(new String(planCatalog.plansJson(), StandardCharsets.UTF_8)).contains("테스트 요금제");
+
+        planRepository.delete(plan);
+
+        assertThat(planCatalog.find(plan.getId())).isEmpty();
+        assertThat(new String(planCatalog.plansJson(), StandardCharsets.UTF_8)).doesNotContain("테스트 요금제");
+    }
+}
@@ -0,0 +1,47 @@
+package com.sikgu.sikgubackend.catalog;
+
+import com.sikgu.sikgubackend.entity.Plant;
+import com.sikgu.sikgubackend.entity.enums.PlantCondition;
+import com.sikgu.sikgubackend.repository.PlantRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 재로딩 지연을 길게 잡아 연속된 변경이 한 번의 재로딩으로 합쳐지도록 함
+@SpringBootTest(properties = "catalog.refresh-delay-ms=500")
+class PlantCatalogTest {
+
+    private static final int PLANT_COUNT = 20;
+
+    @Autowired
+    PlantCatalog plantCatalog;
+
+    @Autowired
+    PlantRepository plantRepository;
+
+    @Test
+    void 여러_트랜잭션의_변경을_합쳐서_재로딩한다() throws Exception {
+        long versionBefore = plantCatalog.snapshot().version();
+
+        // 저장마다 별도 트랜잭션으로 커밋
+        List<Long> ids = new ArrayList<>();
+        for (int i = 0; i < PLANT_COUNT; i++) {
+            ids.add(plantRepository.save(Plant.createPlant("카탈로그 식물 " + i, 1000L + i, 7L,
+                    PlantCondition.LOW, PlantCondition.MEDIUM, PlantCondition.MEDIUM, "주의사항", null, null)).getId());
+        }
+
+        long deadline = System.currentTimeMillis() + 5000;
+        while (plantCatalog.snapshot().find(ids.get(PLANT_COUNT - 1)) == null && System.currentTimeMillis() < deadline) {
+            Thread.sleep(20);
+        }
+
+        PlantCatalogSnapshot snapshot = plantCatalog.snapshot();
+        assertThat(ids).allSatisfy(id -> assertThat(snapshot.find(id)).isNotNull());
+        assertThat(snapshot.version() - versionBefore).isLessThan(PLANT_COUNT);
+    }
+}
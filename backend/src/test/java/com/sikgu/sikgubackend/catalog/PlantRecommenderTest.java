@@ -0,0 +1,92 @@
+package com.sikgu.sikgubackend.catalog;
+
+import com.sikgu.sikgubackend.dto.PlantRecommendationDto;
+import com.sikgu.sikgubackend.entity.enums.PlantCondition;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static com.sikgu.sikgubackend.entity.enums.PlantCondition.HIGH;
+import static com.sikgu.sikgubackend.entity.enums.PlantCondition.LOW;
+import static com.sikgu.sikgubackend.entity.enums.PlantCondition.MEDIUM;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+
+class PlantRecommenderTest {
+
+    private static final PlantCatalogSnapshot CATALOG = new PlantCatalogSnapshot(1L, List.of(
+            plant(1L, LOW, LOW, LOW, 3L),
+            plant(2L, MEDIUM, MEDIUM, MEDIUM, 7L),
+            plant(3L, HIGH, HIGH, HIGH, 14L),
+            plant(4L, MEDIUM, MEDIUM, MEDIUM, 30L),
+            plant(5L, HIGH, LOW, MEDIUM, null)
+    ));
+
+    @Test
+    void 일치하면_2점_한_단계_차이면_1점_두_단계_차이면_제외한다() {
+        List<PlantRecommendationDto> result = PlantRecommender.recommend(CATALOG, LOW, null, null, null, 10);
+
+        // LOW 일치(1) 2/2, MEDIUM 인접(2, 4) 1/2, HIGH(3, 5)는 점수 0이라 제외
+        assertThat(result)
+                .extracting(PlantRecommendationDto::getPlantId, PlantRecommendationDto::getScore)
+                .containsExactly(tuple(1L, 1.0), tuple(2L, 0.5), tuple(4L, 0.5));
+    }
+
+    @Test
+    void 조건별_점수와_관리_주기_점수를_합산해_최대_점수로_나눈다() {
+        List<PlantRecommendationDto> result = PlantRecommender.recommend(CATALOG, MEDIUM, MEDIUM, MEDIUM, 10L, 2);
+
+        // 4번: 2+2+2+1 = 7/7, 2번: 주기가 짧아 6/7
+        assertThat(result)
+                .extracting(PlantRecommendationDto::getPlantId, PlantRecommendationDto::getScore)
+                .containsExactly(tuple(4L, 1.0), tuple(2L, 6.0 / 7));
+    }
+
+    @Test
+    void 조건_인덱스에_없어도_관리_주기가_맞으면_후보에_포함한다() {
+        List<PlantRecommendationDto> result = PlantRecommender.recommend(CATALOG, LOW, null, null, 10L, 10);
+
+        // 1번 2+0, 4번 1+1, 2번 1+0, 3번은 HIGH라 조건 점수 0이지만 주기 14 >= 10으로 1점, 5번은 주기 없음
+        assertThat(result)
+                .extracting(PlantRecommendationDto::getPlantId, PlantRecommendationDto::getScore)
+                .containsExactly(tuple(1L, 2.0 / 3), tuple(4L, 2.0 / 3), tuple(2L, 1.0 / 3), tuple(3L, 1.0 / 3));
+    }
+
+    @Test
+    void 관리_주기를_만족하는_식물이_없으면_조건_점수만으로_고른다() {
+        List<PlantRecommendationDto> result = PlantRecommender.recommend(CATALOG, HIGH, null, null, 100L, 10);
+
+        // 3번과 5번 HIGH 일치 2/3, 2번과 4번 인접 1/3, 1번은 LOW라 0점이고 주기도 맞지 않아 제외
+        assertThat(result)
+                .extracting(PlantRecommendationDto::getPlantId, PlantRecommendationDto::getScore)
+                .containsExactly(tuple(3L, 2.0 / 3), tuple(5L, 2.0 / 3), tuple(2L, 1.0 / 3), tuple(4L, 1.0 / 3));
+    }
+
+    @Test
+    void 점수가_같으면_id가_작은_식물이_먼저_온다() {
+        // 3번과 5번은 HIGH 일치로 2점, 2번과 4번은 인접으로 1점
+        List<PlantRecommendationDto> result = PlantRecommender.recommend(CATALOG, HIGH, null, null, null, 3);
+
+        assertThat(result).extracting(PlantRecommendationDto::getPlantId).containsExactly(3L, 5L, 2L);
+    }
+
+    @Test
+    void 요청_개수가_카탈로그보다_커도_점수가_있는_식물만_반환한다() {
+        List<PlantRecommendationDto> result = PlantRecommender.recommend(CATALOG, null, null, MEDIUM, null, 100);
+
+        assertThat(result).extracting(PlantRecommendationDto::getPlantId).containsExactly(2L, 4L, 5L, 1L, 3L);
+        assertThat(PlantRecommender.recommend(PlantCatalogSnapshot.EMPTY, null, null, MEDIUM, null, 100)).isEmpty();
+    }
+
+    @Test
+    void 조건이_없으면_예외() {
+        assertThatThrownBy(() -> PlantRecommender.recommend(CATALOG, null, null, null, null, 10))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static CatalogPlant plant(Long id, PlantCondition light, PlantCondition humidity, PlantCondition temp,
+                                      Long cycle) {
+        return new CatalogPlant(id, "식물" + id, 1000L, cycle, light, humidity, temp, null);
+    }
+}
@@ -0,0 +1,84 @@
+package com.sikgu.sikgubackend.controller;
+
+import com.sikgu.sikgubackend.entity.User;
+import com.sikgu.sikgubackend.entity.enums.Role;
+import com.sikgu.sikgubackend.repository.UserRepository;
+import com.sikgu.sikgubackend.security.password.PasswordHashingExecutor;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+// 해시 스레드 1개, 대기열 1칸 (실행 중 1개 + 대기 1개면 포화)
+@SpringBootTest(properties = {
+        "security.password-hashing.threads=1",
+        "security.password-hashing.queue-capacity=1"
+})
+@AutoConfigureMockMvc
+class AuthControllerTest {
+
+    @Autowired
+    MockMvc mockMvc;
+
+    @Autowired
+    UserRepository userRepository;
+
+    @Autowired
+    PasswordHashingExecutor passwordHashingExecutor;
+
+    @Test
+    void 비밀번호_해시_풀이_가득_차면_로그인은_429와_Retry_After를_반환한다() throws Exception {
+        String email = "login-saturated@sikgu.com";
+        // 비교는 거절되므로 저장된 해시 값은 쓰이지 않음
+        userRepository.save(User.createUser(email, "not-hashed", Role.USER));
+
+        ExecutorService callers = Executors.newFixedThreadPool(2);
+        CountDownLatch release = new CountDownLatch(1);
+        try {
+            callers.submit(() -> passwordHashingExecutor.execute(() -> await(release)));
+            waitUntil(() -> passwordHashingExecutor.getActiveCount() == 1);
+            callers.submit(() -> passwordHashingExecutor.execute(() -> await(release)));
+            waitUntil(() -> passwordHashingExecutor.getQueueDepth() == 1);
+
+            mockMvc.perform(post("/auth/login")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content("{\"email\":\"" + email + "\",\"password\":\"password\"}"))
+                    .andExpect(status().isTooManyRequests())
+                    .andExpect(header().string("Retry-After", "1"));
+        } finally {
+            release.countDown();
+            callers.shutdown();
+            callers.awaitTermination(5, TimeUnit.SECONDS);
+        }
+    }
+
+    private static boolean await(CountDownLatch latch) {
+        try {
+            return latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private static void waitUntil(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5000;
+        while (!condition.getAsBoolean() && System.currentTimeMillis() < deadline) {
+            Thread.sleep(5);
+        }
+        assertThat(condition.getAsBoolean()).isTrue();
+    }
+}
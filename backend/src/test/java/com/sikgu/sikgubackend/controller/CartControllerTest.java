@@ -0,0 +1,131 @@
+package com.sikgu.sikgubackend.controller;
+
+import com.sikgu.sikgubackend.entity.Cart;
+import com.sikgu.sikgubackend.entity.CartItem;
+import com.sikgu.sikgubackend.entity.Plant;
+import com.sikgu.sikgubackend.entity.User;
+import com.sikgu.sikgubackend.entity.enums.PlantCondition;
+import com.sikgu.sikgubackend.entity.enums.Role;
+import com.sikgu.sikgubackend.repository.CartRepository;
+import com.sikgu.sikgubackend.repository.PlantRepository;
+import com.sikgu.sikgubackend.repository.UserRepository;
+import com.sikgu.sikgubackend.security.jwt.util.JwtTokenUtil;
+import com.sikgu.sikgubackend.service.CartService;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.test.context.bean.override.mockito.MockitoSpyBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static com.sikgu.sikgubackend.monitoring.StatementCountMatchers.statementsAtMost;
+import static org.mockito.Mockito.doThrow;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+class CartControllerTest {
+
+    @Autowired
+    MockMvc mockMvc;
+
+    @Autowired
+    JwtTokenUtil jwtTokenUtil;
+
+    @Autowired
+    UserRepository userRepository;
+
+    @Autowired
+    PlantRepository plantRepository;
+
+    @Autowired
+    CartRepository cartRepository;
+
+    @MockitoSpyBean
+    CartService cartService;
+
+    // 인증 주체 조회 1회 + 장바구니 항목 조회 1회 + (카탈로그에 없는 식물 / 빈 장바구니의 사용자 확인) 1회
+    @ParameterizedTest
+    @ValueSource(ints = {0, 1, 5, 30})
+    void 장바구니_조회는_항목_수와_무관하게_SQL_3회_이하(int itemCount) throws Exception {
+        String email = "cart-statements-" + itemCount + "@sikgu.com";
+        User user = userRepository.save(User.createUser(email, "password", Role.USER));
+        Cart cart = Cart.createCart(user);
+        for (int i = 0; i < itemCount; i++) {
+            Plant plant = plantRepository.save(Plant.createPlant("식물" + i, 1000L, 7L,
+                    PlantCondition.MEDIUM, PlantCondition.MEDIUM, PlantCondition.MEDIUM, "주의사항", null, null));
+            CartItem cartItem = CartItem.createCartItem();
+            cartItem.setPlant(plant);
+            cart.addCartItem(cartItem);
+        }
+        cartRepository.save(cart);
+
+        mockMvc.perform(get("/carts")
+                        .header(HttpHeaders.AUTHORIZATION, "Bearer " + jwtTokenUtil.generateToken(email, Role.USER.name())))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items.length()").value(itemCount))
+                .andExpect(statementsAtMost(3));
+    }
+
+    @Test
+    void 일괄_변경에서_제거한_식물을_다시_담으면_기존_항목의_수량만_바뀐다() throws Exception {
+        String email = "cart-batch-readd@sikgu.com";
+        User user = userRepository.save(User.createUser(email, "password", Role.USER));
+        Plant monstera = plantRepository.save(Plant.createPlant("몬스테라", 3000L, 7L,
+                PlantCondition.MEDIUM, PlantCondition.HIGH, PlantCondition.MEDIUM, "주의사항", null, null));
+        Plant stuckyi = plantRepository.save(Plant.createPlant("스투키", 2000L, 30L,
+                PlantCondition.LOW, PlantCondition.LOW, PlantCondition.MEDIUM, "주의사항", null, null));
+        Cart cart = Cart.createCart(user);
+        for (Plant plant : new Plant[]{monstera, stuckyi}) {
+            CartItem cartItem = CartItem.createCartItem();
+            cartItem.setPlant(plant);
+            cart.addCartItem(cartItem);
+        }
+        cartRepository.save(cart);
+
+        String body = """
+                {"operations": [
+                  {"type": "REMOVE", "plantId": %d},
+                  {"type": "ADD", "plantId": %d, "quantity": 2},
+                  {"type": "SET_QUANTITY", "plantId": %d, "quantity": 0},
+                  {"type": "SET_QUANTITY", "plantId": %d, "quantity": 3}
+                ]}
+                """.formatted(monstera.getId(), monstera.getId(), stuckyi.getId(), stuckyi.getId());
+        String authorization = "Bearer " + jwtTokenUtil.generateToken(email, Role.USER.name());
+
+        mockMvc.perform(patch("/carts")
+                        .header(HttpHeaders.AUTHORIZATION, authorization)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(body))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items.length()").value(2))
+                .andExpect(jsonPath("$.totalPrice").value(3000L * 2 + 2000L * 3));
+
+        // 커밋 후 다시 조회해도 식물별 한 행씩, 바뀐 수량이 반영되어 있어야 함
+        mockMvc.perform(get("/carts").header(HttpHeaders.AUTHORIZATION, authorization))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items.length()").value(2))
+                .andExpect(jsonPath("$.items[?(@.plantId == %d)].quantity", monstera.getId()).value(2))
+                .andExpect(jsonPath("$.items[?(@.plantId == %d)].quantity", stuckyi.getId()).value(3));
+    }
+
+    @Test
+    void 다른_요청이_먼저_장바구니를_변경하면_409를_반환한다() throws Exception {
+        String email = "cart-conflict@sikgu.com";
+        userRepository.save(User.createUser(email, "password", Role.USER));
+        doThrow(new ObjectOptimisticLockingFailureException(Cart.class, 1L)).when(cartService).clearCart(email);
+
+        mockMvc.perform(delete("/carts")
+                        .header(HttpHeaders.AUTHORIZATION, "Bearer " + jwtTokenUtil.generateToken(email, Role.USER.name())))
+                .andExpect(status().isConflict());
+    }
+}
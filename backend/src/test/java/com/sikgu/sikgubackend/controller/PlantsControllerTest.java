@@ -0,0 +1,101 @@
+package com.sikgu.sikgubackend.controller;
+
+import com.sikgu.sikgubackend.entity.Plant;
+import com.sikgu.sikgubackend.entity.User;
+import com.sikgu.sikgubackend.entity.enums.PlantCondition;
+import com.sikgu.sikgubackend.entity.enums.Role;
+import com.sikgu.sikgubackend.repository.PlantRepository;
+import com.sikgu.sikgubackend.repository.UserRepository;
+import com.sikgu.sikgubackend.security.jwt.util.JwtTokenUtil;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.GZIPInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.hasItem;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+class PlantsControllerTest {
+
+    @Autowired
+    MockMvc mockMvc;
+
+    @Autowired
+    JwtTokenUtil jwtTokenUtil;
+
+    @Autowired
+    UserRepository userRepository;
+
+    @Autowired
+    PlantRepository plantRepository;
+
+    private Plant plant;
+
+    @BeforeEach
+    void setUp() {
+        if (userRepository.findByEmail("care-guide@sikgu.com").isEmpty()) {
+            userRepository.save(User.createUser("care-guide@sikgu.com", "password", Role.USER));
+        }
+        plant = plantRepository.save(Plant.createPlant("스투키", 2000L, 30L,
+                PlantCondition.LOW, PlantCondition.LOW, PlantCondition.MEDIUM, "과습 주의", null, null));
+    }
+
+    @Test
+    void gzip을_받는_클라이언트에는_압축된_본문을_보낸다() throws Exception {
+        byte[] body = mockMvc.perform(careGuide(plant.getId()).header(HttpHeaders.ACCEPT_ENCODING, "br, gzip;q=0.8"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CONTENT_ENCODING, "gzip"))
+                .andExpect(header().stringValues(HttpHeaders.VARY, hasItem(HttpHeaders.ACCEPT_ENCODING)))
+                .andReturn().getResponse().getContentAsByteArray();
+
+        assertThat(gunzip(body)).contains("스투키 관리 가이드", "30일마다", "과습 주의");
+    }
+
+    @Test
+    void gzip을_받지_않으면_원문을_보낸다() throws Exception {
+        mockMvc.perform(careGuide(plant.getId()))
+                .andExpect(status().isOk())
+                .andExpect(header().doesNotExist(HttpHeaders.CONTENT_ENCODING))
+                .andExpect(content().encoding(StandardCharsets.UTF_8))
+                .andExpect(content().string(containsString("과습 주의")));
+
+        // q=0은 거부 의미
+        mockMvc.perform(careGuide(plant.getId()).header(HttpHeaders.ACCEPT_ENCODING, "gzip;q=0, identity"))
+                .andExpect(status().isOk())
+                .andExpect(header().doesNotExist(HttpHeaders.CONTENT_ENCODING));
+    }
+
+    @Test
+    void 없는_식물이면_404() throws Exception {
+        mockMvc.perform(careGuide(999999L))
+                .andExpect(status().isNotFound());
+    }
+
+    private MockHttpServletRequestBuilder careGuide(Long plantId) {
+        return get("/plants/care-guide")
+                .param("plantId", String.valueOf(plantId))
+                .header(HttpHeaders.AUTHORIZATION, "Bearer " + jwtTokenUtil.generateToken("care-guide@sikgu.com"));
+    }
+
+    private static String gunzip(byte[] body) throws IOException {
+        try (GZIPInputStream gzip = new GZIPInputStream(new ByteArrayInputStream(body))) {
+            return new String(gzip.readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+}
@@ -0,0 +1,99 @@
+package com.sikgu.sikgubackend.controller;
+
+import com.sikgu.sikgubackend.entity.Plant;
+import com.sikgu.sikgubackend.entity.Subscription;
+import com.sikgu.sikgubackend.entity.User;
+import com.sikgu.sikgubackend.entity.enums.PlantCondition;
+import com.sikgu.sikgubackend.entity.enums.Role;
+import com.sikgu.sikgubackend.repository.PlantRepository;
+import com.sikgu.sikgubackend.repository.SubscriptionRepository;
+import com.sikgu.sikgubackend.repository.UserRepository;
+import com.sikgu.sikgubackend.security.jwt.util.JwtTokenUtil;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.LocalDate;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+class SubscriptionControllerTest {
+
+    @Autowired
+    MockMvc mockMvc;
+
+    @Autowired
+    JwtTokenUtil jwtTokenUtil;
+
+    @Autowired
+    UserRepository userRepository;
+
+    @Autowired
+    SubscriptionRepository subscriptionRepository;
+
+    @Autowired
+    PlantRepository plantRepository;
+
+    @Test
+    void 구독에_식물을_추가하면_물_주기_알림이_등록된다() throws Exception {
+        User user = userRepository.save(User.createUser("subscribed-plant@sikgu.com", "password", Role.USER));
+        Plant plant = plantRepository.save(Plant.createPlant("몬스테라", 3000L, 7L,
+                PlantCondition.MEDIUM, PlantCondition.HIGH, PlantCondition.MEDIUM, "주의사항", null, null));
+        String token = "Bearer " + jwtTokenUtil.generateToken(user.getEmail());
+
+        // 활성 구독이 없으면 추가할 수 없음
+        mockMvc.perform(post("/subscriptions/plants")
+                        .header(HttpHeaders.AUTHORIZATION, token)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"plantId\":" + plant.getId() + "}"))
+                .andExpect(status().isConflict());
+
+        Subscription subscription = Subscription.reserve(user, 1L, 10000L);
+        subscription.markAsPaid("tx-subscribed-plant");
+        subscriptionRepository.save(subscription);
+
+        mockMvc.perform(post("/subscriptions/plants")
+                        .header(HttpHeaders.AUTHORIZATION, token)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"plantId\":" + plant.getId() + ",\"quantity\":2}"))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.plantId").value(plant.getId()))
+                .andExpect(jsonPath("$.cycle").value(7))
+                .andExpect(jsonPath("$.nextReminderDate").value(LocalDate.now().plusDays(7).toString()));
+
+        mockMvc.perform(post("/subscriptions/plants")
+                        .header(HttpHeaders.AUTHORIZATION, token)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"plantId\":999999}"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void 활성_구독이_여러_개여도_식물을_추가할_수_있다() throws Exception {
+        User user = userRepository.save(User.createUser("multi-subscription@sikgu.com", "password", Role.USER));
+        Plant plant = plantRepository.save(Plant.createPlant("스투키", 2000L, 30L,
+                PlantCondition.LOW, PlantCondition.LOW, PlantCondition.MEDIUM, "주의사항", null, null));
+        String token = "Bearer " + jwtTokenUtil.generateToken(user.getEmail());
+
+        for (int i = 0; i < 2; i++) {
+            Subscription subscription = Subscription.reserve(user, 1L, 10000L);
+            subscription.markAsPaid("tx-multi-subscription-" + i);
+            subscriptionRepository.save(subscription);
+        }
+
+        mockMvc.perform(post("/subscriptions/plants")
+                        .header(HttpHeaders.AUTHORIZATION, token)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"plantId\":" + plant.getId() + "}"))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.plantId").value(plant.getId()));
+    }
+}
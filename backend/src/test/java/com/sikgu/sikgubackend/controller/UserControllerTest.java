@@ -0,0 +1,60 @@
+package com.sikgu.sikgubackend.controller;
+
+import com.sikgu.sikgubackend.entity.User;
+import com.sikgu.sikgubackend.entity.enums.Role;
+import com.sikgu.sikgubackend.repository.UserRepository;
+import com.sikgu.sikgubackend.security.jwt.util.JwtTokenUtil;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+class UserControllerTest {
+
+    @Autowired
+    MockMvc mockMvc;
+
+    @Autowired
+    JwtTokenUtil jwtTokenUtil;
+
+    @Autowired
+    UserRepository userRepository;
+
+    @Test
+    void 권한을_바꾸면_캐시된_인증_주체에도_바로_반영된다() throws Exception {
+        userRepository.save(User.createUser("role-admin@sikgu.com", "password", Role.ADMIN));
+        userRepository.save(User.createUser("role-user@sikgu.com", "password", Role.USER));
+        userRepository.save(User.createUser("role-target@sikgu.com", "password", Role.USER));
+
+        // 일반 사용자는 권한을 바꿀 수 없음 (이 요청으로 ROLE_USER 주체가 캐시됨)
+        mockMvc.perform(changeRole("role-user@sikgu.com", "role-target@sikgu.com", Role.ADMIN))
+                .andExpect(status().isForbidden());
+
+        mockMvc.perform(changeRole("role-admin@sikgu.com", "role-user@sikgu.com", Role.ADMIN))
+                .andExpect(status().isNoContent());
+        assertThat(userRepository.findByEmail("role-user@sikgu.com")).get()
+                .extracting(User::getRole).isEqualTo(Role.ADMIN);
+
+        // 커밋 후 캐시가 무효화되어 캐시 TTL을 기다리지 않고 새 권한으로 인증됨
+        mockMvc.perform(changeRole("role-user@sikgu.com", "role-target@sikgu.com", Role.ADMIN))
+                .andExpect(status().isNoContent());
+
+        mockMvc.perform(changeRole("role-admin@sikgu.com", "missing@sikgu.com", Role.USER))
+                .andExpect(status().isNotFound());
+    }
+
+    private MockHttpServletRequestBuilder changeRole(String actor, String target, Role role) {
+        return patch("/users/{email}/role", target)
+                .param("role", role.name())
+                .header(HttpHeaders.AUTHORIZATION, "Bearer " + jwtTokenUtil.generateToken(actor));
+    }
+}
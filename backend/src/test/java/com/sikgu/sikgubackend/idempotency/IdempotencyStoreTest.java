@@ -0,0 +1,123 @@
+package com.sikgu.sikgubackend.idempotency;
+
+import com.sikgu.sikgubackend.entity.IdempotencyRecord;
+import com.sikgu.sikgubackend.entity.enums.IdempotencyStatus;
+import com.sikgu.sikgubackend.repository.IdempotencyRecordRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest
+class IdempotencyStoreTest {
+
+    private static final int THREADS = 8;
+
+    @Autowired
+    IdempotencyStore idempotencyStore;
+
+    @Autowired
+    IdempotencyRecordRepository repository;
+
+    @Test
+    void 같은_키로_동시에_요청하면_한_번만_실행하고_나머지는_결과를_재사용한다() throws Exception {
+        AtomicInteger executions = new AtomicInteger();
+        String fingerprint = IdempotencyStore.fingerprint(1L, "1234567812345678");
+
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<IdempotentResult<String>>> futures = new ArrayList<>();
+        for (int t = 0; t < THREADS; t++) {
+            futures.add(executor.submit(() -> {
+                start.await();
+                return idempotencyStore.execute("idempotency@sikgu.com:pay-1", fingerprint, String.class, () -> {
+                    executions.incrementAndGet();
+                    sleep(200);
+                    return "subscription-" + executions.get();
+                });
+            }));
+        }
+
+        start.countDown();
+        List<IdempotentResult<String>> results = new ArrayList<>();
+        for (Future<IdempotentResult<String>> future : futures) {
+            results.add(future.get(30, TimeUnit.SECONDS));
+        }
+        executor.shutdown();
+
+        assertThat(executions.get()).isEqualTo(1);
+        assertThat(results).extracting(IdempotentResult::body).containsOnly("subscription-1");
+        assertThat(results).filteredOn(result -> !result.replayed()).hasSize(1);
+
+        // 같은 키를 다른 요청 본문에 사용하면 거부
+        String otherFingerprint = IdempotencyStore.fingerprint(2L, "1234567812345678");
+        assertThatThrownBy(() -> idempotencyStore.execute("idempotency@sikgu.com:pay-1", otherFingerprint, String.class,
+                () -> "other"))
+                .isInstanceOf(IdempotencyConflictException.class);
+        assertThat(executions.get()).isEqualTo(1);
+    }
+
+    @Test
+    void 실패한_요청은_같은_키로_다시_실행하지_않고_실패를_재현한다() {
+        String key = "idempotency@sikgu.com:pay-2";
+        String fingerprint = IdempotencyStore.fingerprint(1L);
+        AtomicInteger executions = new AtomicInteger();
+
+        assertThatThrownBy(() -> idempotencyStore.execute(key, fingerprint, String.class, () -> {
+            executions.incrementAndGet();
+            throw new IllegalArgumentException("결제 실패");
+        })).isInstanceOf(IllegalArgumentException.class);
+
+        assertThatThrownBy(() -> idempotencyStore.execute(key, fingerprint, String.class, () -> {
+            executions.incrementAndGet();
+            return "ok";
+        }))
+                .isInstanceOf(IdempotencyFailedException.class)
+                .hasMessage("결제 실패")
+                .satisfies(e -> assertThat(((IdempotencyFailedException) e).isRejected()).isTrue());
+        assertThat(executions.get()).isEqualTo(1);
+    }
+
+    @Test
+    void 임대가_만료된_처리_중_기록은_이어받고_유효한_기록은_409() {
+        String fingerprint = IdempotencyStore.fingerprint(1L);
+        long now = System.currentTimeMillis();
+        repository.save(IdempotencyRecord.createInProgress("idempotency@sikgu.com:stale", fingerprint,
+                new Timestamp(now - 1000)));
+        repository.save(IdempotencyRecord.createInProgress("idempotency@sikgu.com:running", fingerprint,
+                new Timestamp(now + 600_000)));
+
+        IdempotentResult<String> result = idempotencyStore.execute("idempotency@sikgu.com:stale", fingerprint,
+                String.class, () -> "ok");
+        assertThat(result.replayed()).isFalse();
+        assertThat(repository.findByIdempotencyKey("idempotency@sikgu.com:stale"))
+                .get()
+                .extracting(IdempotencyRecord::getStatus)
+                .isEqualTo(IdempotencyStatus.COMPLETED);
+
+        assertThatThrownBy(() -> idempotencyStore.execute("idempotency@sikgu.com:running", fingerprint,
+                String.class, () -> "ok"))
+                .isInstanceOf(IdempotencyConflictException.class)
+                .satisfies(e -> assertThat(((IdempotencyConflictException) e).isKeyReused()).isFalse());
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,214 @@
+package com.sikgu.sikgubackend.image;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ImageVariantCacheTest {
+
+    private static final int THREADS = 8;
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void 같은_변형을_동시에_요청하면_한_번만_변환한다() throws Exception {
+        CountingLoader loader = new CountingLoader(png(1000, 500));
+        ImageVariantCache cache = newCache(loader, tempDir.resolve("cache").toString());
+
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<String>> results = new ArrayList<>();
+        for (int i = 0; i < THREADS; i++) {
+            results.add(executor.submit(() -> {
+                start.await();
+                return cache.variantName("monstera.png", 320, ImageFormat.JPEG);
+            }));
+        }
+        start.countDown();
+
+        List<String> names = new ArrayList<>();
+        for (Future<String> result : results) {
+            names.add(result.get(30, TimeUnit.SECONDS));
+        }
+        executor.shutdown();
+
+        assertThat(loader.loads.get()).isEqualTo(1);
+        assertThat(names).containsOnly(names.get(0));
+        assertThat(names.get(0)).matches("[0-9a-f]{40}\\.jpg");
+
+        BufferedImage variant = ImageIO.read(cache.find(names.get(0)).orElseThrow().toFile());
+        assertThat(variant.getWidth()).isEqualTo(320);
+        assertThat(variant.getHeight()).isEqualTo(160);
+    }
+
+    @Test
+    void 이미_만든_변형은_재시작_후에도_다시_변환하지_않는다() throws Exception {
+        CountingLoader loader = new CountingLoader(png(100, 80));
+        String cacheDir = tempDir.resolve("cache").toString();
+
+        String first = newCache(loader, cacheDir).variantName("small.png", 640, ImageFormat.JPEG);
+        String second = newCache(loader, cacheDir).variantName("small.png", 640, ImageFormat.JPEG);
+
+        assertThat(second).isEqualTo(first);
+        assertThat(loader.loads.get()).isEqualTo(1);
+
+        // 원본보다 크게 늘리지 않음
+        BufferedImage variant = ImageIO.read(Files.newInputStream(tempDir.resolve("cache").resolve(first)));
+        assertThat(variant.getWidth()).isEqualTo(100);
+    }
+
+    @Test
+    void 요청_너비는_제공하는_너비로_올린다() {
+        assertThat(ImageVariantCache.snapWidth(1)).isEqualTo(160);
+        assertThat(ImageVariantCache.snapWidth(321)).isEqualTo(640);
+        assertThat(ImageVariantCache.snapWidth(5000)).isEqualTo(1280);
+        assertThat(ImageVariantCache.snapWidth(null)).isEqualTo(1280);
+    }
+
+    @Test
+    void 픽셀_수가_제한을_넘는_원본은_디코딩하지_않고_거절한다() throws Exception {
+        CountingLoader loader = new CountingLoader(png(2000, 1000));
+        ImageVariantCache cache = new ImageVariantCache(loader, tempDir.resolve("cache").toString(), 1_000_000, 1, 1, 30_000);
+
+        assertThatThrownBy(() -> cache.variantName("huge.png", 320, ImageFormat.JPEG))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("2000x1000");
+        cache.shutdown();
+    }
+
+    @Test
+    void 변환_대기열이_가득_차면_즉시_거절한다() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        BlockingLoader loader = new BlockingLoader(png(100, 80), release);
+        // 변환 스레드 1개, 대기열 1칸
+        ImageVariantCache cache = new ImageVariantCache(loader, tempDir.resolve("cache").toString(), 40_000_000, 1, 1, 30_000);
+
+        ExecutorService callers = Executors.newFixedThreadPool(2);
+        try {
+            Future<String> running = callers.submit(() -> cache.variantName("first.png", 320, ImageFormat.JPEG));
+            waitUntil(() -> loader.loads.get() == 1);
+            Future<String> queued = callers.submit(() -> cache.variantName("second.png", 320, ImageFormat.JPEG));
+            waitUntil(() -> cache.getRenderQueueDepth() == 1);
+
+            assertThatThrownBy(() -> cache.variantName("third.png", 320, ImageFormat.JPEG))
+                    .isInstanceOf(ImageRenderRejectedException.class);
+
+            release.countDown();
+            assertThat(running.get(30, TimeUnit.SECONDS)).matches("[0-9a-f]{40}\\.jpg");
+            assertThat(queued.get(30, TimeUnit.SECONDS)).matches("[0-9a-f]{40}\\.jpg");
+        } finally {
+            release.countDown();
+            callers.shutdown();
+            cache.shutdown();
+        }
+    }
+
+    @Test
+    void 변환이_제한_시간을_넘으면_취소하고_거절한다() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        BlockingLoader loader = new BlockingLoader(png(100, 80), release);
+        ImageVariantCache cache = new ImageVariantCache(loader, tempDir.resolve("cache").toString(), 40_000_000, 1, 1, 100);
+
+        try {
+            assertThatThrownBy(() -> cache.variantName("slow.png", 320, ImageFormat.JPEG))
+                    .isInstanceOf(ImageRenderRejectedException.class);
+            // 취소하면 변환 스레드가 인터럽트되어 풀려남
+            waitUntil(() -> loader.interrupted.get() == 1);
+        } finally {
+            release.countDown();
+            cache.shutdown();
+        }
+    }
+
+    private ImageVariantCache newCache(ImageSourceLoader loader, String cacheDir) {
+        return new ImageVariantCache(loader, cacheDir, 40_000_000, 2, 16, 30_000);
+    }
+
+    private static void waitUntil(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5000;
+        while (!condition.getAsBoolean() && System.currentTimeMillis() < deadline) {
+            Thread.sleep(5);
+        }
+        assertThat(condition.getAsBoolean()).isTrue();
+    }
+
+    private static byte[] png(int width, int height) throws Exception {
+        BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB);
+        for (int x = 0; x < width; x++) {
+            for (int y = 0; y < height; y++) {
+                image.setRGB(x, y, 0xFF000000 | (x * 255 / width) << 16 | (y * 255 / height) << 8);
+            }
+        }
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ImageIO.write(image, "png", out);
+        return out.toByteArray();
+    }
+
+    // 원본 읽기 횟수를 세고, 동시 요청이 겹치도록 잠시 대기
+    private static class CountingLoader extends ImageSourceLoader {
+
+        private final byte[] source;
+        private final AtomicInteger loads = new AtomicInteger();
+
+        CountingLoader(byte[] source) {
+            super(".", 1000, Long.MAX_VALUE);
+            this.source = source;
+        }
+
+        @Override
+        public byte[] load(String url) {
+            loads.incrementAndGet();
+            try {
+                Thread.sleep(200);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return source;
+        }
+    }
+
+    // 원본 읽기 횟수를 세고, release가 열릴 때까지 변환 스레드를 붙잡음
+    private static class BlockingLoader extends ImageSourceLoader {
+
+        private final byte[] source;
+        private final CountDownLatch release;
+        private final AtomicInteger loads = new AtomicInteger();
+        private final AtomicInteger interrupted = new AtomicInteger();
+
+        BlockingLoader(byte[] source, CountDownLatch release) {
+            super(".", 1000, Long.MAX_VALUE);
+            this.source = source;
+            this.release = release;
+        }
+
+        @Override
+        public byte[] load(String url) {
+            loads.incrementAndGet();
+            try {
+                release.await(30, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                interrupted.incrementAndGet();
+                Thread.currentThread().interrupt();
+            }
+            return source;
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package com.sikgu.sikgubackend.monitoring;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class StatementBudgetTest {
+
+    @Test
+    void 엔드포인트별_예산이_없으면_기본_예산을_사용한다() {
+        StatementBudget budget = new StatementBudget(StatementBudget.Mode.FAIL, 30, " GET /carts=4 , GET  /plants/{plantId}=2");
+
+        assertThat(budget.budgetOf("GET", "/carts")).isEqualTo(4);
+        assertThat(budget.budgetOf("GET", "/plants/{plantId}")).isEqualTo(2);
+        assertThat(budget.budgetOf("POST", "/carts")).isEqualTo(30);
+    }
+
+    @Test
+    void FAIL_모드에서는_예산을_넘으면_예외를_던진다() {
+        StatementBudget budget = new StatementBudget(StatementBudget.Mode.FAIL, 30, "GET /carts=4");
+
+        assertThatCode(() -> budget.check("GET", "/carts", 4)).doesNotThrowAnyException();
+        assertThatThrownBy(() -> budget.check("GET", "/carts", 5))
+                .isInstanceOf(StatementBudgetExceededException.class)
+                .hasMessageContaining("GET /carts");
+    }
+
+    @Test
+    void LOG_모드에서는_예외를_던지지_않는다() {
+        StatementBudget budget = new StatementBudget(StatementBudget.Mode.LOG, 1, "");
+
+        assertThatCode(() -> budget.check("GET", "/reviews", 100)).doesNotThrowAnyException();
+    }
+
+    @Test
+    void 형식이_잘못된_예산은_거부한다() {
+        assertThatThrownBy(() -> new StatementBudget(StatementBudget.Mode.LOG, 30, "/carts=4"))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new StatementBudget(StatementBudget.Mode.LOG, 30, "GET /carts=many"))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,35 @@
+package com.sikgu.sikgubackend.monitoring;
+
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.ResultMatcher;
+
+import static org.springframework.test.util.AssertionErrors.assertNotNull;
+import static org.springframework.test.util.AssertionErrors.fail;
+
+/**
+ * MockMvc 요청 하나가 실행한 SQL 문 수를 검증합니다 (RequestMetricsFilter가 남긴 집계 사용).
+ * <pre>
+ * mockMvc.perform(get("/carts")).andExpect(statementsAtMost(3));
+ * </pre>
+ */
+public final class StatementCountMatchers {
+
+    private StatementCountMatchers() {
+    }
+
+    public static ResultMatcher statementsAtMost(int max) {
+        return result -> {
+            int statements = statementCount(result);
+            if (statements > max) {
+                fail(String.format("%s %s 요청의 SQL 문 수 %d개가 %d개를 넘었습니다.",
+                        result.getRequest().getMethod(), result.getRequest().getRequestURI(), statements, max));
+            }
+        };
+    }
+
+    public static int statementCount(MvcResult result) {
+        RequestStatistics statistics = (RequestStatistics) result.getRequest().getAttribute(RequestStatistics.ATTRIBUTE);
+        assertNotNull("RequestMetricsFilter를 거치지 않은 요청입니다.", statistics);
+        return statistics.getStatements();
+    }
+}
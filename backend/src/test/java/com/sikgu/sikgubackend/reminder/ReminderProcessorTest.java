@@ -0,0 +1,70 @@
+package com.sikgu.sikgubackend.reminder;
+
+import com.sikgu.sikgubackend.entity.Plant;
+import com.sikgu.sikgubackend.entity.Reminder;
+import com.sikgu.sikgubackend.entity.User;
+import com.sikgu.sikgubackend.entity.enums.PlantCondition;
+import com.sikgu.sikgubackend.entity.enums.Role;
+import com.sikgu.sikgubackend.repository.PlantRepository;
+import com.sikgu.sikgubackend.repository.ReminderRepository;
+import com.sikgu.sikgubackend.repository.UserRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 청크/배치 크기를 작게 잡아 여러 청크와 병렬 배치를 거치도록 함
+@SpringBootTest(properties = {"reminder.chunk-size=100", "reminder.batch-size=30"})
+class ReminderProcessorTest {
+
+    private static final int DUE_COUNT = 450;
+    private static final int NOT_DUE_COUNT = 20;
+
+    @Autowired
+    ReminderProcessor reminderProcessor;
+
+    @Autowired
+    ReminderRepository reminderRepository;
+
+    @Autowired
+    UserRepository userRepository;
+
+    @Autowired
+    PlantRepository plantRepository;
+
+    @Test
+    void 도래한_알림만_다음_날짜로_갱신한다() {
+        LocalDate today = LocalDate.of(2025, 9, 1);
+        User user = userRepository.save(User.createUser("reminder@sikgu.com", "password", Role.USER));
+        Plant plant = plantRepository.save(Plant.createPlant("몬스테라", 3000L, 7L,
+                PlantCondition.MEDIUM, PlantCondition.HIGH, PlantCondition.MEDIUM, "주의사항", null, null));
+
+        List<Reminder> reminders = new ArrayList<>();
+        for (int i = 0; i < DUE_COUNT; i++) {
+            // 오늘 도래한 알림과 며칠 밀린 알림을 섞음
+            reminders.add(Reminder.createReminder(user, plant, null, null, 7, today.minusDays(i % 4)));
+        }
+        for (int i = 0; i < NOT_DUE_COUNT; i++) {
+            reminders.add(Reminder.createReminder(user, plant, null, null, 7, today.plusDays(1 + i % 3)));
+        }
+        List<Long> ids = reminderRepository.saveAll(reminders).stream().map(Reminder::getId).toList();
+
+        int processed = reminderProcessor.processDue(today);
+
+        assertThat(processed).isEqualTo(DUE_COUNT);
+        List<Reminder> saved = reminderRepository.findAllById(ids);
+        assertThat(saved).filteredOn(reminder -> reminder.getNextDate().equals(today.plusDays(7)))
+                .hasSize(DUE_COUNT);
+        assertThat(saved).filteredOn(reminder -> reminder.getNextDate().isAfter(today)
+                        && reminder.getNextDate().isBefore(today.plusDays(7)))
+                .hasSize(NOT_DUE_COUNT);
+
+        // 다시 실행해도 이미 갱신된 알림은 처리하지 않음
+        assertThat(reminderProcessor.processDue(today)).isZero();
+    }
+}
@@ -0,0 +1,70 @@
+package com.sikgu.sikgubackend.search;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class QnASearchIndexTest {
+
+    @Test
+    void 띄어쓰기와_조사가_달라도_바이그램으로_찾는다() {
+        QnASearchIndex index = new QnASearchIndex();
+        index.upsert(1L, "배송은 언제 시작되나요?\n결제 후 2일 이내에 배송이 시작됩니다.");
+        index.upsert(2L, "몬스테라 물주기는 어떻게 하나요?\n겉흙이 마르면 흠뻑 주세요.");
+        index.upsert(3L, "비밀번호를 잊어버렸어요\n로그인 화면에서 재설정할 수 있습니다.");
+
+        List<QnASearchIndex.SearchHit> hits = index.search("몬스테라물주기", 10);
+
+        assertThat(hits).isNotEmpty();
+        assertThat(hits.get(0).docId()).isEqualTo(2L);
+        assertThat(hits).extracting(QnASearchIndex.SearchHit::docId).doesNotContain(1L, 3L);
+    }
+
+    @Test
+    void 수정과_삭제가_바로_반영된다() {
+        QnASearchIndex index = new QnASearchIndex();
+        index.upsert(1L, "배송 조회는 어디서 하나요?");
+        index.upsert(2L, "환불은 어떻게 하나요?");
+
+        index.upsert(1L, "포인트 적립 기준이 궁금해요");
+        index.remove(2L);
+
+        assertThat(index.search("배송", 10)).isEmpty();
+        assertThat(index.search("환불", 10)).isEmpty();
+        assertThat(index.search("포인트", 10)).extracting(QnASearchIndex.SearchHit::docId).containsExactly(1L);
+        assertThat(index.size()).isEqualTo(1);
+    }
+
+    @Test
+    void 많이_수정된_뒤에도_점수_순서와_결과가_유지된다() {
+        QnASearchIndex index = new QnASearchIndex();
+        for (long id = 1; id <= 2000; id++) {
+            index.upsert(id, "일반 문의 " + id);
+        }
+        // 절반 이상을 수정해 압축이 일어나도록 함
+        for (long id = 1; id <= 1500; id++) {
+            index.upsert(id, id % 100 == 0 ? "분갈이 분갈이 흙 추천" : "일반 문의 " + id);
+        }
+        index.upsert(5000L, "분갈이 시기는 언제인가요? 봄철 분갈이를 권장합니다. 분갈이 후에는 물을 충분히 주세요.");
+
+        List<QnASearchIndex.SearchHit> hits = index.search("분갈이", 5);
+
+        assertThat(index.size()).isEqualTo(2001);
+        assertThat(hits).hasSize(5);
+        for (int i = 1; i < hits.size(); i++) {
+            assertThat(hits.get(i - 1).score()).isGreaterThanOrEqualTo(hits.get(i).score());
+        }
+        assertThat(hits).allSatisfy(hit -> assertThat(hit.docId() % 100 == 0 || hit.docId() == 5000L).isTrue());
+    }
+
+    @Test
+    void 한_글자_질의와_빈_질의를_처리한다() {
+        QnASearchIndex index = new QnASearchIndex();
+        index.upsert(1L, "물 주기");
+
+        assertThat(index.search("물", 10)).extracting(QnASearchIndex.SearchHit::docId).containsExactly(1L);
+        assertThat(index.search("  ?! ", 10)).isEmpty();
+    }
+}
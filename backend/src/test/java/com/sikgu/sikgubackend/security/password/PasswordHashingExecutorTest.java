@@ -0,0 +1,79 @@
+package com.sikgu.sikgubackend.security.password;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class PasswordHashingExecutorTest {
+
+    @Test
+    void 제한_시간_안에_끝나지_못할_작업은_대기열에_넣기_전에_거절한다() throws Exception {
+        // 스레드 1개, 제한 시간 500ms
+        PasswordHashingExecutor hashing = new PasswordHashingExecutor(1, 32, 500);
+        ExecutorService callers = Executors.newFixedThreadPool(3);
+        CountDownLatch release = new CountDownLatch(1);
+        try {
+            // 평균 해시 시간을 약 200ms로 측정시킴
+            hashing.execute(() -> sleep(200));
+
+            // 실행 중인 작업 1개와 대기 중인 작업 1개
+            Future<?> running = callers.submit(() -> hashing.execute(() -> await(release)));
+            waitUntil(() -> hashing.getActiveCount() == 1);
+            callers.submit(() -> hashing.execute(() -> sleep(200)));
+            waitUntil(() -> hashing.getQueueDepth() == 1);
+
+            // 앞에 대기 중인 작업 1개 + 새 작업 = 2회 × 200ms = 400ms → 허용
+            callers.submit(() -> hashing.execute(() -> sleep(200)));
+            waitUntil(() -> hashing.getQueueDepth() == 2);
+
+            // 3회 × 200ms = 600ms > 500ms → 기다리지 않고 바로 거절
+            long start = System.nanoTime();
+            assertThatThrownBy(() -> hashing.execute(() -> sleep(200)))
+                    .isInstanceOf(PasswordHashingRejectedException.class);
+            assertThat(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start)).isLessThan(100);
+            assertThat(hashing.getRejectedCount()).isEqualTo(1);
+
+            release.countDown();
+            running.get(5, TimeUnit.SECONDS);
+        } finally {
+            release.countDown();
+            callers.shutdownNow();
+            hashing.shutdown();
+        }
+    }
+
+    private static boolean sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private static boolean await(CountDownLatch latch) {
+        try {
+            return latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private static void waitUntil(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5000;
+        while (!condition.getAsBoolean() && System.currentTimeMillis() < deadline) {
+            Thread.sleep(5);
+        }
+        assertThat(condition.getAsBoolean()).isTrue();
+    }
+}
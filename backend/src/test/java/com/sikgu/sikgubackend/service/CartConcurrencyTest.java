@@ -0,0 +1,121 @@
+package com.sikgu.sikgubackend.service;
+
+import com.sikgu.sikgubackend.dto.CartDto;
+import com.sikgu.sikgubackend.dto.CartItemAddRequest;
+import com.sikgu.sikgubackend.dto.CartItemDto;
+import com.sikgu.sikgubackend.entity.Cart;
+import com.sikgu.sikgubackend.entity.Plant;
+import com.sikgu.sikgubackend.entity.User;
+import com.sikgu.sikgubackend.entity.enums.PlantCondition;
+import com.sikgu.sikgubackend.entity.enums.Role;
+import com.sikgu.sikgubackend.repository.CartRepository;
+import com.sikgu.sikgubackend.repository.PlantRepository;
+import com.sikgu.sikgubackend.repository.UserRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+class CartConcurrencyTest {
+
+    private static final int THREADS = 8;
+    private static final int ADDS_PER_THREAD = 50;
+
+    @Autowired
+    CartService cartService;
+
+    @Autowired
+    UserRepository userRepository;
+
+    @Autowired
+    PlantRepository plantRepository;
+
+    @Autowired
+    CartRepository cartRepository;
+
+    @Test
+    void 여러_스레드에서_동시에_추가해도_수량이_유실되지_않는다() throws Exception {
+        String email = "concurrent-cart@sikgu.com";
+        User user = userRepository.save(User.createUser(email, "password", Role.USER));
+        cartRepository.save(Cart.createCart(user));
+
+        Plant monstera = plantRepository.save(Plant.createPlant("몬스테라", 3000L, 7L,
+                PlantCondition.MEDIUM, PlantCondition.HIGH, PlantCondition.MEDIUM, "주의사항", null, null));
+        Plant stuckyi = plantRepository.save(Plant.createPlant("스투키", 2000L, 30L,
+                PlantCondition.LOW, PlantCondition.LOW, PlantCondition.MEDIUM, "주의사항", null, null));
+
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>();
+
+        for (int t = 0; t < THREADS; t++) {
+            futures.add(executor.submit(() -> {
+                start.await();
+                for (int i = 0; i < ADDS_PER_THREAD; i++) {
+                    CartItemAddRequest request = new CartItemAddRequest();
+                    request.setPlantId(i % 2 == 0 ? monstera.getId() : stuckyi.getId());
+                    cartService.addItemToCart(email, request);
+                }
+                return null;
+            }));
+        }
+
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get(60, TimeUnit.SECONDS);
+        }
+        executor.shutdown();
+
+        CartDto cart = cartService.getShoppingCart(email);
+
+        // 식물별로 정확히 한 행, 수량은 추가 요청 수와 같아야 함
+        assertThat(cart.getItems()).hasSize(2);
+        assertThat(cart.getItems())
+                .extracting(CartItemDto::getQuantity)
+                .containsOnly(THREADS * ADDS_PER_THREAD / 2);
+        assertThat(cart.getTotalPrice()).isEqualTo((3000L + 2000L) * THREADS * ADDS_PER_THREAD / 2);
+    }
+
+    @Test
+    void 장바구니가_없는_사용자의_첫_추가가_동시에_들어와도_모두_성공한다() throws Exception {
+        String email = "first-cart@sikgu.com";
+        userRepository.save(User.createUser(email, "password", Role.USER));
+        Plant plant = plantRepository.save(Plant.createPlant("스킨답서스", 1000L, 7L,
+                PlantCondition.LOW, PlantCondition.MEDIUM, PlantCondition.MEDIUM, "주의사항", null, null));
+
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>();
+
+        for (int t = 0; t < THREADS; t++) {
+            futures.add(executor.submit(() -> {
+                start.await();
+                CartItemAddRequest request = new CartItemAddRequest();
+                request.setPlantId(plant.getId());
+                cartService.addItemToCart(email, request);
+                return null;
+            }));
+        }
+
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get(60, TimeUnit.SECONDS);
+        }
+        executor.shutdown();
+
+        // 장바구니는 하나만 생성되고 모든 추가가 반영되어야 함
+        CartDto cart = cartService.getShoppingCart(email);
+        assertThat(cart.getItems()).hasSize(1);
+        assertThat(cart.getItems().get(0).getQuantity()).isEqualTo(THREADS);
+    }
+}
@@ -0,0 +1,69 @@
+package com.sikgu.sikgubackend.service;
+
+import com.sikgu.sikgubackend.dto.CartDto;
+import com.sikgu.sikgubackend.entity.Cart;
+import com.sikgu.sikgubackend.entity.CartItem;
+import com.sikgu.sikgubackend.entity.Plant;
+import com.sikgu.sikgubackend.entity.User;
+import com.sikgu.sikgubackend.entity.enums.PlantCondition;
+import com.sikgu.sikgubackend.entity.enums.Role;
+import com.sikgu.sikgubackend.repository.CartRepository;
+import com.sikgu.sikgubackend.repository.PlantRepository;
+import com.sikgu.sikgubackend.repository.UserRepository;
+import jakarta.persistence.EntityManager;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@Transactional
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+class CartServiceTest {
+
+    @Autowired
+    CartService cartService;
+
+    @Autowired
+    UserRepository userRepository;
+
+    @Autowired
+    PlantRepository plantRepository;
+
+    @Autowired
+    CartRepository cartRepository;
+
+    @Autowired
+    EntityManager entityManager;
+
+    @ParameterizedTest
+    @ValueSource(ints = {0, 1, 5, 30})
+    void getShoppingCart_항목_수와_무관하게_쿼리_2회_이하(int itemCount) {
+        User user = userRepository.save(User.createUser("cart" + itemCount + "@sikgu.com", "password", Role.USER));
+        Cart cart = Cart.createCart(user);
+        for (int i = 0; i < itemCount; i++) {
+            Plant plant = plantRepository.save(Plant.createPlant("식물" + i, 1000L * (i + 1), 7L,
+                    PlantCondition.MEDIUM, PlantCondition.MEDIUM, PlantCondition.MEDIUM, "주의사항", null, null));
+            CartItem cartItem = CartItem.createCartItem();
+            cartItem.setPlant(plant);
+            cart.addCartItem(cartItem);
+        }
+        cartRepository.save(cart);
+
+        entityManager.flush();
+        entityManager.clear();
+
+        Statistics statistics = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        CartDto cartDto = cartService.getShoppingCart(user.getEmail());
+
+        assertThat(cartDto.getItems()).hasSize(itemCount);
+        assertThat(cartDto.getTotalPrice()).isEqualTo(1000L * itemCount * (itemCount + 1) / 2);
+        assertThat(statistics.getPrepareStatementCount()).isLessThanOrEqualTo(2);
+    }
+}
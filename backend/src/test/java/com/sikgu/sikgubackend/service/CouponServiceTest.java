@@ -0,0 +1,125 @@
+package com.sikgu.sikgubackend.service;
+
+import com.sikgu.sikgubackend.coupon.CouponGate;
+import com.sikgu.sikgubackend.coupon.CouponGate.CouponPermits;
+import com.sikgu.sikgubackend.entity.Coupon;
+import com.sikgu.sikgubackend.entity.CouponStock;
+import com.sikgu.sikgubackend.entity.User;
+import com.sikgu.sikgubackend.entity.enums.Role;
+import com.sikgu.sikgubackend.repository.CouponStockRepository;
+import com.sikgu.sikgubackend.repository.UserRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest
+class CouponServiceTest {
+
+    private static final int TOTAL_USES = 20;
+    private static final int USERS = 60;
+    private static final int THREADS = 12;
+
+    @Autowired
+    CouponService couponService;
+
+    @Autowired
+    CouponStockRepository couponStockRepository;
+
+    @Autowired
+    UserRepository userRepository;
+
+    @Autowired
+    CouponGate couponGate;
+
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+
+    @Test
+    void 동시에_사용해도_전체_사용_횟수를_넘지_않는다() throws Exception {
+        Coupon coupon = couponService.createCoupon("FLASH20", 20, TOTAL_USES, 1, null, null);
+        List<String> emails = new ArrayList<>();
+        for (int i = 0; i < USERS; i++) {
+            String email = "flash" + i + "@sikgu.com";
+            userRepository.save(User.createUser(email, "password", Role.USER));
+            emails.add(email);
+        }
+
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicInteger redeemed = new AtomicInteger();
+        AtomicInteger rejected = new AtomicInteger();
+        List<Future<?>> futures = new ArrayList<>();
+        for (String email : emails) {
+            futures.add(executor.submit(() -> {
+                start.await();
+                try {
+                    couponService.applyCoupon(email, "FLASH20");
+                    redeemed.incrementAndGet();
+                } catch (IllegalStateException e) {
+                    rejected.incrementAndGet();
+                }
+                return null;
+            }));
+        }
+
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get(60, TimeUnit.SECONDS);
+        }
+        executor.shutdown();
+
+        assertThat(redeemed.get()).isEqualTo(TOTAL_USES);
+        assertThat(rejected.get()).isEqualTo(USERS - TOTAL_USES);
+        assertThat(couponStockRepository.findByCouponId(coupon.getId()))
+                .extracting(CouponStock::getRemaining)
+                .allMatch(remaining -> remaining == 0);
+    }
+
+    @Test
+    void 사용자_한도를_넘으면_거절한다() {
+        couponService.createCoupon("ONCE", 5, 100, 1, null, null);
+        String email = "once@sikgu.com";
+        userRepository.save(User.createUser(email, "password", Role.USER));
+
+        couponService.applyCoupon(email, "ONCE");
+
+        assertThatThrownBy(() -> couponService.applyCoupon(email, "ONCE"))
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    void DB의_남은_횟수를_주기적으로_다시_읽어_반영한다() {
+        Coupon coupon = couponService.createCoupon("RESYNC", 5, 4, 1, null, null);
+        String email = "resync@sikgu.com";
+        userRepository.save(User.createUser(email, "password", Role.USER));
+        assertThat(couponGate.find("RESYNC")).get().extracting(CouponPermits::remaining).isEqualTo(4);
+
+        // 다른 인스턴스가 모두 사용함
+        jdbcTemplate.update("UPDATE coupon_stock SET remaining = 0 WHERE coupon_id = ?", coupon.getId());
+        couponGate.resync();
+
+        assertThat(couponGate.find("RESYNC")).get().extracting(CouponPermits::remaining).isEqualTo(0);
+        assertThatThrownBy(() -> couponService.applyCoupon(email, "RESYNC"))
+                .isInstanceOf(IllegalStateException.class);
+
+        // 재입고
+        jdbcTemplate.update("UPDATE coupon_stock SET remaining = 1 WHERE coupon_id = ? AND shard = 0", coupon.getId());
+        couponGate.resync();
+
+        couponService.applyCoupon(email, "RESYNC");
+        assertThat(couponGate.find("RESYNC")).get().extracting(CouponPermits::remaining).isEqualTo(0);
+    }
+}
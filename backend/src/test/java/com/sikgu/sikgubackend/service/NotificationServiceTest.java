@@ -0,0 +1,85 @@
+package com.sikgu.sikgubackend.service;
+
+import com.sikgu.sikgubackend.dto.NotificationDto;
+import com.sikgu.sikgubackend.entity.User;
+import com.sikgu.sikgubackend.entity.enums.Role;
+import com.sikgu.sikgubackend.notification.NotificationHub;
+import com.sikgu.sikgubackend.repository.UserRepository;
+import com.sikgu.sikgubackend.subscription.SubscriptionChangedEvent;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.bean.override.mockito.MockitoSpyBean;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+// 스케줄러가 먼저 flush하지 않도록 주기를 길게 잡음
+@SpringBootTest(properties = "notification.flush-interval-ms=3600000")
+class NotificationServiceTest {
+
+    @Autowired
+    NotificationService notificationService;
+
+    @Autowired
+    UserRepository userRepository;
+
+    @Autowired
+    PlatformTransactionManager transactionManager;
+
+    @MockitoSpyBean
+    NotificationHub notificationHub;
+
+    @Test
+    void SSE로_보내는_알림에_알림함과_같은_ID를_담는다() {
+        User user = userRepository.save(User.createUser("notification-id@sikgu.com", "password", Role.USER));
+
+        notificationService.onSubscriptionChanged(new SubscriptionChangedEvent(user.getId(), 1L, "SUCCESS"));
+        notificationService.onSubscriptionChanged(new SubscriptionChangedEvent(user.getId(), 1L, "PAYMENT_DUE"));
+        notificationService.flush();
+
+        ArgumentCaptor<NotificationDto> pushed = ArgumentCaptor.forClass(NotificationDto.class);
+        verify(notificationHub, atLeastOnce()).publish(eq(user.getId()), pushed.capture());
+
+        List<NotificationDto> inbox = notificationService.getInbox(user.getEmail(), null, null);
+        assertThat(pushed.getAllValues()).extracting(NotificationDto::getId)
+                .doesNotContainNull()
+                .containsExactlyInAnyOrderElementsOf(inbox.stream().map(NotificationDto::getId).toList());
+    }
+
+    @Test
+    void 이벤트를_발행한_트랜잭션과_함께_알림함에_저장되거나_롤백된다() {
+        User user = userRepository.save(User.createUser("notification-tx@sikgu.com", "password", Role.USER));
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+
+        transaction.executeWithoutResult(status -> {
+            notificationService.onSubscriptionChanged(new SubscriptionChangedEvent(user.getId(), 1L, "SUCCESS"));
+            status.setRollbackOnly();
+        });
+        assertThat(notificationService.getInbox(user.getEmail(), null, null)).isEmpty();
+        verify(notificationHub, never()).publish(eq(user.getId()), any());
+
+        transaction.executeWithoutResult(status -> {
+            notificationService.onSubscriptionChanged(new SubscriptionChangedEvent(user.getId(), 1L, "SUCCESS"));
+            notificationService.onSubscriptionChanged(new SubscriptionChangedEvent(user.getId(), 1L, "PAYMENT_DUE"));
+
+            // 커밋 전에는 SSE 대기열에 넣지 않음
+            verify(notificationHub, never()).publish(eq(user.getId()), any());
+        });
+
+        // 커밋과 함께 알림함에 저장되고, flush를 기다리지 않고 SSE 대기열에 들어감
+        assertThat(notificationService.getInbox(user.getEmail(), null, null)).hasSize(2);
+        ArgumentCaptor<NotificationDto> pushed = ArgumentCaptor.forClass(NotificationDto.class);
+        verify(notificationHub, atLeastOnce()).publish(eq(user.getId()), pushed.capture());
+        assertThat(pushed.getAllValues()).hasSize(2);
+    }
+}
@@ -0,0 +1,90 @@
+package com.sikgu.sikgubackend.service;
+
+import com.sikgu.sikgubackend.dto.PlantRatingDto;
+import com.sikgu.sikgubackend.dto.ReviewDto;
+import com.sikgu.sikgubackend.dto.ReviewRequest;
+import com.sikgu.sikgubackend.entity.Plant;
+import com.sikgu.sikgubackend.entity.User;
+import com.sikgu.sikgubackend.entity.enums.PlantCondition;
+import com.sikgu.sikgubackend.entity.enums.Role;
+import com.sikgu.sikgubackend.repository.PlantRepository;
+import com.sikgu.sikgubackend.repository.UserRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+class ReviewConcurrencyTest {
+
+    private static final int THREADS = 4;
+
+    @Autowired
+    ReviewService reviewService;
+
+    @Autowired
+    UserRepository userRepository;
+
+    @Autowired
+    PlantRepository plantRepository;
+
+    @Test
+    void 같은_리뷰를_동시에_삭제해도_집계는_한_번만_감소한다() throws Exception {
+        String email = "concurrent-review@sikgu.com";
+        userRepository.save(User.createUser(email, "password", Role.USER));
+        Plant plant = plantRepository.save(Plant.createPlant("몬스테라", 3000L, 7L,
+                PlantCondition.MEDIUM, PlantCondition.HIGH, PlantCondition.MEDIUM, "주의사항", null, null));
+
+        review(email, plant.getId(), 5);
+        ReviewDto toDelete = review(email, plant.getId(), 1);
+
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>();
+
+        for (int t = 0; t < THREADS; t++) {
+            futures.add(executor.submit(() -> {
+                start.await();
+                reviewService.deleteReview(email, toDelete.getId());
+                return null;
+            }));
+        }
+
+        start.countDown();
+        int succeeded = 0;
+        for (Future<?> future : futures) {
+            try {
+                future.get(60, TimeUnit.SECONDS);
+                succeeded++;
+            } catch (ExecutionException e) {
+                // 늦게 들어온 삭제는 이미 지워진 리뷰로 처리됨
+                assertThat(e.getCause()).isInstanceOf(IllegalArgumentException.class);
+            }
+        }
+        executor.shutdown();
+
+        assertThat(succeeded).isEqualTo(1);
+        PlantRatingDto rating = reviewService.getPlantRating(plant.getId());
+        assertThat(rating.getReviewCount()).isEqualTo(1);
+        assertThat(rating.getAverageRating()).isEqualTo(5.0);
+        assertThat(rating.getHistogram()).containsExactly(0L, 0L, 0L, 0L, 1L);
+    }
+
+    private ReviewDto review(String email, Long plantId, long rating) {
+        ReviewRequest request = new ReviewRequest();
+        request.setPlantId(plantId);
+        request.setRating(rating);
+        request.setContent("잘 자라요");
+        return reviewService.createReview(email, request);
+    }
+}
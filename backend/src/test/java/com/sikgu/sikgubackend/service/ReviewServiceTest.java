@@ -0,0 +1,67 @@
+package com.sikgu.sikgubackend.service;
+
+import com.sikgu.sikgubackend.dto.PlantRatingDto;
+import com.sikgu.sikgubackend.dto.ReviewDto;
+import com.sikgu.sikgubackend.dto.ReviewRequest;
+import com.sikgu.sikgubackend.entity.Plant;
+import com.sikgu.sikgubackend.entity.User;
+import com.sikgu.sikgubackend.entity.enums.PlantCondition;
+import com.sikgu.sikgubackend.entity.enums.Role;
+import com.sikgu.sikgubackend.repository.PlantRepository;
+import com.sikgu.sikgubackend.repository.UserRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@Transactional
+@SpringBootTest
+class ReviewServiceTest {
+
+    @Autowired
+    ReviewService reviewService;
+
+    @Autowired
+    UserRepository userRepository;
+
+    @Autowired
+    PlantRepository plantRepository;
+
+    @Test
+    void 리뷰_등록과_삭제가_집계에_바로_반영된다() {
+        String email = "review@sikgu.com";
+        userRepository.save(User.createUser(email, "password", Role.USER));
+        Plant monstera = plantRepository.save(Plant.createPlant("몬스테라", 3000L, 7L,
+                PlantCondition.MEDIUM, PlantCondition.HIGH, PlantCondition.MEDIUM, "주의사항", null, null));
+        Plant stuckyi = plantRepository.save(Plant.createPlant("스투키", 2000L, 30L,
+                PlantCondition.LOW, PlantCondition.LOW, PlantCondition.MEDIUM, "주의사항", null, null));
+
+        review(email, monstera.getId(), 5);
+        review(email, monstera.getId(), 4);
+        ReviewDto toDelete = review(email, monstera.getId(), 1);
+        review(email, stuckyi.getId(), 3);
+
+        reviewService.deleteReview(email, toDelete.getId());
+
+        PlantRatingDto rating = reviewService.getPlantRating(monstera.getId());
+        assertThat(rating.getReviewCount()).isEqualTo(2);
+        assertThat(rating.getAverageRating()).isEqualTo(4.5);
+        assertThat(rating.getHistogram()).containsExactly(0L, 0L, 0L, 1L, 1L);
+
+        List<PlantRatingDto> topRated = reviewService.getTopRated(10, 1);
+        assertThat(topRated).extracting(PlantRatingDto::getPlantId)
+                .containsSubsequence(monstera.getId(), stuckyi.getId());
+    }
+
+    private ReviewDto review(String email, Long plantId, long rating) {
+        ReviewRequest request = new ReviewRequest();
+        request.setPlantId(plantId);
+        request.setRating(rating);
+        request.setContent("잘 자라요");
+        return reviewService.createReview(email, request);
+    }
+}
@@ -0,0 +1,68 @@
+package com.sikgu.sikgubackend.service;
+
+import com.sikgu.sikgubackend.catalog.PlanCatalog;
+import com.sikgu.sikgubackend.dto.SubscriptionPaymentRequest;
+import com.sikgu.sikgubackend.entity.Subscription;
+import com.sikgu.sikgubackend.entity.User;
+import com.sikgu.sikgubackend.entity.enums.Role;
+import com.sikgu.sikgubackend.payment.PaymentGateway;
+import com.sikgu.sikgubackend.payment.PaymentReceipt;
+import com.sikgu.sikgubackend.repository.UserRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+
+@SpringBootTest
+class SubscriptionServiceTest {
+
+    @Autowired
+    SubscriptionService subscriptionService;
+
+    @Autowired
+    UserRepository userRepository;
+
+    @Autowired
+    PlanCatalog planCatalog;
+
+    @Autowired
+    EntityManagerFactory entityManagerFactory;
+
+    @MockitoBean
+    PaymentGateway paymentGateway;
+
+    @Test
+    void PG_응답을_기다리는_동안_트랜잭션과_DB_커넥션을_잡고_있지_않는다() {
+        String email = "payment-connection@sikgu.com";
+        userRepository.save(User.createUser(email, "password", Role.USER));
+
+        // PG 호출 시점에 호출 스레드에 트랜잭션이나 EntityManager(커넥션)가 묶여 있는지 기록
+        AtomicReference<Boolean> heldDuringCharge = new AtomicReference<>();
+        when(paymentGateway.charge(any())).thenAnswer(invocation -> {
+            heldDuringCharge.set(TransactionSynchronizationManager.isActualTransactionActive()
+                    || TransactionSynchronizationManager.hasResource(entityManagerFactory));
+            return CompletableFuture.completedFuture(new PaymentReceipt("tx-connection", 4900L));
+        });
+
+        SubscriptionPaymentRequest request = new SubscriptionPaymentRequest();
+        request.setPlanId(planCatalog.plans().get(0).getId());
+        request.setCardNumber("1234567812345678");
+        request.setExpiryDate("12/30");
+        request.setCvc("123");
+        request.setCardHolderName("홍길동");
+        Subscription subscription = subscriptionService.createSubscription(email, request);
+
+        assertThat(heldDuringCharge.get()).isFalse();
+        assertThat(subscription.getPaymentStatus()).isEqualTo("SUCCESS");
+        assertThat(subscription.getPaymentTransactionId()).isEqualTo("tx-connection");
+    }
+}
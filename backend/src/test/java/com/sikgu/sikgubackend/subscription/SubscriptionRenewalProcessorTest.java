@@ -0,0 +1,116 @@
+package com.sikgu.sikgubackend.subscription;
+
+import com.sikgu.sikgubackend.catalog.PlanCatalog;
+import com.sikgu.sikgubackend.dto.SubscriptionPaymentRequest;
+import com.sikgu.sikgubackend.entity.Subscription;
+import com.sikgu.sikgubackend.entity.User;
+import com.sikgu.sikgubackend.entity.enums.Role;
+import com.sikgu.sikgubackend.repository.SubscriptionRepository;
+import com.sikgu.sikgubackend.repository.UserRepository;
+import com.sikgu.sikgubackend.service.SubscriptionService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 청크 크기를 작게 잡아 여러 청크를 거치도록 함
+@SpringBootTest(properties = "subscription.renewal.chunk-size=7")
+class SubscriptionRenewalProcessorTest {
+
+    private static final int ACTIVE_COUNT = 20;
+    private static final int CANCELED_COUNT = 10;
+
+    @Autowired
+    SubscriptionRenewalProcessor renewalProcessor;
+
+    @Autowired
+    SubscriptionRepository subscriptionRepository;
+
+    @Autowired
+    UserRepository userRepository;
+
+    @Autowired
+    SubscriptionService subscriptionService;
+
+    @Autowired
+    PlanCatalog planCatalog;
+
+    @Test
+    void 종료된_구독은_결제_대기로_바꾸고_유예_기간이_지나면_만료한다() {
+        List<Subscription> subscriptions = new ArrayList<>();
+        for (int i = 0; i < ACTIVE_COUNT + CANCELED_COUNT; i++) {
+            User user = userRepository.save(User.createUser("renewal" + i + "@sikgu.com", "password", Role.USER));
+            Subscription subscription = Subscription.builder().user(user).planId(1L).paidAmount(4900L).build();
+            if (i >= ACTIVE_COUNT) {
+                subscription.scheduleCancellation();
+            }
+            subscriptions.add(subscription);
+        }
+        List<Subscription> created = subscriptionRepository.saveAll(subscriptions);
+        List<Long> ids = created.stream().map(Subscription::getId).toList();
+
+        // 모든 구독의 종료일(생성 시점 + 1개월)이 지났지만 유예 기간(7일)은 남은 시점
+        LocalDateTime now = LocalDateTime.now().plusMonths(1).plusDays(1);
+        SubscriptionRenewalProcessor.Result result = renewalProcessor.processDue(now);
+
+        assertThat(result.paymentDue()).isEqualTo(ACTIVE_COUNT);
+        assertThat(result.expired()).isEqualTo(CANCELED_COUNT);
+
+        // 결제 없이 기간을 늘리지 않음
+        List<Subscription> saved = subscriptionRepository.findAllById(ids);
+        assertThat(saved).filteredOn(subscription -> "PAYMENT_DUE".equals(subscription.getPaymentStatus()))
+                .hasSize(ACTIVE_COUNT)
+                .allMatch(subscription -> !subscription.getEndDate().isAfter(now));
+        assertThat(saved).filteredOn(subscription -> "EXPIRED".equals(subscription.getPaymentStatus()))
+                .hasSize(CANCELED_COUNT);
+
+        // 재실행 시 변경 없음
+        SubscriptionRenewalProcessor.Result rerun = renewalProcessor.processDue(now);
+        assertThat(rerun.paymentDue()).isZero();
+        assertThat(rerun.expired()).isZero();
+
+        // 유예 기간이 지나면 결제 대기 구독도 만료
+        SubscriptionRenewalProcessor.Result afterGrace = renewalProcessor.processDue(now.plusDays(10));
+        assertThat(afterGrace.expired()).isEqualTo(ACTIVE_COUNT);
+        assertThat(subscriptionRepository.findAllById(ids))
+                .allMatch(subscription -> "EXPIRED".equals(subscription.getPaymentStatus()));
+    }
+
+    @Test
+    void 유예_기간_안에_새로_결제하면_이전_구독은_만료되지_않는다() {
+        String email = "renewal-renewed@sikgu.com";
+        User user = userRepository.save(User.createUser(email, "password", Role.USER));
+        Subscription previous = subscriptionRepository.save(
+                Subscription.builder().user(user).planId(1L).paidAmount(4900L).build());
+
+        LocalDateTime now = LocalDateTime.now().plusMonths(1).plusDays(1);
+        renewalProcessor.processDue(now);
+        assertThat(subscriptionRepository.findById(previous.getId()))
+                .get()
+                .extracting(Subscription::getPaymentStatus)
+                .isEqualTo("PAYMENT_DUE");
+
+        SubscriptionPaymentRequest request = new SubscriptionPaymentRequest();
+        request.setPlanId(planCatalog.plans().get(0).getId());
+        request.setCardNumber("1234567812345678");
+        request.setExpiryDate("12/30");
+        request.setCvc("123");
+        request.setCardHolderName("홍길동");
+        Subscription renewed = subscriptionService.createSubscription(email, request);
+
+        // 유예 기간이 지나도 이전 구독은 갱신 완료 상태로 남음 (종료 알림 없음)
+        renewalProcessor.processDue(now.plusDays(10));
+        assertThat(subscriptionRepository.findById(previous.getId()))
+                .get()
+                .extracting(Subscription::getPaymentStatus)
+                .isEqualTo("RENEWED");
+
+        // 다른 테스트의 처리 건수에 섞이지 않도록 정리
+        subscriptionRepository.deleteAllById(List.of(previous.getId(), renewed.getId()));
+    }
+}